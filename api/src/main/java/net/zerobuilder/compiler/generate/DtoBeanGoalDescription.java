@@ -4,12 +4,16 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.TypeName;
 import net.zerobuilder.compiler.generate.DtoBeanParameter.AbstractBeanParameter;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.BeanGoalDetails;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
+import static net.zerobuilder.compiler.generate.ZeroUtil.concat;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
 import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 
@@ -33,12 +37,31 @@ public final class DtoBeanGoalDescription {
       this.details = details;
       this.parameters = parameters;
       this.thrownTypes = thrownTypes;
-      this.beanField = beanField(details.goalType);
+      this.beanField = beanField(details);
     }
 
-    private static FieldSpec beanField(ClassName type) {
+    /**
+     * A recycled builder or updater sets this field to {@code null} when it is finished,
+     * so that it does not keep the last bean reachable.
+     */
+    private static FieldSpec beanField(BeanGoalDetails details) {
+      ClassName type = details.goalType;
       String name = downcase(type.simpleName());
-      return fieldSpec(type, name, PRIVATE, FINAL);
+      return details.lifecycle.recycles() ?
+          fieldSpec(type, name, PRIVATE) :
+          fieldSpec(type, name, PRIVATE, FINAL);
+    }
+
+    /**
+     * @param implType a nested class of {@link DtoContext.GoalContext#generatedType}
+     * @return the static fields that hold the recycled instances of {@code implType}
+     */
+    public List<FieldSpec> cacheFields(ClassName implType) {
+      ContextLifecycle lifecycle = details.lifecycle;
+      return lifecycle.recycles() ?
+          concat(singletonList(details.context.cache(implType, lifecycle)),
+              details.context.counters(implType, lifecycle)) :
+          emptyList();
     }
 
     public static BeanGoalDescription create(BeanGoalDetails details, List<AbstractBeanParameter> parameters,
@@ -1,17 +1,24 @@
 package net.zerobuilder.compiler.generate;
 
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 import static com.squareup.javapoet.ClassName.OBJECT;
+import static com.squareup.javapoet.WildcardTypeName.subtypeOf;
 import static net.zerobuilder.compiler.generate.ZeroUtil.*;
 
 public final class DtoBeanParameter {
 
+  private static final ClassName COLLECTION = ClassName.get(Collection.class);
+
   interface BeanParameterCases<R> {
     R accessorPair(AccessorPair pair);
 
@@ -136,6 +143,28 @@ public final class DtoBeanParameter {
       return parameterSpec(iterationVar.type, distinctFrom(iterationVar.name, avoid.name));
     }
 
+    /**
+     * Invokes {@code addAll} if possible, so that the target collection can
+     * grow in one step. Plain iterables are copied one by one.
+     *
+     * @param collection the collection returned by the getter
+     * @param source     the iterable that's passed to the step
+     * @return code that adds the contents of {@code source} to {@code collection}
+     */
+    public CodeBlock addAll(ParameterSpec collection, ParameterSpec source) {
+      ParameterSpec var = iterationVar(source);
+      return CodeBlock.builder()
+          .beginControlFlow("if ($N instanceof $T)", source, COLLECTION)
+          .addStatement("$N.addAll(($T) $N)", collection,
+              ParameterizedTypeName.get(COLLECTION, subtypeOf(iterationType())), source)
+          .nextControlFlow("else")
+          .beginControlFlow("for ($T $N : $N)", var.type, var, source)
+          .addStatement("$N.add($N)", collection, var)
+          .endControlFlow()
+          .endControlFlow()
+          .build();
+    }
+
     private LoneGetter(TypeName type, String getter, ParameterSpec iterationVar,
                        List<TypeName> getterThrownTypes) {
       super(type, getter, getterThrownTypes);
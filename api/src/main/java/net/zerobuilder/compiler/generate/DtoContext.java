@@ -1,29 +1,79 @@
 package net.zerobuilder.compiler.generate;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 
+import javax.lang.model.element.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.anonymousClassBuilder;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.ClassNames.ATOMIC_REFERENCE_ARRAY;
 import static net.zerobuilder.compiler.generate.ZeroUtil.ClassNames.THREAD_LOCAL;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
 import static net.zerobuilder.compiler.generate.ZeroUtil.memoize;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 
 public final class DtoContext {
 
   public enum ContextLifecycle {
-    REUSE_INSTANCES, NEW_INSTANCE;
+    REUSE_INSTANCES, POOL_INSTANCES, SHARED_INSTANCES, COUNTED_SHARED_INSTANCES, NEW_INSTANCE;
+
+    public boolean recycles() {
+      return this != NEW_INSTANCE;
+    }
+
+    /**
+     * @return {@code true} if the instances are kept in an array that is shared by all threads
+     */
+    public boolean pools() {
+      return this == POOL_INSTANCES || shares();
+    }
+
+    /**
+     * @return {@code true} if an instance may be taken from any slot of the array,
+     * not only from the slot of the current thread
+     */
+    public boolean shares() {
+      return this == SHARED_INSTANCES || this == COUNTED_SHARED_INSTANCES;
+    }
+
+    /**
+     * @return {@code true} if hits and misses of the pool are counted
+     */
+    public boolean counts() {
+      return this == COUNTED_SHARED_INSTANCES;
+    }
   }
 
+  /**
+   * Number of slots in a striped pool; must be a power of two.
+   */
+  private static final int POOL_SIZE = 16;
+
+  private static final String HITS = "Hits";
+  private static final String MISSES = "Misses";
+  private static final String RETURNED = "Returned";
+  private static final String DROPPED = "Dropped";
+
   public static final class GoalContext {
 
     /**
@@ -64,6 +114,172 @@ public final class DtoContext {
     public FieldSpec cache(ClassName className) {
       return cache(className.simpleName());
     }
+
+    /**
+     * For a class that has no state, so one instance can be shared by all threads.
+     *
+     * @param className a nested class of {@link #generatedType}
+     * @return a static final field that holds the only instance
+     */
+    public FieldSpec singleton(ClassName className) {
+      return FieldSpec.builder(className, downcase(className.simpleName()))
+          .initializer("new $T()", className)
+          .addModifiers(PRIVATE, STATIC, FINAL)
+          .build();
+    }
+
+    /**
+     * @param className name of a nested class of {@link #generatedType}
+     * @param lifecycle a lifecycle that {@link ContextLifecycle#recycles() recycles}
+     * @return a {@link ThreadLocal} or a pool field
+     */
+    public FieldSpec cache(String className, ContextLifecycle lifecycle) {
+      return lifecycle.pools() ?
+          pool(className) :
+          cache(className);
+    }
+
+    public FieldSpec cache(ClassName className, ContextLifecycle lifecycle) {
+      return cache(className.simpleName(), lifecycle);
+    }
+
+    private FieldSpec pool(String className) {
+      ClassName cachedClass = generatedType.nestedClass(className);
+      ParameterizedTypeName type = ParameterizedTypeName.get(ATOMIC_REFERENCE_ARRAY,
+          cachedClass);
+      return FieldSpec.builder(type, downcase(className))
+          .initializer("new $T($L)", type, POOL_SIZE)
+          .addModifiers(PRIVATE, STATIC, FINAL)
+          .build();
+    }
+
+    /**
+     * Take an instance from the pool, or create a new one.
+     *
+     * @param var       the variable to declare
+     * @param lifecycle a lifecycle that {@link ContextLifecycle#pools() pools}
+     * @return a code block that declares {@code var}
+     */
+    public CodeBlock poll(ParameterSpec var, ContextLifecycle lifecycle) {
+      String className = rawClassName(var.type).simpleName();
+      FieldSpec pool = pool(className);
+      if (!lifecycle.shares()) {
+        return CodeBlock.builder()
+            .addStatement("$T $N = $N.getAndSet($L, null)", var.type, var, pool, poolSlot())
+            .beginControlFlow("if ($N == null)", var)
+            .addStatement("$N = new $T()", var, var.type)
+            .endControlFlow()
+            .build();
+      }
+      CodeBlock.Builder builder = CodeBlock.builder()
+          .addStatement("$T $N = null", var.type, var)
+          .addStatement("int _slot = $L", poolSlot())
+          .beginControlFlow("for (int _probe = 0; _probe < $L; _probe++)", POOL_SIZE)
+          .addStatement("int _index = (_slot + _probe) & $L", POOL_SIZE - 1)
+          .beginControlFlow("if ($N.get(_index) != null && ($N = $N.getAndSet(_index, null)) != null)",
+              pool, var, pool)
+          .addStatement("break")
+          .endControlFlow()
+          .endControlFlow()
+          .beginControlFlow("if ($N == null)", var)
+          .addStatement("$N = new $T()", var, var.type);
+      if (lifecycle.counts()) {
+        builder.addStatement("$N.increment()", counter(className, MISSES))
+            .nextControlFlow("else")
+            .addStatement("$N.increment()", counter(className, HITS));
+      }
+      return builder.endControlFlow().build();
+    }
+
+    /**
+     * Return {@code this} to the pool,
+     * unless there is no free slot.
+     *
+     * @param className name of a nested class of {@link #generatedType}
+     * @param lifecycle a lifecycle that {@link ContextLifecycle#pools() pools}
+     * @return a code block
+     */
+    public CodeBlock offer(ClassName className, ContextLifecycle lifecycle) {
+      FieldSpec pool = pool(className.simpleName());
+      if (!lifecycle.shares()) {
+        return statement("$N.compareAndSet($L, null, this)", pool, poolSlot());
+      }
+      CodeBlock.Builder builder = CodeBlock.builder()
+          .addStatement("int _slot = $L", poolSlot())
+          .addStatement("int _probe = 0")
+          .beginControlFlow("for (; _probe < $L; _probe++)", POOL_SIZE)
+          .addStatement("int _index = (_slot + _probe) & $L", POOL_SIZE - 1)
+          .beginControlFlow("if ($N.get(_index) == null && $N.compareAndSet(_index, null, this))",
+              pool, pool)
+          .addStatement("break")
+          .endControlFlow()
+          .endControlFlow();
+      if (lifecycle.counts()) {
+        builder.beginControlFlow("if (_probe == $L)", POOL_SIZE)
+            .addStatement("$N.increment()", counter(className.simpleName(), DROPPED))
+            .nextControlFlow("else")
+            .addStatement("$N.increment()", counter(className.simpleName(), RETURNED))
+            .endControlFlow();
+      }
+      return builder.build();
+    }
+
+    /**
+     * @param className name of a nested class of {@link #generatedType}
+     * @param lifecycle any lifecycle
+     * @return the counter fields of the pool, if it {@link ContextLifecycle#counts() counts}
+     */
+    public List<FieldSpec> counters(ClassName className, ContextLifecycle lifecycle) {
+      if (!lifecycle.counts()) {
+        return emptyList();
+      }
+      return Stream.of(HITS, MISSES, RETURNED, DROPPED)
+          .map(counter -> counter(className.simpleName(), counter))
+          .collect(toList());
+    }
+
+    /**
+     * A method that reads the counters of the pool.
+     * The result has the keys {@code hits}, {@code misses}, {@code returned},
+     * {@code dropped} and {@code abandoned}.
+     * {@code abandoned} is the number of instances that were taken from the pool,
+     * or created, but never returned; this includes the instances that are currently in use.
+     *
+     * @param methodName name of the method
+     * @param className  name of a nested class of {@link #generatedType}
+     * @param modifiers  method modifiers
+     * @return a static method
+     */
+    public MethodSpec poolStats(String methodName, ClassName className, Modifier... modifiers) {
+      String name = className.simpleName();
+      ParameterizedTypeName type = ParameterizedTypeName.get(Map.class, String.class, Long.class);
+      return methodBuilder(methodName)
+          .addModifiers(modifiers)
+          .returns(type)
+          .addStatement("long hits = $N.sum()", counter(name, HITS))
+          .addStatement("long misses = $N.sum()", counter(name, MISSES))
+          .addStatement("long returned = $N.sum()", counter(name, RETURNED))
+          .addStatement("long dropped = $N.sum()", counter(name, DROPPED))
+          .addStatement("$T stats = new $T<>()", type, LinkedHashMap.class)
+          .addStatement("stats.put($S, hits)", "hits")
+          .addStatement("stats.put($S, misses)", "misses")
+          .addStatement("stats.put($S, returned)", "returned")
+          .addStatement("stats.put($S, dropped)", "dropped")
+          .addStatement("stats.put($S, hits + misses - returned - dropped)", "abandoned")
+          .addStatement("return stats")
+          .build();
+    }
+
+    private static FieldSpec counter(String className, String counter) {
+      return FieldSpec.builder(LongAdder.class, downcase(className) + counter)
+          .initializer("new $T()", LongAdder.class)
+          .addModifiers(PRIVATE, STATIC, FINAL)
+          .build();
+    }
+
+    private static CodeBlock poolSlot() {
+      return CodeBlock.of("(int) $T.currentThread().getId() & $L", Thread.class, POOL_SIZE - 1);
+    }
   }
 
   /**
@@ -229,11 +229,33 @@ public final class DtoGoalDetails {
     public final String name;
     public final Access access;
     public final DtoContext.GoalContext context;
+    public final ContextLifecycle lifecycle;
+
+    /**
+     * If {@code true}, a recycled builder or updater creates the next bean
+     * as soon as the current one is finished.
+     */
+    public final boolean prefetch;
+
+    /**
+     * If {@code true}, the updater changes the bean that it is given,
+     * instead of a copy.
+     */
+    public final boolean inPlace;
+
     public BeanGoalDetails(ClassName goalType, String name, Access access, DtoContext.GoalContext context) {
+      this(goalType, name, access, context, ContextLifecycle.NEW_INSTANCE, false, false);
+    }
+
+    public BeanGoalDetails(ClassName goalType, String name, Access access, DtoContext.GoalContext context,
+                           ContextLifecycle lifecycle, boolean prefetch, boolean inPlace) {
       this.name = name;
       this.access = access;
       this.goalType = goalType;
       this.context = context;
+      this.lifecycle = lifecycle;
+      this.prefetch = prefetch;
+      this.inPlace = inPlace;
     }
 
     public Modifier[] access(Modifier modifiers) {
@@ -6,10 +6,13 @@ import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
+
 public final class DtoModuleOutput {
 
   public static final class ModuleOutput {
     private final BuilderMethod method;
+    private final List<BuilderMethod> extraMethods;
     private final List<TypeSpec> typeSpecs;
     private final List<FieldSpec> cacheFields;
 
@@ -17,6 +20,10 @@ public final class DtoModuleOutput {
       return method;
     }
 
+    final List<BuilderMethod> extraMethods() {
+      return extraMethods;
+    }
+
     final List<TypeSpec> typeSpecs() {
       return typeSpecs;
     }
@@ -28,7 +35,18 @@ public final class DtoModuleOutput {
     public ModuleOutput(BuilderMethod method,
                         List<TypeSpec> typeSpecs,
                         List<FieldSpec> cacheFields) {
+      this(method, emptyList(), typeSpecs, cacheFields);
+    }
+
+    /**
+     * @param extraMethods more methods that belong to the same goal
+     */
+    public ModuleOutput(BuilderMethod method,
+                        List<BuilderMethod> extraMethods,
+                        List<TypeSpec> typeSpecs,
+                        List<FieldSpec> cacheFields) {
       this.method = method;
+      this.extraMethods = extraMethods;
       this.typeSpecs = typeSpecs;
       this.cacheFields = cacheFields;
     }
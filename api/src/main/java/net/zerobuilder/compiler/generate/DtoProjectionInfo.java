@@ -1,5 +1,7 @@
 package net.zerobuilder.compiler.generate;
 
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
 
 import java.util.List;
@@ -79,6 +81,27 @@ public final class DtoProjectionInfo {
           projection -> projection.thrownTypes,
           projection -> emptyList());
 
+  private static final ProjectionInfoCases<CodeBlock, ParameterSpec, Void> readProjection =
+      new ProjectionInfoCases<CodeBlock, ParameterSpec, Void>() {
+        @Override
+        public CodeBlock projectionMethod(ProjectionMethod projection, ParameterSpec instance, Void _null) {
+          return CodeBlock.of("$N.$N()", instance, projection.methodName);
+        }
+        @Override
+        public CodeBlock fieldAccess(FieldAccess projection, ParameterSpec instance, Void _null) {
+          return CodeBlock.of("$N.$N", instance, projection.fieldName);
+        }
+      };
+
+  /**
+   * @param projection a projection
+   * @param instance   a variable that holds an instance of the goal type
+   * @return code that reads the projected value from {@code instance}
+   */
+  public static CodeBlock readProjection(ProjectionInfo projection, ParameterSpec instance) {
+    return projection.accept(readProjection, instance, null);
+  }
+
   private DtoProjectionInfo() {
     throw new UnsupportedOperationException("no instances");
   }
@@ -1,18 +1,39 @@
 package net.zerobuilder.compiler.generate;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
 import net.zerobuilder.compiler.generate.DtoContext.GoalContext;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
 import net.zerobuilder.compiler.generate.DtoRegularParameter.AbstractRegularParameter;
 import net.zerobuilder.compiler.generate.DtoRegularParameter.ProjectedParameter;
 import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.NEW_INSTANCE;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
 import static net.zerobuilder.compiler.generate.ZeroUtil.applyRanking;
+import static net.zerobuilder.compiler.generate.ZeroUtil.concat;
 import static net.zerobuilder.compiler.generate.ZeroUtil.createRanking;
+import static net.zerobuilder.compiler.generate.ZeroUtil.distinctFrom;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
 import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 
 public final class DtoRegularGoalDescription {
 
@@ -34,6 +55,24 @@ public final class DtoRegularGoalDescription {
     public final AbstractRegularDetails details;
     public final List<TypeName> thrownTypes;
 
+    /**
+     * If {@code true}, the builder module also generates a method
+     * that builds one goal per index of its array parameters.
+     */
+    public final boolean batch;
+
+    /**
+     * If {@code true}, the builder module also generates a method
+     * that returns a {@link java.util.function.Function} which invokes the goal.
+     */
+    public final boolean function;
+
+    /**
+     * Either empty, or the step type for each parameter, in step order.
+     * If not empty, the step types may be shared with other goals of the same type.
+     */
+    public final List<ClassName> stepTypes;
+
     public final <E> List<E> unshuffle(List<E> shuffled) {
       return applyRanking(ranking, shuffled);
     }
@@ -46,12 +85,55 @@ public final class DtoRegularGoalDescription {
           .collect(joinCodeBlocks(", "));
     }
 
+    /**
+     * The impl of a static or constructor goal with only one parameter has no fields,
+     * so a single instance can be shared, and it doesn't need to be recycled.
+     *
+     * @return {@code true} if the impl has no state
+     */
+    public boolean stateless() {
+      return !isInstance.apply(details) && parameters.size() == 1;
+    }
+
+    /**
+     * @return the lifecycle of the impl, which is {@link ContextLifecycle#NEW_INSTANCE}
+     * if it is {@link #stateless()}
+     */
+    public ContextLifecycle implLifecycle() {
+      return stateless() ? NEW_INSTANCE : details.lifecycle;
+    }
+
+    /**
+     * A stateless impl is a singleton. It still gets the counters if pool stats are requested,
+     * so that the stats method exists, but they stay at zero.
+     *
+     * @param implType a nested class of {@link GoalContext#generatedType}
+     * @return the static fields that hold the instances of {@code implType}
+     */
+    public List<FieldSpec> cacheFields(ClassName implType) {
+      ContextLifecycle lifecycle = details.lifecycle;
+      if (stateless()) {
+        return concat(singletonList(context.singleton(implType)),
+            context.counters(implType, lifecycle));
+      }
+      return lifecycle.recycles() ?
+          concat(singletonList(context.cache(implType, lifecycle)),
+              context.counters(implType, lifecycle)) :
+          emptyList();
+    }
+
     private SimpleRegularGoalDescription(AbstractRegularDetails details,
                                          List<TypeName> thrownTypes,
                                          List<SimpleParameter> parameters,
                                          GoalContext context,
-                                         int[] ranking) {
+                                         int[] ranking,
+                                         boolean batch,
+                                         boolean function,
+                                         List<ClassName> stepTypes) {
       this.details = details;
+      this.batch = batch;
+      this.function = function;
+      this.stepTypes = stepTypes;
       this.thrownTypes = thrownTypes;
       this.ranking = ranking;
       this.parameters = parameters;
@@ -62,9 +144,36 @@ public final class DtoRegularGoalDescription {
                                                       List<TypeName> thrownTypes,
                                                       List<SimpleParameter> parameters,
                                                       GoalContext context) {
+      return create(details, thrownTypes, parameters, context, false, false);
+    }
+
+    /**
+     * @param batch    see {@link #batch}
+     * @param function see {@link #function}
+     */
+    public static SimpleRegularGoalDescription create(AbstractRegularDetails details,
+                                                      List<TypeName> thrownTypes,
+                                                      List<SimpleParameter> parameters,
+                                                      GoalContext context,
+                                                      boolean batch,
+                                                      boolean function) {
       checkParameterNames(details.parameterNames, parameters);
       int[] ranking = createUnshuffle(parameters, details.parameterNames);
-      return new SimpleRegularGoalDescription(details, thrownTypes, parameters, context, ranking);
+      return new SimpleRegularGoalDescription(details, thrownTypes, parameters, context, ranking, batch, function,
+          emptyList());
+    }
+
+    /**
+     * @param stepTypes see {@link #stepTypes}
+     * @return a copy of this description with the given step types
+     * @throws IllegalArgumentException if there is not exactly one step type per parameter
+     */
+    public SimpleRegularGoalDescription withStepTypes(List<ClassName> stepTypes) {
+      if (stepTypes.size() != parameters.size()) {
+        throw new IllegalArgumentException("step types mismatch");
+      }
+      return new SimpleRegularGoalDescription(details, thrownTypes, parameters, context, ranking, batch, function,
+          stepTypes);
     }
   }
 
@@ -72,26 +181,209 @@ public final class DtoRegularGoalDescription {
    * Describes of a goal that represents either a static method or an instance method, or a constructor.
    */
   public static final class ProjectedRegularGoalDescription {
+
+    /**
+     * A lazy updater keeps track of the updated parameters in a {@code long} bit mask.
+     */
+    public static final int LAZY_MAX_PARAMETERS = 64;
+
     public final List<ProjectedParameter> parameters;
     public final AbstractRegularDetails details;
     public final List<TypeName> thrownTypes;
     public final GoalContext context;
 
+    /**
+     * If {@code true}, the projections are not invoked before {@code done()},
+     * and only for the parameters that were not updated.
+     */
+    public final boolean lazy;
+
+    /**
+     * If {@code true}, {@code done()} returns the source object
+     * if no step changed a value.
+     */
+    public final boolean identity;
+
+    /**
+     * For the codec module: the codec goal of each parameter type
+     * that is neither primitive nor {@link String}.
+     */
+    public final Map<TypeName, NestedCodec> nestedCodecs;
+
     private ProjectedRegularGoalDescription(AbstractRegularDetails details,
                                             List<TypeName> thrownTypes,
-                                            List<ProjectedParameter> parameters, GoalContext context) {
+                                            List<ProjectedParameter> parameters, GoalContext context,
+                                            boolean lazy, boolean identity,
+                                            Map<TypeName, NestedCodec> nestedCodecs) {
       this.details = details;
       this.thrownTypes = thrownTypes;
       this.parameters = parameters;
       this.context = context;
+      this.lazy = lazy;
+      this.identity = identity;
+      this.nestedCodecs = nestedCodecs;
     }
 
     public static ProjectedRegularGoalDescription create(AbstractRegularDetails details,
                                                          List<TypeName> thrownTypes,
                                                          List<ProjectedParameter> parameters,
                                                          GoalContext context) {
+      return create(details, thrownTypes, parameters, context, false, false);
+    }
+
+    /**
+     * @param lazy see {@link #lazy}
+     * @param identity see {@link #identity}
+     * @throws IllegalArgumentException if {@code lazy} and there are more than
+     *                                  {@link #LAZY_MAX_PARAMETERS} parameters
+     */
+    public static ProjectedRegularGoalDescription create(AbstractRegularDetails details,
+                                                         List<TypeName> thrownTypes,
+                                                         List<ProjectedParameter> parameters,
+                                                         GoalContext context,
+                                                         boolean lazy,
+                                                         boolean identity) {
       checkParameterNames(details.parameterNames, parameters);
-      return new ProjectedRegularGoalDescription(details, thrownTypes, parameters, context);
+      if (lazy && parameters.size() > LAZY_MAX_PARAMETERS) {
+        throw new IllegalArgumentException("too many parameters");
+      }
+      return new ProjectedRegularGoalDescription(details, thrownTypes, parameters, context, lazy, identity,
+          emptyMap());
+    }
+
+    /**
+     * @param nestedCodecs see {@link #nestedCodecs}
+     * @return a copy of this description with the given nested codecs
+     */
+    public ProjectedRegularGoalDescription withNestedCodecs(Map<TypeName, NestedCodec> nestedCodecs) {
+      return new ProjectedRegularGoalDescription(details, thrownTypes, parameters, context, lazy, identity,
+          nestedCodecs);
+    }
+
+    /**
+     * @return a parameter for an instance of the goal type, named after the type
+     */
+    public ParameterSpec instance() {
+      TypeName type = details.type();
+      return parameterSpec(type, downcase(simpleName(type)));
+    }
+
+    /**
+     * The parameter names are distinct,
+     * so the only possible clash is with the {@link #instance()}.
+     *
+     * @param parameter a parameter of this goal
+     * @return a local variable for the value of {@code parameter}
+     */
+    public ParameterSpec var(ProjectedParameter parameter) {
+      return parameterSpec(parameter.type, distinctFrom(parameter.name, instance().name));
+    }
+
+    /**
+     * @param name the preferred name of a generated variable, for example {@code "_buffer"}
+     * @return a name that is distinct from the parameters, the {@link #instance()}
+     * and the {@link #var(ProjectedParameter) vars}
+     */
+    public String localName(String name) {
+      List<String> names = new ArrayList<>();
+      names.add(instance().name);
+      for (ProjectedParameter parameter : parameters) {
+        names.add(parameter.name);
+        names.add(var(parameter).name);
+      }
+      return distinctFrom(name, names);
+    }
+
+    /**
+     * @param suffix for example {@code "Encode"}
+     * @return the name of a generated method of this goal
+     */
+    public String methodName(String suffix) {
+      return details.name() + suffix;
+    }
+
+    /**
+     * @return code that invokes the goal with its parameters
+     * @throws IllegalStateException if the goal is an instance method
+     */
+    public CodeBlock invocation() {
+      return invocation.apply(details, this);
+    }
+
+    /**
+     * @return the checked exceptions of the projections and the nested encoders
+     */
+    public Set<TypeName> encoderThrownTypes() {
+      Set<TypeName> thrown = new LinkedHashSet<>();
+      for (ProjectedParameter parameter : parameters) {
+        thrown.addAll(DtoProjectionInfo.thrownTypes.apply(parameter.projectionInfo));
+        NestedCodec nested = nestedCodecs.get(parameter.type);
+        if (nested != null) {
+          thrown.addAll(nested.encodeThrownTypes);
+        }
+      }
+      return thrown;
+    }
+
+    /**
+     * @return the checked exceptions of the goal and the nested decoders
+     */
+    public Set<TypeName> decoderThrownTypes() {
+      Set<TypeName> thrown = new LinkedHashSet<>(thrownTypes);
+      for (ProjectedParameter parameter : parameters) {
+        NestedCodec nested = nestedCodecs.get(parameter.type);
+        if (nested != null) {
+          thrown.addAll(nested.decodeThrownTypes);
+        }
+      }
+      return thrown;
+    }
+
+    private static final BiFunction<AbstractRegularDetails, ProjectedRegularGoalDescription, CodeBlock> invocation =
+        regularDetailsCases(
+            (constructor, description) -> CodeBlock.of("new $T($L)",
+                constructor.goalType, constructor.invocationParameters()),
+            (staticMethod, description) -> CodeBlock.of("$T.$N($L)",
+                rawClassName(description.context.type), staticMethod.methodName,
+                staticMethod.invocationParameters()),
+            (instanceMethod, description) -> {
+              throw new IllegalStateException("instance method: " + instanceMethod.name());
+            });
+  }
+
+  /**
+   * The codec goal of another type.
+   */
+  public static final class NestedCodec {
+
+    /**
+     * The type that contains the codec methods
+     */
+    public final ClassName generatedType;
+
+    public final String goalName;
+
+    /**
+     * Checked exceptions of the encoder, including those of its own nested codecs
+     */
+    public final List<TypeName> encodeThrownTypes;
+
+    /**
+     * Checked exceptions of the decoder, including those of its own nested codecs
+     */
+    public final List<TypeName> decodeThrownTypes;
+
+    private NestedCodec(ClassName generatedType, String goalName,
+                        List<TypeName> encodeThrownTypes, List<TypeName> decodeThrownTypes) {
+      this.generatedType = generatedType;
+      this.goalName = goalName;
+      this.encodeThrownTypes = encodeThrownTypes;
+      this.decodeThrownTypes = decodeThrownTypes;
+    }
+
+    public static NestedCodec create(ClassName generatedType, String goalName,
+                                     List<TypeName> encodeThrownTypes, List<TypeName> decodeThrownTypes) {
+      return new NestedCodec(generatedType, goalName, encodeThrownTypes, decodeThrownTypes);
     }
   }
 
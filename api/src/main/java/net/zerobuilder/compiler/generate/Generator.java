@@ -8,19 +8,40 @@ import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoGeneratorOutput.GeneratorOutput;
 import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collector;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
 import static net.zerobuilder.compiler.generate.DtoGeneratorInput.goalInputCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.concat;
 import static net.zerobuilder.compiler.generate.ZeroUtil.flatList;
 import static net.zerobuilder.compiler.generate.ZeroUtil.listCollector;
 
 public final class Generator {
 
+  /**
+   * Receives the time that a module spent on a goal.
+   */
+  public interface ModuleTimer {
+
+    /**
+     * @param module simple name of the module class
+     * @param goal   goal name
+     * @param steps  number of parameters
+     * @param nanos  time spent in {@code process}
+     */
+    void processed(String module, String goal, int steps, long nanos);
+  }
+
+  private static final ModuleTimer NO_TIMER = (module, goal, steps, nanos) -> {
+  };
+
   /**
    * Entry point for code generation.
    *
@@ -29,6 +50,18 @@ public final class Generator {
    * @throws IllegalArgumentException if input is invalid
    */
   public static GeneratorOutput generate(List<AbstractGoalInput> goals) {
+    return generate(goals, NO_TIMER);
+  }
+
+  /**
+   * Entry point for code generation, with timing.
+   *
+   * @param goals inputs, may not be empty, must all have the same goal context
+   * @param timer called once for each goal that has parameters
+   * @return a GeneratorOutput
+   * @throws IllegalArgumentException if input is invalid
+   */
+  public static GeneratorOutput generate(List<AbstractGoalInput> goals, ModuleTimer timer) {
     if (goals.isEmpty()) {
       throw new IllegalArgumentException("no input");
     }
@@ -41,15 +74,24 @@ public final class Generator {
     }
     return goals.stream()
         .filter(hasParameters::apply)
-        .map(process)
+        .map(goal -> timedProcess(goal, timer))
         .collect(collectOutput(generatedType.iterator().next()));
   }
 
+  private static final Function<AbstractGoalInput, Integer> parameterCount =
+      goalInputCases(
+          projected -> projected.description.parameters.size(),
+          regular -> regular.description.parameters.size(),
+          bean -> bean.description.parameters.size());
+
   private static final Function<AbstractGoalInput, Boolean> hasParameters =
+      goal -> parameterCount.apply(goal) != 0;
+
+  private static final Function<AbstractGoalInput, Object> module =
       goalInputCases(
-          projected -> !projected.description.parameters.isEmpty(),
-          regular -> !regular.description.parameters.isEmpty(),
-          bean -> !bean.description.parameters.isEmpty());
+          projected -> projected.module,
+          regularSimple -> regularSimple.module,
+          bean -> bean.module);
 
   private static Collector<ModuleOutput, List<ModuleOutput>, GeneratorOutput> collectOutput(ClassName generatedType) {
     return listCollector(tmpOutputs ->
@@ -62,14 +104,26 @@ public final class Generator {
 
   private static List<BuilderMethod> methods(List<ModuleOutput> outputs) {
     return outputs.stream()
-        .map(ModuleOutput::method)
-        .collect(toList());
+        .map(output -> concat(singletonList(output.method()), output.extraMethods()))
+        .collect(flatList());
   }
 
+  /**
+   * A helper type that is needed by several goals is defined only once.
+   *
+   * @throws IllegalStateException if two different types have the same name
+   */
   private static List<TypeSpec> types(List<ModuleOutput> outputs) {
-    return outputs.stream()
-        .map(ModuleOutput::typeSpecs)
-        .collect(flatList());
+    Map<String, TypeSpec> types = new LinkedHashMap<>();
+    for (ModuleOutput output : outputs) {
+      for (TypeSpec type : output.typeSpecs()) {
+        TypeSpec previous = types.putIfAbsent(type.name, type);
+        if (previous != null && !previous.equals(type)) {
+          throw new IllegalStateException("type defined twice: " + type.name);
+        }
+      }
+    }
+    return new ArrayList<>(types.values());
   }
 
   private static List<FieldSpec> fields(List<ModuleOutput> outputs) {
@@ -84,6 +138,14 @@ public final class Generator {
           regularSimple -> regularSimple.module.process(regularSimple.description),
           bean -> bean.module.process(bean.description));
 
+  private static ModuleOutput timedProcess(AbstractGoalInput goal, ModuleTimer timer) {
+    long start = System.nanoTime();
+    ModuleOutput output = process.apply(goal);
+    timer.processed(module.apply(goal).getClass().getSimpleName(), output.method().name(),
+        parameterCount.apply(goal), System.nanoTime() - start);
+    return output;
+  }
+
 
   private Generator() {
     throw new UnsupportedOperationException("no instances");
@@ -1,5 +1,6 @@
 package net.zerobuilder.compiler.generate;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -8,6 +9,7 @@ import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -40,6 +43,7 @@ public final class ZeroUtil {
   static final class ClassNames {
 
     static final ClassName THREAD_LOCAL = ClassName.get(ThreadLocal.class);
+    static final ClassName ATOMIC_REFERENCE_ARRAY = ClassName.get(AtomicReferenceArray.class);
 
     private ClassNames() {
       throw new UnsupportedOperationException("no instances");
@@ -86,13 +90,21 @@ public final class ZeroUtil {
     return FieldSpec.builder(type, name, modifiers).build();
   }
 
-  static String distinctFrom(String string, String other) {
+  public static String distinctFrom(String string, String other) {
     if (string.equals(other)) {
       return 'a' + upcase(string);
     }
     return string;
   }
 
+  public static String distinctFrom(String string, Collection<String> others) {
+    String result = string;
+    while (others.contains(result)) {
+      result = 'a' + upcase(result);
+    }
+    return result;
+  }
+
   public static ClassName rawClassName(TypeName typeName) {
     if (typeName instanceof ClassName) {
       return (ClassName) typeName;
@@ -103,6 +115,27 @@ public final class ZeroUtil {
     throw new IllegalArgumentException("not a declared type: " + typeName);
   }
 
+  /**
+   * @param typeName type
+   * @return the erasure of {@code typeName}, as defined in JLS 4.6
+   */
+  public static TypeName erasure(TypeName typeName) {
+    if (typeName instanceof ParameterizedTypeName) {
+      return ((ParameterizedTypeName) typeName).rawType;
+    }
+    if (typeName instanceof TypeVariableName) {
+      List<TypeName> bounds = ((TypeVariableName) typeName).bounds;
+      return bounds.isEmpty() ? TypeName.OBJECT : erasure(bounds.get(0));
+    }
+    if (typeName instanceof WildcardTypeName) {
+      return erasure(((WildcardTypeName) typeName).upperBounds.get(0));
+    }
+    if (typeName instanceof ArrayTypeName) {
+      return ArrayTypeName.of(erasure(((ArrayTypeName) typeName).componentType));
+    }
+    return typeName;
+  }
+
   private static List<TypeName> typeArguments(TypeName typeName) {
     if (typeName instanceof ParameterizedTypeName) {
       return ((ParameterizedTypeName) typeName).typeArguments;
@@ -1,7 +1,9 @@
 package net.zerobuilder.compiler.generate;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
 import org.junit.Test;
 
@@ -11,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static net.zerobuilder.compiler.generate.ZeroUtil.erasure;
 import static net.zerobuilder.compiler.generate.ZeroUtil.extractTypeVars;
 import static net.zerobuilder.compiler.generate.ZeroUtil.references;
 import static org.hamcrest.core.Is.is;
@@ -71,4 +74,15 @@ public class ZeroUtilTest {
     List<TypeVariableName> vars = extractTypeVars(ddabcab);
     assertThat(new HashSet<>(vars), is(new HashSet<>(asList(a, b, c, d))));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testErasure() {
+    TypeVariableName s = TypeVariableName.get("S", String.class);
+    TypeVariableName v = TypeVariableName.get("V", s);
+    assertThat(erasure(K), is(TypeName.OBJECT));
+    assertThat(erasure(v), is(ClassName.get(String.class)));
+    assertThat(erasure(MAP_V_LIST_OF_K), is(ClassName.get(Map.class)));
+    assertThat(erasure(ArrayTypeName.of(LIST_OF_K)), is(ArrayTypeName.of(ClassName.get(List.class))));
+    assertThat(erasure(TypeName.INT), is(TypeName.INT));
+  }
+}
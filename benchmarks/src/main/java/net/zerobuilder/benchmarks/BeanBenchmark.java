@@ -0,0 +1,159 @@
+package net.zerobuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.zerobuilder.benchmarks.CartBeanBuilders.cartBeanBuilder;
+import static net.zerobuilder.benchmarks.CartBeanBuilders.cartBeanUpdater;
+import static net.zerobuilder.benchmarks.InPlaceOrderBeanBuilders.inPlaceOrderBeanUpdater;
+import static net.zerobuilder.benchmarks.OrderBeanBuilders.orderBeanBuilder;
+import static net.zerobuilder.benchmarks.OrderBeanBuilders.orderBeanUpdater;
+import static net.zerobuilder.benchmarks.RecycledOrderBeanBuilders.recycledOrderBeanBuilder;
+import static net.zerobuilder.benchmarks.RecycledOrderBeanBuilders.recycledOrderBeanUpdater;
+
+// bean builders and updaters,
+// against hand-written setter calls
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanBenchmark {
+
+  private String id;
+  private String customer;
+  private int quantity;
+  private long price;
+  private List<String> items;
+
+  private OrderBean orderBean;
+  private CartBean cartBean;
+  private RecycledOrderBean recycledOrderBean;
+  private InPlaceOrderBean inPlaceOrderBean;
+
+  @Setup
+  public void setup() {
+    id = "order-1";
+    customer = "customer-1";
+    quantity = 3;
+    price = 1299L;
+    items = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+    orderBean = setterBaseline();
+    cartBean = cartSetterBaseline();
+    recycledOrderBean = recycledOrderBeanBuilder()
+        .customer(customer)
+        .id(id)
+        .price(price)
+        .quantity(quantity);
+    inPlaceOrderBean = new InPlaceOrderBean();
+    inPlaceOrderBean.setCustomer(customer);
+    inPlaceOrderBean.setId(id);
+    inPlaceOrderBean.setPrice(price);
+    inPlaceOrderBean.setQuantity(quantity);
+  }
+
+  @Benchmark
+  public OrderBean setterBaseline() {
+    OrderBean bean = new OrderBean();
+    bean.setCustomer(customer);
+    bean.setId(id);
+    bean.setPrice(price);
+    bean.setQuantity(quantity);
+    return bean;
+  }
+
+  @Benchmark
+  public OrderBean builder() {
+    return orderBeanBuilder()
+        .customer(customer)
+        .id(id)
+        .price(price)
+        .quantity(quantity);
+  }
+
+  @Benchmark
+  public OrderBean copyBaseline() {
+    OrderBean bean = new OrderBean();
+    bean.setCustomer(orderBean.getCustomer());
+    bean.setId(orderBean.getId());
+    bean.setPrice(orderBean.getPrice());
+    bean.setQuantity(orderBean.getQuantity() + 1);
+    return bean;
+  }
+
+  @Benchmark
+  public OrderBean updater() {
+    return orderBeanUpdater(orderBean)
+        .quantity(orderBean.getQuantity() + 1)
+        .done();
+  }
+
+  @Benchmark
+  public RecycledOrderBean recycledUpdater() {
+    return recycledOrderBeanUpdater(recycledOrderBean)
+        .quantity(recycledOrderBean.getQuantity() + 1)
+        .done();
+  }
+
+  @Benchmark
+  public InPlaceOrderBean inPlaceSetterBaseline() {
+    inPlaceOrderBean.setQuantity(inPlaceOrderBean.getQuantity() + 1);
+    return inPlaceOrderBean;
+  }
+
+  @Benchmark
+  public InPlaceOrderBean inPlaceUpdater() {
+    return inPlaceOrderBeanUpdater(inPlaceOrderBean)
+        .quantity(inPlaceOrderBean.getQuantity() + 1)
+        .done();
+  }
+
+  @Benchmark
+  public CartBean cartSetterBaseline() {
+    CartBean bean = new CartBean();
+    bean.setCustomer(customer);
+    List<String> target = bean.getItems();
+    for (String item : items) {
+      target.add(item);
+    }
+    return bean;
+  }
+
+  @Benchmark
+  public CartBean cartBuilder() {
+    return cartBeanBuilder()
+        .customer(customer)
+        .items(items);
+  }
+
+  @Benchmark
+  public CartBean cartCopyBaseline() {
+    CartBean bean = new CartBean();
+    bean.setCustomer(cartBean.getCustomer());
+    List<String> target = bean.getItems();
+    for (String item : cartBean.getItems()) {
+      target.add(item);
+    }
+    return bean;
+  }
+
+  @Benchmark
+  public CartBean cartUpdater() {
+    return cartBeanUpdater(cartBean)
+        .customer(customer)
+        .done();
+  }
+}
@@ -0,0 +1,29 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.BeanBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// module-builder-beans and module-updater-beans, setterless collection
+@BeanBuilder
+public class CartBean {
+
+  private String customer;
+  private List<String> items;
+
+  public String getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(String customer) {
+    this.customer = customer;
+  }
+
+  public List<String> getItems() {
+    if (items == null) {
+      items = new ArrayList<>();
+    }
+    return items;
+  }
+}
@@ -0,0 +1,21 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Style;
+
+// module-generics, single carrier object
+public final class FlatOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder(style = Style.FLAT)
+  public FlatOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
@@ -0,0 +1,21 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Style;
+
+// module-generics
+public final class ImmutableOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder(style = Style.IMMUTABLE)
+  public ImmutableOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
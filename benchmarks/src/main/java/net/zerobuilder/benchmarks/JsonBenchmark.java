@@ -0,0 +1,116 @@
+package net.zerobuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.zerobuilder.benchmarks.JsonTradeBuilders.jsonTradeBuilder;
+import static net.zerobuilder.benchmarks.JsonTradeBuilders.jsonTradeFromJson;
+import static net.zerobuilder.benchmarks.JsonTradeBuilders.jsonTradeToJson;
+
+// the generated json reader and writer,
+// against a round trip through a generic tree
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  private JsonTrade trade;
+  private String json;
+
+  @Setup
+  public void setup() {
+    trade = jsonTradeBuilder()
+        .id(4711L)
+        .instrument(new JsonInstrument("ACME", 'X'))
+        .price(101.25)
+        .quantity(300)
+        .buy(true)
+        .trader("trader-1");
+    json = jsonTradeToJson(trade);
+    if (!json.equals(treeWrite())) {
+      throw new IllegalStateException(json + " != " + treeWrite());
+    }
+  }
+
+  @Benchmark
+  public String generatedWrite() {
+    return jsonTradeToJson(trade);
+  }
+
+  @Benchmark
+  public String treeWrite() {
+    StringBuilder out = new StringBuilder();
+    TreeJson.write(toTree(trade), out);
+    return out.toString();
+  }
+
+  @Benchmark
+  public JsonTrade generatedRead() {
+    return jsonTradeFromJson(json);
+  }
+
+  @Benchmark
+  public JsonTrade treeRead() {
+    return fromTree(TreeJson.parse(json));
+  }
+
+  @Benchmark
+  public JsonTrade generatedRoundTrip() {
+    return jsonTradeFromJson(jsonTradeToJson(trade));
+  }
+
+  @Benchmark
+  public JsonTrade treeRoundTrip() {
+    StringBuilder out = new StringBuilder();
+    TreeJson.write(toTree(trade), out);
+    return fromTree(TreeJson.parse(out.toString()));
+  }
+
+  private static Map<String, Object> toTree(JsonTrade trade) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("id", trade.id());
+    JsonInstrument instrument = trade.instrument();
+    if (instrument == null) {
+      map.put("instrument", null);
+    } else {
+      Map<String, Object> nested = new LinkedHashMap<>();
+      nested.put("symbol", instrument.symbol);
+      nested.put("venue", String.valueOf(instrument.venue));
+      map.put("instrument", nested);
+    }
+    map.put("price", trade.price());
+    map.put("quantity", trade.quantity());
+    map.put("buy", trade.buy());
+    map.put("trader", trade.trader());
+    return map;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JsonTrade fromTree(Object tree) {
+    Map<String, Object> map = (Map<String, Object>) tree;
+    Map<String, Object> nested = (Map<String, Object>) map.get("instrument");
+    return jsonTradeBuilder()
+        .id(((Number) map.get("id")).longValue())
+        .instrument(nested == null ? null :
+            new JsonInstrument((String) nested.get("symbol"), ((String) nested.get("venue")).charAt(0)))
+        .price(((Number) map.get("price")).doubleValue())
+        .quantity(((Number) map.get("quantity")).intValue())
+        .buy((Boolean) map.get("buy"))
+        .trader((String) map.get("trader"));
+  }
+}
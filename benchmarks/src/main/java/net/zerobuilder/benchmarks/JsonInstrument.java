@@ -0,0 +1,16 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Json;
+
+// module-json, nested in JsonTrade
+public final class JsonInstrument {
+
+  final String symbol;
+  final char venue;
+
+  @Json
+  public JsonInstrument(String symbol, char venue) {
+    this.symbol = symbol;
+    this.venue = venue;
+  }
+}
@@ -0,0 +1,50 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Json;
+
+// module-json, the same shape as the Trade example in examples/basic
+public final class JsonTrade {
+
+  private final long id;
+  private final JsonInstrument instrument;
+  private final double price;
+  private final int quantity;
+  private final boolean buy;
+  private final String trader;
+
+  @Builder
+  @Json
+  public JsonTrade(long id, JsonInstrument instrument, double price, int quantity, boolean buy, String trader) {
+    this.id = id;
+    this.instrument = instrument;
+    this.price = price;
+    this.quantity = quantity;
+    this.buy = buy;
+    this.trader = trader;
+  }
+
+  public long id() {
+    return id;
+  }
+
+  public JsonInstrument instrument() {
+    return instrument;
+  }
+
+  public double price() {
+    return price;
+  }
+
+  public int quantity() {
+    return quantity;
+  }
+
+  public boolean buy() {
+    return buy;
+  }
+
+  public String trader() {
+    return trader;
+  }
+}
@@ -0,0 +1,21 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Style;
+
+// module-builder, final step classes
+public final class MonomorphicOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder(style = Style.MONOMORPHIC)
+  public MonomorphicOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
@@ -0,0 +1,45 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.BeanBuilder;
+
+// module-builder-beans and module-updater-beans, setters only
+@BeanBuilder
+public class OrderBean {
+
+  private String id;
+  private String customer;
+  private int quantity;
+  private long price;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(String customer) {
+    this.customer = customer;
+  }
+
+  public int getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+
+  public long getPrice() {
+    return price;
+  }
+
+  public void setPrice(long price) {
+    this.price = price;
+  }
+}
@@ -0,0 +1,22 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Updater;
+
+// module-builder and module-updater, new instance per call
+public final class PlainOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder
+  @Updater
+  public PlainOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
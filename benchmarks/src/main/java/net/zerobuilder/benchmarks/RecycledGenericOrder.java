@@ -0,0 +1,24 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// module-generics (flat style) and module-updater, with type parameter and recycling
+public final class RecycledGenericOrder<C> {
+
+  final String id;
+  final C customer;
+  final int quantity;
+  final long price;
+
+  @Builder
+  @Updater
+  @Recycle
+  public RecycledGenericOrder(String id, C customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
@@ -0,0 +1,24 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// module-builder and module-updater, recycled instance
+public final class RecycledOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder
+  @Updater
+  @Recycle
+  public RecycledOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
@@ -0,0 +1,47 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.BeanBuilder;
+import net.zerobuilder.Recycle;
+
+// OrderBean with @Recycle: the updater is cached, and still copies the bean
+@BeanBuilder
+@Recycle
+public class RecycledOrderBean {
+
+  private String id;
+  private String customer;
+  private int quantity;
+  private long price;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(String customer) {
+    this.customer = customer;
+  }
+
+  public int getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+
+  public long getPrice() {
+    return price;
+  }
+
+  public void setPrice(long price) {
+    this.price = price;
+  }
+}
@@ -0,0 +1,25 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// module-builder and module-updater, striped pool
+public final class StripedOrder {
+
+  final String id;
+  final String customer;
+  final int quantity;
+  final long price;
+
+  @Builder
+  @Updater
+  @Recycle(Pool.STRIPED)
+  public StripedOrder(String id, String customer, int quantity, long price) {
+    this.id = id;
+    this.customer = customer;
+    this.quantity = quantity;
+    this.price = price;
+  }
+}
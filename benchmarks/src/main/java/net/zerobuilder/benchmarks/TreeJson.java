@@ -0,0 +1,224 @@
+package net.zerobuilder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal generic JSON tree, the baseline for {@link JsonBenchmark}.
+ * Like a typical JSON library, it reads into maps, lists, strings, numbers and booleans,
+ * which are then mapped onto the value type.
+ */
+final class TreeJson {
+
+  private final String json;
+  private int pos;
+
+  private TreeJson(String json) {
+    this.json = json;
+  }
+
+  static Object parse(String json) {
+    TreeJson parser = new TreeJson(json);
+    Object value = parser.value();
+    parser.whitespace();
+    if (parser.pos != json.length()) {
+      throw parser.error("unexpected characters");
+    }
+    return value;
+  }
+
+  static void write(Object value, StringBuilder out) {
+    if (value == null) {
+      out.append("null");
+    } else if (value instanceof String) {
+      writeString((String) value, out);
+    } else if (value instanceof Map) {
+      out.append('{');
+      String separator = "";
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        out.append(separator);
+        writeString((String) entry.getKey(), out);
+        out.append(':');
+        write(entry.getValue(), out);
+        separator = ",";
+      }
+      out.append('}');
+    } else if (value instanceof List) {
+      out.append('[');
+      String separator = "";
+      for (Object element : (List<?>) value) {
+        out.append(separator);
+        write(element, out);
+        separator = ",";
+      }
+      out.append(']');
+    } else {
+      out.append(value);
+    }
+  }
+
+  private static void writeString(String s, StringBuilder out) {
+    out.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.append('\\').append(c);
+      } else if (c < 0x20) {
+        out.append(String.format("\\u%04x", (int) c));
+      } else {
+        out.append(c);
+      }
+    }
+    out.append('"');
+  }
+
+  private Object value() {
+    whitespace();
+    char c = peek();
+    switch (c) {
+      case '{':
+        return object();
+      case '[':
+        return array();
+      case '"':
+        return string();
+      case 't':
+        return literal("true", Boolean.TRUE);
+      case 'f':
+        return literal("false", Boolean.FALSE);
+      case 'n':
+        return literal("null", null);
+      default:
+        return number();
+    }
+  }
+
+  private Map<String, Object> object() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    pos++;
+    whitespace();
+    if (peek() == '}') {
+      pos++;
+      return map;
+    }
+    while (true) {
+      whitespace();
+      String key = string();
+      whitespace();
+      expect(':');
+      map.put(key, value());
+      whitespace();
+      if (peek() == '}') {
+        pos++;
+        return map;
+      }
+      expect(',');
+    }
+  }
+
+  private List<Object> array() {
+    List<Object> list = new ArrayList<>();
+    pos++;
+    whitespace();
+    if (peek() == ']') {
+      pos++;
+      return list;
+    }
+    while (true) {
+      list.add(value());
+      whitespace();
+      if (peek() == ']') {
+        pos++;
+        return list;
+      }
+      expect(',');
+    }
+  }
+
+  private String string() {
+    expect('"');
+    StringBuilder sb = new StringBuilder();
+    while (true) {
+      char c = json.charAt(pos++);
+      if (c == '"') {
+        return sb.toString();
+      }
+      if (c != '\\') {
+        sb.append(c);
+        continue;
+      }
+      c = json.charAt(pos++);
+      switch (c) {
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'u':
+          sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+          pos += 4;
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+  }
+
+  private Object number() {
+    int start = pos;
+    boolean integer = true;
+    while (pos < json.length() && "+-0123456789.eE".indexOf(json.charAt(pos)) >= 0) {
+      integer &= Character.isDigit(json.charAt(pos)) || json.charAt(pos) == '-';
+      pos++;
+    }
+    if (start == pos) {
+      throw error("unexpected character");
+    }
+    String s = json.substring(start, pos);
+    return integer ? (Object) Long.parseLong(s) : (Object) Double.parseDouble(s);
+  }
+
+  private Object literal(String literal, Object value) {
+    if (!json.startsWith(literal, pos)) {
+      throw error("expected " + literal);
+    }
+    pos += literal.length();
+    return value;
+  }
+
+  private void whitespace() {
+    while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+      pos++;
+    }
+  }
+
+  private char peek() {
+    if (pos >= json.length()) {
+      throw error("unexpected end of input");
+    }
+    return json.charAt(pos);
+  }
+
+  private void expect(char c) {
+    if (peek() != c) {
+      throw error("expected '" + c + "'");
+    }
+    pos++;
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException(message + " at index " + pos);
+  }
+}
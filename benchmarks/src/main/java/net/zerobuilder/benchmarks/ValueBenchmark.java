@@ -0,0 +1,208 @@
+package net.zerobuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.zerobuilder.benchmarks.FlatOrderBuilders.flatOrderBuilder;
+import static net.zerobuilder.benchmarks.ImmutableOrderBuilders.immutableOrderBuilder;
+import static net.zerobuilder.benchmarks.MonomorphicOrderBuilders.monomorphicOrderBuilder;
+import static net.zerobuilder.benchmarks.PlainOrderBuilders.plainOrderBuilder;
+import static net.zerobuilder.benchmarks.PlainOrderBuilders.plainOrderUpdater;
+import static net.zerobuilder.benchmarks.RecycledGenericOrderBuilders.recycledGenericOrderBuilder;
+import static net.zerobuilder.benchmarks.RecycledGenericOrderBuilders.recycledGenericOrderUpdater;
+import static net.zerobuilder.benchmarks.RecycledOrderBuilders.recycledOrderBuilder;
+import static net.zerobuilder.benchmarks.RecycledOrderBuilders.recycledOrderUpdater;
+import static net.zerobuilder.benchmarks.SharedOrderBuilders.sharedOrderBuilder;
+import static net.zerobuilder.benchmarks.SharedOrderBuilders.sharedOrderUpdater;
+import static net.zerobuilder.benchmarks.StripedOrderBuilders.stripedOrderBuilder;
+import static net.zerobuilder.benchmarks.StripedOrderBuilders.stripedOrderUpdater;
+
+// builders and updaters of a four-field value type,
+// against the hand-written constructor call
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+
+  private String id;
+  private String customer;
+  private int quantity;
+  private long price;
+
+  private PlainOrder plainOrder;
+  private RecycledOrder recycledOrder;
+  private StripedOrder stripedOrder;
+  private SharedOrder sharedOrder;
+  private RecycledGenericOrder<String> recycledGenericOrder;
+
+  @Setup
+  public void setup() {
+    id = "order-1";
+    customer = "customer-1";
+    quantity = 3;
+    price = 1299L;
+    plainOrder = new PlainOrder(id, customer, quantity, price);
+    recycledOrder = new RecycledOrder(id, customer, quantity, price);
+    stripedOrder = new StripedOrder(id, customer, quantity, price);
+    sharedOrder = new SharedOrder(id, customer, quantity, price);
+    recycledGenericOrder = new RecycledGenericOrder<>(id, customer, quantity, price);
+  }
+
+  @Benchmark
+  public PlainOrder constructorBaseline() {
+    return new PlainOrder(id, customer, quantity, price);
+  }
+
+  @Benchmark
+  public PlainOrder builder() {
+    return plainOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public RecycledOrder recycledBuilder() {
+    return recycledOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public StripedOrder stripedBuilder() {
+    return stripedOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public SharedOrder sharedBuilder() {
+    return sharedOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  // a second build of the same type, while the first one is in progress
+  @Benchmark
+  public RecycledOrder recycledNestedBuilder() {
+    return recycledOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(recycledOrderBuilder()
+            .id(id)
+            .customer(customer)
+            .quantity(quantity)
+            .price(price).quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public SharedOrder sharedNestedBuilder() {
+    return sharedOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(sharedOrderBuilder()
+            .id(id)
+            .customer(customer)
+            .quantity(quantity)
+            .price(price).quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public ImmutableOrder immutableBuilder() {
+    return immutableOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public FlatOrder flatBuilder() {
+    return flatOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public MonomorphicOrder monomorphicBuilder() {
+    return monomorphicOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public RecycledGenericOrder<String> recycledGenericBuilder() {
+    return recycledGenericOrderBuilder()
+        .id(id)
+        .customer(customer)
+        .quantity(quantity)
+        .price(price);
+  }
+
+  @Benchmark
+  public PlainOrder copyBaseline() {
+    PlainOrder order = plainOrder;
+    return new PlainOrder(order.id, order.customer, order.quantity + 1, order.price);
+  }
+
+  @Benchmark
+  public PlainOrder updater() {
+    return plainOrderUpdater(plainOrder)
+        .quantity(plainOrder.quantity + 1)
+        .done();
+  }
+
+  @Benchmark
+  public RecycledOrder recycledUpdater() {
+    return recycledOrderUpdater(recycledOrder)
+        .quantity(recycledOrder.quantity + 1)
+        .done();
+  }
+
+  @Benchmark
+  public StripedOrder stripedUpdater() {
+    return stripedOrderUpdater(stripedOrder)
+        .quantity(stripedOrder.quantity + 1)
+        .done();
+  }
+
+  @Benchmark
+  public SharedOrder sharedUpdater() {
+    return sharedOrderUpdater(sharedOrder)
+        .quantity(sharedOrder.quantity + 1)
+        .done();
+  }
+
+  @Benchmark
+  public RecycledGenericOrder<String> recycledGenericUpdater() {
+    return recycledGenericOrderUpdater(recycledGenericOrder)
+        .quantity(recycledGenericOrder.quantity + 1)
+        .done();
+  }
+}
@@ -0,0 +1,137 @@
+package net.zerobuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.zerobuilder.benchmarks.WideFlatBuilders.wideFlatBuilder;
+import static net.zerobuilder.benchmarks.WideFlatBuilders.wideFlatUpdater;
+import static net.zerobuilder.benchmarks.WideImmutableBuilders.wideImmutableBuilder;
+import static net.zerobuilder.benchmarks.WideMonomorphicBuilders.wideMonomorphicBuilder;
+import static net.zerobuilder.benchmarks.WideImmutableBuilders.wideImmutableUpdater;
+
+// module-generics with twelve parameters:
+// one step object per parameter, against a single carrier object;
+// module-builder with final step classes;
+// module-updater, changing one of twelve properties: eager against lazy
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WideBenchmark {
+
+  private String a;
+  private int b;
+  private String c;
+  private int d;
+  private String e;
+  private int f;
+  private String g;
+  private int h;
+  private String i;
+  private int j;
+  private String k;
+  private int l;
+
+  private WideImmutable wideImmutable;
+  private WideFlat wideFlat;
+
+  @Setup
+  public void setup() {
+    a = "a";
+    b = 1;
+    c = "c";
+    d = 3;
+    e = "e";
+    f = 5;
+    g = "g";
+    h = 7;
+    i = "i";
+    j = 9;
+    k = "k";
+    l = 11;
+    wideImmutable = new WideImmutable(a, b, c, d, e, f, g, h, i, j, k, l);
+    wideFlat = new WideFlat(a, b, c, d, e, f, g, h, i, j, k, l);
+  }
+
+  @Benchmark
+  public WideImmutable constructorBaseline() {
+    return new WideImmutable(a, b, c, d, e, f, g, h, i, j, k, l);
+  }
+
+  @Benchmark
+  public WideImmutable immutableBuilder() {
+    return wideImmutableBuilder()
+        .a(a)
+        .b(b)
+        .c(c)
+        .d(d)
+        .e(e)
+        .f(f)
+        .g(g)
+        .h(h)
+        .i(i)
+        .j(j)
+        .k(k)
+        .l(l);
+  }
+
+  @Benchmark
+  public WideFlat flatBuilder() {
+    return wideFlatBuilder()
+        .a(a)
+        .b(b)
+        .c(c)
+        .d(d)
+        .e(e)
+        .f(f)
+        .g(g)
+        .h(h)
+        .i(i)
+        .j(j)
+        .k(k)
+        .l(l);
+  }
+
+  @Benchmark
+  public WideMonomorphic monomorphicBuilder() {
+    return wideMonomorphicBuilder()
+        .a(a)
+        .b(b)
+        .c(c)
+        .d(d)
+        .e(e)
+        .f(f)
+        .g(g)
+        .h(h)
+        .i(i)
+        .j(j)
+        .k(k)
+        .l(l);
+  }
+
+  @Benchmark
+  public WideImmutable updater() {
+    return wideImmutableUpdater(wideImmutable)
+        .l(wideImmutable.l + 1)
+        .done();
+  }
+
+  @Benchmark
+  public WideFlat lazyUpdater() {
+    return wideFlatUpdater(wideFlat)
+        .l(wideFlat.l + 1)
+        .done();
+  }
+}
@@ -0,0 +1,51 @@
+package net.zerobuilder.benchmarks;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Style;
+import net.zerobuilder.Updater;
+
+// module-generics, twelve parameters
+public final class WideImmutable {
+
+  final String a;
+  final int b;
+  final String c;
+  final int d;
+  final String e;
+  final int f;
+  final String g;
+  final int h;
+  final String i;
+  final int j;
+  final String k;
+  final int l;
+
+  @Builder(style = Style.IMMUTABLE)
+  @Updater
+  public WideImmutable(
+      String a,
+      int b,
+      String c,
+      int d,
+      String e,
+      int f,
+      String g,
+      int h,
+      String i,
+      int j,
+      String k,
+      int l) {
+    this.a = a;
+    this.b = b;
+    this.c = c;
+    this.d = d;
+    this.e = e;
+    this.f = f;
+    this.g = g;
+    this.h = h;
+    this.i = i;
+    this.j = j;
+    this.k = k;
+    this.l = l;
+  }
+}
@@ -0,0 +1,205 @@
+package net.zerobuilder.benchmarks.startup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes the sources of a synthetic corpus:
+ * {@code types} value types, each with {@code goals} goals of {@code parameters} parameters.
+ * The first goal is the constructor, the others are static factory methods.
+ * A generated {@code Main} class invokes every goal once, and prints what it measured.
+ */
+final class Corpus {
+
+  static final String PACKAGE = "corpus";
+  static final String MAIN = PACKAGE + ".Main";
+
+  private static final String[] TYPES = {"String", "int", "long", "double"};
+  private static final String[] VALUES = {"\"s\"", "1", "2L", "3.0"};
+
+  /**
+   * A method can have at most 64k of bytecode.
+   */
+  private static final int CALLS_PER_METHOD = 500;
+
+  private final int types;
+  private final int goals;
+  private final int parameters;
+  private final Strategy strategy;
+
+  Corpus(int types, int goals, int parameters, Strategy strategy) {
+    if (types < 1 || goals < 1 || parameters < 1) {
+      throw new IllegalArgumentException("types, goals and parameters must be positive");
+    }
+    this.types = types;
+    this.goals = goals;
+    this.parameters = parameters;
+    this.strategy = strategy;
+  }
+
+  List<Path> write(Path sourceDir) throws IOException {
+    Path packageDir = Files.createDirectories(sourceDir.resolve(PACKAGE));
+    List<Path> sources = new ArrayList<>(types + 1);
+    for (int t = 0; t < types; t++) {
+      Path source = packageDir.resolve(typeName(t) + ".java");
+      Files.write(source, valueType(t).getBytes(UTF_8));
+      sources.add(source);
+    }
+    Path main = packageDir.resolve("Main.java");
+    Files.write(main, main().getBytes(UTF_8));
+    sources.add(main);
+    return sources;
+  }
+
+  private String valueType(int t) {
+    String name = typeName(t);
+    StringBuilder sb = new StringBuilder();
+    sb.append("package ").append(PACKAGE).append(";\n\n");
+    sb.append("import net.zerobuilder.*;\n\n");
+    sb.append("public final class ").append(name).append(" {\n");
+    for (int i = 0; i < parameters; i++) {
+      sb.append("  final ").append(type(i)).append(' ').append(parameter(0, i)).append(";\n");
+    }
+    sb.append('\n').append(annotations(0, true));
+    sb.append("  public ").append(name).append('(').append(parameterList(0)).append(") {\n");
+    for (int i = 0; i < parameters; i++) {
+      sb.append("    this.").append(parameter(0, i)).append(" = ").append(parameter(0, i)).append(";\n");
+    }
+    sb.append("  }\n");
+    for (int g = 1; g < goals; g++) {
+      sb.append('\n').append(annotations(g, false));
+      sb.append("  public static ").append(name).append(' ').append(goalName(g))
+          .append('(').append(parameterList(g)).append(") {\n");
+      sb.append("    return new ").append(name).append('(');
+      for (int i = 0; i < parameters; i++) {
+        sb.append(i == 0 ? "" : ", ").append(parameter(g, i));
+      }
+      sb.append(");\n  }\n");
+    }
+    sb.append('\n');
+    sb.append("  static long build() {\n");
+    sb.append("    long h = 0;\n");
+    for (int g = 0; g < goals; g++) {
+      sb.append("    h += ").append(name).append("Builders.").append(builderMethod(t, g)).append("()");
+      for (int i = 0; i < parameters; i++) {
+        sb.append('.').append(parameter(g, i)).append('(').append(VALUES[i % VALUES.length]).append(')');
+      }
+      sb.append(".hashCode();\n");
+    }
+    if (strategy.updater) {
+      sb.append("    ").append(name).append(" value = new ").append(name).append('(');
+      for (int i = 0; i < parameters; i++) {
+        sb.append(i == 0 ? "" : ", ").append(VALUES[i % VALUES.length]);
+      }
+      sb.append(");\n");
+      sb.append("    h += ").append(name).append("Builders.").append(lowerFirst(name)).append("Updater(value)")
+          .append('.').append(parameter(0, 0)).append('(').append(VALUES[0]).append(").done().hashCode();\n");
+    }
+    sb.append("    return h;\n");
+    sb.append("  }\n");
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  private String annotations(int g, boolean constructor) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("  @Builder");
+    if (strategy.style != null) {
+      sb.append("(style = Style.").append(strategy.style).append(')');
+    }
+    sb.append('\n');
+    if (!constructor) {
+      sb.append("  @GoalName(\"").append(goalName(g)).append("\")\n");
+    }
+    if (constructor && strategy.updater) {
+      sb.append("  @Updater\n");
+    }
+    if (strategy.recycle) {
+      sb.append("  @Recycle\n");
+    }
+    return sb.toString();
+  }
+
+  private String main() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("package ").append(PACKAGE).append(";\n\n");
+    sb.append("import java.lang.management.ManagementFactory;\n");
+    sb.append("import java.lang.management.MemoryPoolMXBean;\n\n");
+    sb.append("public final class Main {\n\n");
+    sb.append("  public static void main(String[] args) {\n");
+    sb.append("    long start = System.nanoTime();\n");
+    sb.append("    long h = 0;\n");
+    int chunks = (types + CALLS_PER_METHOD - 1) / CALLS_PER_METHOD;
+    for (int c = 0; c < chunks; c++) {
+      sb.append("    h += build").append(c).append("();\n");
+    }
+    sb.append("    long firstBuild = System.nanoTime() - start;\n");
+    sb.append("    long metaspace = 0;\n");
+    sb.append("    long classSpace = 0;\n");
+    sb.append("    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {\n");
+    sb.append("      if (pool.getName().equals(\"Metaspace\")) {\n");
+    sb.append("        metaspace = pool.getUsage().getUsed();\n");
+    sb.append("      } else if (pool.getName().equals(\"Compressed Class Space\")) {\n");
+    sb.append("        classSpace = pool.getUsage().getUsed();\n");
+    sb.append("      }\n");
+    sb.append("    }\n");
+    sb.append("    System.out.println(\"loaded=\" + ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()\n");
+    sb.append("        + \" metaspace=\" + metaspace\n");
+    sb.append("        + \" classSpace=\" + classSpace\n");
+    sb.append("        + \" firstBuild=\" + firstBuild\n");
+    sb.append("        + \" uptime=\" + ManagementFactory.getRuntimeMXBean().getUptime()\n");
+    sb.append("        + \" hash=\" + h);\n");
+    sb.append("  }\n");
+    for (int c = 0; c < chunks; c++) {
+      sb.append("\n  private static long build").append(c).append("() {\n");
+      sb.append("    long h = 0;\n");
+      for (int t = c * CALLS_PER_METHOD; t < Math.min(types, (c + 1) * CALLS_PER_METHOD); t++) {
+        sb.append("    h += ").append(typeName(t)).append(".build();\n");
+      }
+      sb.append("    return h;\n");
+      sb.append("  }\n");
+    }
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  private String parameterList(int g) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < parameters; i++) {
+      sb.append(i == 0 ? "" : ", ").append(type(i)).append(' ').append(parameter(g, i));
+    }
+    return sb.toString();
+  }
+
+  private static String builderMethod(int t, int g) {
+    return g == 0 ? lowerFirst(typeName(t)) + "Builder" : goalName(g) + "Builder";
+  }
+
+  private static String typeName(int t) {
+    return "Value" + t;
+  }
+
+  private static String goalName(int g) {
+    return "of" + g;
+  }
+
+  /**
+   * Goals have different parameter names, so their steps are not shared in the compact layout.
+   */
+  private static String parameter(int g, int i) {
+    return g == 0 ? "p" + i : "g" + g + "p" + i;
+  }
+
+  private static String type(int i) {
+    return TYPES[i % TYPES.length];
+  }
+
+  private static String lowerFirst(String s) {
+    return Character.toLowerCase(s.charAt(0)) + s.substring(1);
+  }
+}
@@ -0,0 +1,232 @@
+package net.zerobuilder.benchmarks.startup;
+
+import net.zerobuilder.compiler.ZeroProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+/**
+ * Generates a synthetic corpus, compiles it with {@link ZeroProcessor},
+ * and runs it in fresh JVMs, to measure the startup cost of the generated classes.
+ * See the README of the benchmarks module.
+ */
+public final class StartupHarness {
+
+  private static final String USAGE = String.join("\n",
+      "Usage: StartupHarness [options]",
+      "  --types=N         number of value types (default 1000)",
+      "  --goals=M         goals per type: one constructor, M - 1 static methods (default 3)",
+      "  --parameters=K    parameters per goal (default 4)",
+      "  --runs=R          number of fresh JVMs (default 5)",
+      "  --style=STYLE     AUTO, IMMUTABLE, FLAT or MONOMORPHIC (default AUTO)",
+      "  --recycle         add @Recycle to each goal",
+      "  --updater         add @Updater to each constructor",
+      "  --compact         compile with -Azerobuilder.compact=true",
+      "  --appcds          record a dynamic CDS archive in an extra run, then use it (JDK 13+)",
+      "  --java=PATH       java executable for the runs (default: the one running this harness)",
+      "  --jvmArg=ARG      extra JVM argument for the runs, may be repeated",
+      "  --dir=PATH        work directory (default: a new temporary directory)");
+
+  private final Map<String, String> options = new HashMap<>();
+  private final List<String> jvmArgs = new ArrayList<>();
+
+  private StartupHarness(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+      int eq = arg.indexOf('=');
+      String key = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+      String value = eq < 0 ? "true" : arg.substring(eq + 1);
+      if (key.equals("jvmArg")) {
+        jvmArgs.add(value);
+      } else {
+        options.put(key, value);
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (Arrays.asList(args).contains("--help")) {
+      System.out.println(USAGE);
+      return;
+    }
+    new StartupHarness(args).run();
+  }
+
+  private void run() throws IOException, InterruptedException {
+    int types = intOption("types", 1000);
+    int goals = intOption("goals", 3);
+    int parameters = intOption("parameters", 4);
+    int runs = intOption("runs", 5);
+    String style = options.getOrDefault("style", "AUTO");
+    Strategy strategy = new Strategy(style.equals("AUTO") ? null : style,
+        options.containsKey("recycle"), options.containsKey("updater"), options.containsKey("compact"));
+    Path dir = options.containsKey("dir") ?
+        Files.createDirectories(Paths.get(options.get("dir"))) :
+        Files.createTempDirectory("zerobuilder-startup");
+    Path sourceDir = Files.createDirectories(dir.resolve("src"));
+    Path classDir = Files.createDirectories(dir.resolve("classes"));
+
+    List<Path> sources = new Corpus(types, goals, parameters, strategy).write(sourceDir);
+    long compileStart = System.nanoTime();
+    compile(sources, classDir, strategy);
+    long compileMillis = (System.nanoTime() - compileStart) / 1_000_000;
+    long classFiles = countClassFiles(classDir);
+    Path jar = jar(classDir, dir.resolve("corpus.jar"));
+
+    List<String> command = new ArrayList<>();
+    command.add(options.getOrDefault("java",
+        Paths.get(System.getProperty("java.home"), "bin", "java").toString()));
+    command.addAll(jvmArgs);
+    if (options.containsKey("appcds")) {
+      Path archive = dir.resolve("corpus.jsa");
+      Files.deleteIfExists(archive);
+      runOnce(with(command, "-XX:ArchiveClassesAtExit=" + archive, "-cp", jar.toString(), Corpus.MAIN));
+      command.add("-XX:SharedArchiveFile=" + archive);
+    }
+    command.addAll(Arrays.asList("-cp", jar.toString(), Corpus.MAIN));
+
+    List<Map<String, Long>> results = new ArrayList<>(runs);
+    for (int i = 0; i < runs; i++) {
+      results.add(runOnce(command));
+    }
+
+    System.out.println("strategy          " + strategy + (options.containsKey("appcds") ? " (AppCDS)" : ""));
+    System.out.println("corpus            " + types + " types x " + goals + " goals x " + parameters + " parameters");
+    System.out.println("work directory    " + dir);
+    System.out.println("compile           " + compileMillis + " ms");
+    System.out.println("class files       " + classFiles + " (" + (classFiles - types - 1) + " generated)");
+    System.out.println("loaded classes    " + median(results, "loaded"));
+    System.out.println("metaspace used    " + median(results, "metaspace") / 1024 + " KB");
+    System.out.println("class space used  " + median(results, "classSpace") / 1024 + " KB");
+    System.out.println("first build       " + median(results, "firstBuild") / 1_000_000 + " ms");
+    System.out.println("jvm uptime        " + median(results, "uptime") + " ms");
+    System.out.println("process wall time " + median(results, "wall") + " ms");
+    System.out.println("(median of " + runs + " runs)");
+  }
+
+  private static void compile(List<Path> sources, Path classDir, Strategy strategy) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("The harness must run on a JDK");
+    }
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+      List<String> compilerOptions = new ArrayList<>(Arrays.asList(
+          "-classpath", processorPath(),
+          "-d", classDir.toString()));
+      compilerOptions.addAll(strategy.processorOptions());
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null,
+          fileManager.getJavaFileObjectsFromFiles(toFiles(sources)));
+      task.setProcessors(singletonList(new ZeroProcessor()));
+      if (!task.call()) {
+        StringBuilder message = new StringBuilder("Compilation failed");
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+          message.append('\n').append(diagnostic);
+        }
+        throw new IllegalStateException(message.toString());
+      }
+    }
+  }
+
+  /**
+   * The processor jar also contains the annotations.
+   */
+  private static String processorPath() {
+    try {
+      return Paths.get(ZeroProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    } catch (Exception e) {
+      throw new IllegalStateException("Can't locate the processor jar", e);
+    }
+  }
+
+  private static List<File> toFiles(List<Path> paths) {
+    List<File> files = new ArrayList<>(paths.size());
+    for (Path path : paths) {
+      files.add(path.toFile());
+    }
+    return files;
+  }
+
+  private static long countClassFiles(Path classDir) throws IOException {
+    try (Stream<Path> files = Files.walk(classDir)) {
+      return files.filter(path -> path.toString().endsWith(".class")).count();
+    }
+  }
+
+  /**
+   * CDS archives can't refer to classes in a directory.
+   */
+  private static Path jar(Path classDir, Path jar) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+         Stream<Path> files = Files.walk(classDir)) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+        out.putNextEntry(new JarEntry(classDir.relativize(file).toString().replace(File.separatorChar, '/')));
+        Files.copy(file, out);
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static Map<String, Long> runOnce(List<String> command) throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    List<String> output = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        output.add(line);
+      }
+    }
+    int exit = process.waitFor();
+    long wall = (System.nanoTime() - start) / 1_000_000;
+    if (exit != 0 || output.isEmpty()) {
+      throw new IllegalStateException("Run failed with exit code " + exit + ":\n" + String.join("\n", output));
+    }
+    Map<String, Long> result = new HashMap<>();
+    for (String field : output.get(output.size() - 1).split(" ")) {
+      int eq = field.indexOf('=');
+      result.put(field.substring(0, eq), Long.parseLong(field.substring(eq + 1)));
+    }
+    result.put("wall", wall);
+    return result;
+  }
+
+  private static List<String> with(List<String> command, String... args) {
+    List<String> result = new ArrayList<>(command);
+    result.addAll(Arrays.asList(args));
+    return result;
+  }
+
+  private static long median(List<Map<String, Long>> results, String key) {
+    long[] values = results.stream().mapToLong(result -> result.get(key)).sorted().toArray();
+    return values[values.length / 2];
+  }
+
+  private int intOption(String key, int defaultValue) {
+    return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+  }
+}
@@ -0,0 +1,52 @@
+package net.zerobuilder.benchmarks.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How the corpus is annotated and compiled.
+ */
+final class Strategy {
+
+  /**
+   * A {@link net.zerobuilder.Style} constant, or {@code null} for the default style.
+   */
+  final String style;
+  final boolean recycle;
+  final boolean updater;
+
+  /**
+   * Passed to the processor as {@code -Azerobuilder.compact}.
+   */
+  final boolean compact;
+
+  Strategy(String style, boolean recycle, boolean updater, boolean compact) {
+    this.style = style;
+    this.recycle = recycle;
+    this.updater = updater;
+    this.compact = compact;
+  }
+
+  List<String> processorOptions() {
+    List<String> options = new ArrayList<>();
+    if (compact) {
+      options.add("-Azerobuilder.compact=true");
+    }
+    return options;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(style == null ? "AUTO" : style);
+    if (recycle) {
+      sb.append("+recycle");
+    }
+    if (updater) {
+      sb.append("+updater");
+    }
+    if (compact) {
+      sb.append("+compact");
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,56 @@
+package net.zerobuilder.compiler;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Counts the number of bytes that the written characters take in UTF-8.
+ */
+final class CountingWriter extends FilterWriter {
+
+  private long bytes;
+
+  CountingWriter(Writer out) {
+    super(out);
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    out.write(c);
+    bytes += utf8Length((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    out.write(cbuf, off, len);
+    for (int i = off; i < off + len; i++) {
+      bytes += utf8Length(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    out.write(str, off, len);
+    for (int i = off; i < off + len; i++) {
+      bytes += utf8Length(str.charAt(i));
+    }
+  }
+
+  long bytes() {
+    return bytes;
+  }
+
+  /**
+   * A surrogate pair takes four bytes, two for each half.
+   */
+  private static int utf8Length(char c) {
+    if (c < 0x80) {
+      return 1;
+    }
+    if (c < 0x800 || Character.isSurrogate(c)) {
+      return 2;
+    }
+    return 3;
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
+import static net.zerobuilder.compiler.generate.DtoRegularGoalDescription.ProjectedRegularGoalDescription.LAZY_MAX_PARAMETERS;
 
 public final class Messages {
 
@@ -23,11 +24,44 @@ public final class Messages {
     public static final String NESTING_KIND =
         "This inner class must be static and not private.";
 
-    public static final String REUSE_GENERICS =
-        "A goal with type variables cannot be recycyled.";
-
     public static final String REUSE_IMMUTABLE =
-        "An immutable goal cannot be recycyled.";
+        "An immutable goal cannot be recycled. Try Style.FLAT instead.";
+
+    public static final String MONOMORPHIC_NOT_SUPPORTED =
+        "Style.MONOMORPHIC is only supported for goals without type parameters, and without @Recycle.";
+
+    public static final String BATCH_NOT_SUPPORTED =
+        "Batch is only supported for goals without type parameters, and with the default style.";
+
+    public static final String FUNCTION_NOT_SUPPORTED =
+        "Function is only supported for goals without type parameters or declared exceptions, " +
+            "and with the default style.";
+
+    public static final String RECYCLE_STATS =
+        "Stats are only available for Pool.SHARED.";
+
+    public static final String RECYCLE_PREFETCH =
+        "Prefetch is only available for @BeanBuilder classes.";
+
+    public static final String BEAN_PREFETCH_THROWS =
+        "Prefetch is not available if the bean constructor declares any exceptions.";
+
+    public static final String LAZY_TOO_MANY_PARAMETERS =
+        "A lazy updater can have at most " + LAZY_MAX_PARAMETERS + " parameters.";
+
+    public static final String CODEC_NOT_SUPPORTED =
+        "@Codec is only supported for constructors, and static methods that return a class, " +
+            "without type parameters.";
+
+    public static final String CODEC_UNSUPPORTED_TYPE =
+        "@Codec needs a primitive, a String, or a type with its own @Codec goal: ";
+
+    public static final String JSON_NOT_SUPPORTED =
+        "@Json is only supported for constructors, and static methods that return a class, " +
+            "without type parameters.";
+
+    public static final String JSON_UNSUPPORTED_TYPE =
+        "@Json needs a primitive, a String, or a type with its own @Json goal: ";
 
     public static final String STEP_OUT_OF_BOUNDS =
         "The step position must be less than the number of arguments.";
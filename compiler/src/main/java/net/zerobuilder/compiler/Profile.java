@@ -0,0 +1,129 @@
+package net.zerobuilder.compiler;
+
+import net.zerobuilder.compiler.generate.Generator.ModuleTimer;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Timings per enclosing type, see {@link ZeroProcessor#PROFILE}.
+ * Written as JSON if the file name ends with {@code .json}, otherwise as CSV.
+ */
+final class Profile {
+
+  static final class ModuleTime {
+    final String module;
+    final String goal;
+    final int steps;
+    final long nanos;
+
+    private ModuleTime(String module, String goal, int steps, long nanos) {
+      this.module = module;
+      this.goal = goal;
+      this.steps = steps;
+      this.nanos = nanos;
+    }
+  }
+
+  /**
+   * A {@link ModuleTimer} is only called by the thread that generates this type.
+   */
+  static final class TypeProfile implements ModuleTimer {
+    final String type;
+    final long analyseNanos;
+    final List<ModuleTime> modules = new ArrayList<>();
+    long typeSpecNanos;
+    long writeNanos;
+    long bytes;
+
+    private TypeProfile(String type, long analyseNanos) {
+      this.type = type;
+      this.analyseNanos = analyseNanos;
+    }
+
+    @Override
+    public void processed(String module, String goal, int steps, long nanos) {
+      modules.add(new ModuleTime(module, goal, steps, nanos));
+    }
+
+    private int steps() {
+      return modules.stream().mapToInt(module -> module.steps).sum();
+    }
+
+    private long processNanos() {
+      return modules.stream().mapToLong(module -> module.nanos).sum();
+    }
+  }
+
+  private final List<TypeProfile> types = new ArrayList<>();
+
+  TypeProfile add(String type, long analyseNanos) {
+    TypeProfile profile = new TypeProfile(type, analyseNanos);
+    types.add(profile);
+    return profile;
+  }
+
+  void write(Path path) throws IOException {
+    try (Writer out = Files.newBufferedWriter(path, UTF_8);
+         PrintWriter writer = new PrintWriter(out)) {
+      if (path.getFileName().toString().endsWith(".json")) {
+        writeJson(writer);
+      } else {
+        writeCsv(writer);
+      }
+    }
+  }
+
+  private void writeCsv(PrintWriter writer) {
+    writer.println("type,goals,steps,bytes,analyse_ns,process_ns,type_spec_ns,write_ns");
+    for (TypeProfile type : types) {
+      writer.println(String.join(",", type.type,
+          Integer.toString(type.modules.size()),
+          Integer.toString(type.steps()),
+          Long.toString(type.bytes),
+          Long.toString(type.analyseNanos),
+          Long.toString(type.processNanos()),
+          Long.toString(type.typeSpecNanos),
+          Long.toString(type.writeNanos)));
+    }
+  }
+
+  private void writeJson(PrintWriter writer) {
+    writer.println("[");
+    writer.println(types.stream()
+        .map(Profile::json)
+        .collect(joining(",\n")));
+    writer.println("]");
+  }
+
+  private static String json(TypeProfile type) {
+    String modules = type.modules.stream()
+        .map(module -> "{\"module\": " + quote(module.module)
+            + ", \"goal\": " + quote(module.goal)
+            + ", \"steps\": " + module.steps
+            + ", \"nanos\": " + module.nanos + "}")
+        .collect(joining(",\n      ", "[\n      ", "\n    ]"));
+    return "  {\n" +
+        "    \"type\": " + quote(type.type) + ",\n" +
+        "    \"goals\": " + type.modules.size() + ",\n" +
+        "    \"steps\": " + type.steps() + ",\n" +
+        "    \"bytes\": " + type.bytes + ",\n" +
+        "    \"analyseNanos\": " + type.analyseNanos + ",\n" +
+        "    \"typeSpecNanos\": " + type.typeSpecNanos + ",\n" +
+        "    \"writeNanos\": " + type.writeNanos + ",\n" +
+        "    \"modules\": " + modules + "\n" +
+        "  }";
+  }
+
+  private static String quote(String s) {
+    return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+}
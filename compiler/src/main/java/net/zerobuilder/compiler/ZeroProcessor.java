@@ -6,7 +6,10 @@ import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeSpec;
 import net.zerobuilder.BeanBuilder;
 import net.zerobuilder.Builder;
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
 import net.zerobuilder.Updater;
+import net.zerobuilder.compiler.Profile.TypeProfile;
 import net.zerobuilder.compiler.analyse.Analyser;
 import net.zerobuilder.compiler.analyse.ValidationException;
 import net.zerobuilder.compiler.common.LessTypes;
@@ -22,9 +25,11 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.tools.JavaFileObject;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,19 +42,44 @@ import static javax.lang.model.util.ElementFilter.constructorsIn;
 import static javax.lang.model.util.ElementFilter.methodsIn;
 import static javax.lang.model.util.ElementFilter.typesIn;
 import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.NOTE;
+import static javax.tools.Diagnostic.Kind.WARNING;
 import static net.zerobuilder.compiler.Messages.JavadocMessages.generatedAnnotations;
+import static net.zerobuilder.compiler.common.LessElements.closeMethodTableCache;
+import static net.zerobuilder.compiler.common.LessElements.openMethodTableCache;
 
 public final class ZeroProcessor extends AbstractProcessor {
 
+  /**
+   * If {@code true}, print the size of each generated file.
+   */
+  static final String REPORT_BYTES = "zerobuilder.reportBytes";
+
+  /**
+   * If set, write timings per enclosing type to this file, after the last round.
+   */
+  static final String PROFILE = "zerobuilder.profile";
+
+  /**
+   * If {@code true}, generate fewer step interfaces, see {@link net.zerobuilder.modules.builder.CompactLayout}.
+   */
+  static final String COMPACT = "zerobuilder.compact";
+
   private final Set<TypeElement> done = new HashSet<>();
+  private final Profile profile = new Profile();
 
   @Override
   public Set<String> getSupportedAnnotationTypes() {
-    return Stream.of(Builder.class, Updater.class, BeanBuilder.class)
+    return Stream.of(Builder.class, Updater.class, Codec.class, Json.class, BeanBuilder.class)
         .map(Class::getName)
         .collect(toSet());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return new HashSet<>(asList(REPORT_BYTES, PROFILE, COMPACT));
+  }
+
   @Override
   public SourceVersion getSupportedSourceVersion() {
     return SourceVersion.latestSupported();
@@ -60,7 +90,7 @@ public final class ZeroProcessor extends AbstractProcessor {
     Elements elements = processingEnv.getElementUtils();
     List<AnnotationSpec> generatedAnnotations = generatedAnnotations(elements);
     Set<TypeElement> types = new HashSet<>();
-    for (Class<? extends Annotation> c : asList(Builder.class, Updater.class)) {
+    for (Class<? extends Annotation> c : asList(Builder.class, Updater.class, Codec.class, Json.class)) {
       types.addAll(Stream.concat(
           methodsIn(env.getElementsAnnotatedWith(c)).stream(),
           constructorsIn(env.getElementsAnnotatedWith(c)).stream())
@@ -70,44 +100,148 @@ public final class ZeroProcessor extends AbstractProcessor {
           .collect(toList()));
     }
     types.addAll(typesIn(env.getElementsAnnotatedWith(BeanBuilder.class)));
-    for (TypeElement enclosingElement : types) {
-      try {
+    boolean compact = Boolean.parseBoolean(processingEnv.getOptions().get(COMPACT));
+    List<Analysed> analysed = new ArrayList<>();
+    openMethodTableCache();
+    try {
+      for (TypeElement enclosingElement : types) {
         if (!done.add(enclosingElement)) {
           continue;
         }
-        List<AbstractGoalInput> generatorInput = Analyser.analyse(enclosingElement);
-        GeneratorOutput generatorOutput = Generator.generate(generatorInput);
-        TypeSpec typeSpec = generatorOutput.typeSpec(generatedAnnotations);
         try {
-          write(generatorOutput.generatedType(), typeSpec);
-        } catch (IOException e) {
-          String message = "Error processing "
-              + ClassName.get(enclosingElement) + ": " + e.getMessage();
-          processingEnv.getMessager().printMessage(ERROR, message, enclosingElement);
+          long start = System.nanoTime();
+          List<AbstractGoalInput> goals = Analyser.analyse(enclosingElement, compact);
+          TypeProfile typeProfile = profile.add(enclosingElement.getQualifiedName().toString(),
+              System.nanoTime() - start);
+          analysed.add(new Analysed(enclosingElement, goals, typeProfile));
+        } catch (ValidationException e) {
+          processingEnv.getMessager().printMessage(e.kind, e.getMessage(), e.about);
+        } catch (RuntimeException e) {
+          error(enclosingElement, e);
           return false;
         }
-      } catch (ValidationException e) {
-        processingEnv.getMessager().printMessage(e.kind, e.getMessage(), e.about);
-      } catch (RuntimeException e) {
-        e.printStackTrace();
+      }
+    } finally {
+      closeMethodTableCache();
+    }
+    for (Generated generated : generate(analysed, generatedAnnotations)) {
+      if (generated.failure != null) {
+        error(generated.enclosingElement, generated.failure);
+        return false;
+      }
+      try {
+        write(generated);
+      } catch (IOException e) {
         String message = "Error processing "
-            + ClassName.get(enclosingElement) + ": " + e.getMessage();
-        processingEnv.getMessager().printMessage(ERROR, message, enclosingElement);
+            + ClassName.get(generated.enclosingElement) + ": " + e.getMessage();
+        processingEnv.getMessager().printMessage(ERROR, message, generated.enclosingElement);
+        return false;
+      } catch (RuntimeException e) {
+        error(generated.enclosingElement, e);
         return false;
       }
     }
+    if (env.processingOver()) {
+      writeProfile();
+    }
     return false;
   }
 
-  private void write(ClassName generatedType, TypeSpec typeSpec) throws IOException {
-    JavaFile javaFile = JavaFile.builder(generatedType.packageName(), typeSpec)
-        .skipJavaLangImports(true)
-        .build();
+  private void writeProfile() {
+    String path = processingEnv.getOptions().get(PROFILE);
+    if (path == null) {
+      return;
+    }
+    try {
+      profile.write(Paths.get(path));
+    } catch (IOException | RuntimeException e) {
+      processingEnv.getMessager().printMessage(WARNING,
+          "Could not write profile to " + path + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * The analysis reads the javac model, which is not thread safe.
+   * Code generation only uses the analysed goals,
+   * so it runs in parallel, on the common fork-join pool.
+   * The source code is rendered later, directly into the {@link javax.annotation.processing.Filer}.
+   */
+  private static List<Generated> generate(List<Analysed> analysed,
+                                          List<AnnotationSpec> generatedAnnotations) {
+    return analysed.parallelStream()
+        .map(goals -> goals.generate(generatedAnnotations))
+        .collect(toList());
+  }
+
+  private void error(TypeElement enclosingElement, RuntimeException e) {
+    e.printStackTrace();
+    String message = "Error processing "
+        + ClassName.get(enclosingElement) + ": " + e.getMessage();
+    processingEnv.getMessager().printMessage(ERROR, message, enclosingElement);
+  }
+
+  /**
+   * Each generated class has exactly one originating element,
+   * which makes this an isolating processor in Gradle's terms.
+   */
+  private void write(Generated generated) throws IOException {
+    long start = System.nanoTime();
     JavaFileObject sourceFile = processingEnv.getFiler()
-        .createSourceFile(generatedType.toString(),
-            javaFile.typeSpec.originatingElements.toArray(new Element[0]));
-    try (Writer writer = sourceFile.openWriter()) {
-      writer.write(javaFile.toString());
+        .createSourceFile(generated.generatedType.toString(), generated.enclosingElement);
+    try (CountingWriter writer = new CountingWriter(new BufferedWriter(sourceFile.openWriter()))) {
+      generated.javaFile.writeTo(writer);
+      writer.flush();
+      generated.profile.writeNanos = System.nanoTime() - start;
+      generated.profile.bytes = writer.bytes();
+      if (Boolean.parseBoolean(processingEnv.getOptions().get(REPORT_BYTES))) {
+        processingEnv.getMessager().printMessage(NOTE,
+            generated.generatedType + ": " + writer.bytes() + " bytes");
+      }
+    }
+  }
+
+  private static final class Analysed {
+    final TypeElement enclosingElement;
+    final List<AbstractGoalInput> goals;
+    final TypeProfile profile;
+
+    Analysed(TypeElement enclosingElement, List<AbstractGoalInput> goals, TypeProfile profile) {
+      this.enclosingElement = enclosingElement;
+      this.goals = goals;
+      this.profile = profile;
+    }
+
+    Generated generate(List<AnnotationSpec> generatedAnnotations) {
+      try {
+        GeneratorOutput generatorOutput = Generator.generate(goals, profile);
+        ClassName generatedType = generatorOutput.generatedType();
+        long start = System.nanoTime();
+        TypeSpec typeSpec = generatorOutput.typeSpec(generatedAnnotations);
+        profile.typeSpecNanos = System.nanoTime() - start;
+        JavaFile javaFile = JavaFile.builder(generatedType.packageName(), typeSpec)
+            .skipJavaLangImports(true)
+            .build();
+        return new Generated(enclosingElement, generatedType, javaFile, profile, null);
+      } catch (RuntimeException e) {
+        return new Generated(enclosingElement, null, null, profile, e);
+      }
+    }
+  }
+
+  private static final class Generated {
+    final TypeElement enclosingElement;
+    final ClassName generatedType;
+    final JavaFile javaFile;
+    final TypeProfile profile;
+    final RuntimeException failure;
+
+    Generated(TypeElement enclosingElement, ClassName generatedType, JavaFile javaFile,
+              TypeProfile profile, RuntimeException failure) {
+      this.enclosingElement = enclosingElement;
+      this.generatedType = generatedType;
+      this.javaFile = javaFile;
+      this.profile = profile;
+      this.failure = failure;
     }
   }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
 import net.zerobuilder.Builder;
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
 import net.zerobuilder.Updater;
 import net.zerobuilder.compiler.analyse.DtoGoalElement.AbstractGoalElement;
 import net.zerobuilder.compiler.analyse.DtoGoalElement.AbstractRegularGoalElement;
@@ -18,8 +20,14 @@ import net.zerobuilder.compiler.generate.DtoGeneratorInput.RegularSimpleGoalInpu
 import net.zerobuilder.compiler.generate.DtoModule.BeanModule;
 import net.zerobuilder.compiler.generate.DtoModule.ProjectedModule;
 import net.zerobuilder.compiler.generate.DtoModule.RegularSimpleModule;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.modules.builder.CompactLayout;
+import net.zerobuilder.modules.builder.MonomorphicBuilder;
 import net.zerobuilder.modules.builder.RegularBuilder;
 import net.zerobuilder.modules.builder.bean.BeanBuilder;
+import net.zerobuilder.modules.codec.RegularCodec;
+import net.zerobuilder.modules.generics.FlatGenericsBuilder;
+import net.zerobuilder.modules.json.RegularJson;
 import net.zerobuilder.modules.generics.GenericsBuilder;
 import net.zerobuilder.modules.updater.RegularUpdater;
 import net.zerobuilder.modules.updater.bean.BeanUpdater;
@@ -28,14 +36,22 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
 import static javax.lang.model.element.ElementKind.METHOD;
 import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.Style.AUTO;
+import static net.zerobuilder.Style.FLAT;
 import static net.zerobuilder.Style.IMMUTABLE;
+import static net.zerobuilder.Style.MONOMORPHIC;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.BATCH_NOT_SUPPORTED;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.BEAN_SUBGOALS;
-import static net.zerobuilder.compiler.Messages.ErrorMessages.REUSE_GENERICS;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.FUNCTION_NOT_SUPPORTED;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.MONOMORPHIC_NOT_SUPPORTED;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.REUSE_IMMUTABLE;
+import static net.zerobuilder.compiler.analyse.CodecValidator.validateCodec;
+import static net.zerobuilder.compiler.analyse.CodecValidator.validateJson;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.goalElementCases;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.regularGoalElementCases;
 import static net.zerobuilder.compiler.analyse.MoreValidations.checkAccessLevel;
@@ -46,7 +62,6 @@ import static net.zerobuilder.compiler.analyse.ProjectionValidatorV.validateUpda
 import static net.zerobuilder.compiler.analyse.TypeValidator.validateContextClass;
 import static net.zerobuilder.compiler.analyse.Utilities.peer;
 import static net.zerobuilder.compiler.common.LessTypes.asTypeElement;
-import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUSE_INSTANCES;
 import static net.zerobuilder.compiler.generate.DtoContext.createContext;
 import static net.zerobuilder.compiler.generate.ZeroUtil.flatList;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterizedTypeName;
@@ -56,10 +71,14 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
 public final class Analyser {
 
   private static final RegularSimpleModule BUILDER = new RegularBuilder();
+  private static final RegularSimpleModule MONOMORPHIC_BUILDER = new MonomorphicBuilder();
   private static final BeanModule BEAN_BUILDER = new BeanBuilder();
   private static final ProjectedModule UPDATER = new RegularUpdater();
   private static final BeanModule BEAN_UPDATER = new BeanUpdater();
   private static final RegularSimpleModule GENERICS = new GenericsBuilder();
+  private static final RegularSimpleModule FLAT_GENERICS = new FlatGenericsBuilder();
+  private static final ProjectedModule CODEC = new RegularCodec();
+  private static final ProjectedModule JSON = new RegularJson();
 
   /**
    * Extract all goals from the given type, by inspecting annotations.
@@ -70,6 +89,16 @@ public final class Analyser {
    * @throws ValidationException if validation fails
    */
   public static List<AbstractGoalInput> analyse(TypeElement tel) throws ValidationException {
+    return analyse(tel, false);
+  }
+
+  /**
+   * @param tel     a type element
+   * @param compact if {@code true}, use {@link CompactLayout} for the goals of the builder module
+   * @return list of goal inputs
+   * @throws ValidationException if validation fails
+   */
+  public static List<AbstractGoalInput> analyse(TypeElement tel, boolean compact) throws ValidationException {
     validateContextClass(tel);
     TypeName type = parameterizedTypeName(ClassName.get(tel),
         transform(tel.getTypeParameters(), TypeVariableName::get));
@@ -78,28 +107,51 @@ public final class Analyser {
     List<? extends AbstractGoalElement> goals = goals(tel, context);
     checkNameConflict(goals);
     checkAccessLevel(goals);
-    return transform(goals, assignModule);
+    UnaryOperator<SimpleRegularGoalDescription> layout = compact ?
+        new CompactLayout() :
+        UnaryOperator.identity();
+    return transform(goals, assignModule(layout));
   }
 
-  private static final Function<AbstractGoalElement, AbstractGoalInput> assignModule =
-      goalElementCases(
-          regularGoalElementCases(
-              general -> {
-                boolean hasTypevars = hasTypevars(general.executableElement);
-                if (hasTypevars && general.goalAnnotation.lifecycle == REUSE_INSTANCES) {
-                  throw new ValidationException(REUSE_GENERICS, general.executableElement);
-                }
-                if (general.style == IMMUTABLE && general.goalAnnotation.lifecycle == REUSE_INSTANCES) {
-                  throw new ValidationException(REUSE_IMMUTABLE, general.executableElement);
-                }
-                return hasTypevars || general.style == IMMUTABLE ?
-                    new RegularSimpleGoalInput(GENERICS, validateBuilder.apply(general)) :
-                    new RegularSimpleGoalInput(BUILDER, validateBuilder.apply(general));
-              },
-              projected -> new ProjectedGoalInput(UPDATER, validateUpdater.apply(projected))),
-          bean -> bean.moduleChoice == ModuleChoice.BUILDER ?
-              new BeanGoalInput(BEAN_BUILDER, validateBean.apply(bean)) :
-              new BeanGoalInput(BEAN_UPDATER, validateBean.apply(bean)));
+  private static Function<AbstractGoalElement, AbstractGoalInput> assignModule(
+      UnaryOperator<SimpleRegularGoalDescription> layout) {
+    return goalElementCases(
+        regularGoalElementCases(
+            general -> {
+              boolean hasTypevars = hasTypevars(general.executableElement);
+              boolean recycles = general.goalAnnotation.lifecycle.recycles();
+              if (general.style == IMMUTABLE && recycles) {
+                throw new ValidationException(REUSE_IMMUTABLE, general.executableElement);
+              }
+              if (general.style == MONOMORPHIC && (hasTypevars || recycles)) {
+                throw new ValidationException(MONOMORPHIC_NOT_SUPPORTED, general.executableElement);
+              }
+              if (general.goalAnnotation.batch && (hasTypevars || general.style != AUTO)) {
+                throw new ValidationException(BATCH_NOT_SUPPORTED, general.executableElement);
+              }
+              if (general.goalAnnotation.function && (hasTypevars || general.style != AUTO
+                  || !general.executableElement.getThrownTypes().isEmpty())) {
+                throw new ValidationException(FUNCTION_NOT_SUPPORTED, general.executableElement);
+              }
+              if (general.style == MONOMORPHIC) {
+                return new RegularSimpleGoalInput(MONOMORPHIC_BUILDER, validateBuilder.apply(general));
+              }
+              if (general.style == FLAT || hasTypevars && recycles) {
+                return new RegularSimpleGoalInput(FLAT_GENERICS, validateBuilder.apply(general));
+              }
+              return hasTypevars || general.style == IMMUTABLE ?
+                  new RegularSimpleGoalInput(GENERICS, validateBuilder.apply(general)) :
+                  new RegularSimpleGoalInput(BUILDER, layout.apply(validateBuilder.apply(general)));
+            },
+            projected -> projected.moduleChoice == ModuleChoice.CODEC ?
+                new ProjectedGoalInput(CODEC, validateCodec.apply(projected)) :
+                projected.moduleChoice == ModuleChoice.JSON ?
+                    new ProjectedGoalInput(JSON, validateJson.apply(projected)) :
+                    new ProjectedGoalInput(UPDATER, validateUpdater.apply(projected))),
+        bean -> bean.moduleChoice == ModuleChoice.BUILDER ?
+            new BeanGoalInput(BEAN_BUILDER, validateBean.apply(bean)) :
+            new BeanGoalInput(BEAN_UPDATER, validateBean.apply(bean)));
+  }
 
   private static List<? extends AbstractGoalElement> goals(TypeElement tel, GoalContext context) {
     return tel.getAnnotation(net.zerobuilder.BeanBuilder.class) != null ?
@@ -115,7 +167,8 @@ public final class Analyser {
 
   private static List<AbstractRegularGoalElement> regularGoals(TypeElement tel, GoalContext context) {
     return tel.getEnclosedElements().stream()
-        .filter(el -> el.getAnnotation(Builder.class) != null || el.getAnnotation(Updater.class) != null)
+        .filter(el -> el.getAnnotation(Builder.class) != null || el.getAnnotation(Updater.class) != null
+            || el.getAnnotation(Codec.class) != null || el.getAnnotation(Json.class) != null)
         .filter(el -> el.getKind() == CONSTRUCTOR || el.getKind() == METHOD)
         .map(LessElements::asExecutable)
         .map(DtoGoalElement.createRegular(context))
@@ -124,7 +177,8 @@ public final class Analyser {
 
   private static List<BeanGoalElement> beanGoals(TypeElement buildElement, GoalContext context) {
     buildElement.getEnclosedElements().stream()
-        .filter(el -> el.getAnnotation(Builder.class) != null || el.getAnnotation(Updater.class) != null)
+        .filter(el -> el.getAnnotation(Builder.class) != null || el.getAnnotation(Updater.class) != null
+            || el.getAnnotation(Codec.class) != null || el.getAnnotation(Json.class) != null)
         .findAny()
         .ifPresent(el -> {
           throw new ValidationException(BEAN_SUBGOALS, el);
@@ -0,0 +1,136 @@
+package net.zerobuilder.compiler.analyse;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
+import net.zerobuilder.compiler.analyse.DtoGoalElement.RegularProjectableGoalElement;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.NestedCodec;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.ProjectedRegularGoalDescription;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.util.ElementFilter.constructorsIn;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.CODEC_NOT_SUPPORTED;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.CODEC_UNSUPPORTED_TYPE;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.JSON_NOT_SUPPORTED;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.JSON_UNSUPPORTED_TYPE;
+import static net.zerobuilder.compiler.analyse.ProjectionValidatorV.projectionThrownTypes;
+import static net.zerobuilder.compiler.analyse.ProjectionValidatorV.validateUpdater;
+import static net.zerobuilder.compiler.analyse.Utilities.peer;
+import static net.zerobuilder.compiler.common.LessTypes.asTypeElement;
+import static net.zerobuilder.compiler.common.LessTypes.isDeclaredType;
+import static net.zerobuilder.compiler.generate.ZeroUtil.concat;
+import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
+
+final class CodecValidator {
+
+  private static final TypeName STRING = ClassName.get(String.class);
+
+  static final Function<RegularProjectableGoalElement, ProjectedRegularGoalDescription> validateCodec =
+      goal -> validate(goal, Codec.class, CODEC_NOT_SUPPORTED, CODEC_UNSUPPORTED_TYPE);
+
+  static final Function<RegularProjectableGoalElement, ProjectedRegularGoalDescription> validateJson =
+      goal -> validate(goal, Json.class, JSON_NOT_SUPPORTED, JSON_UNSUPPORTED_TYPE);
+
+  /**
+   * @param annotation      {@link Codec} or {@link Json}
+   * @param notSupported    error message if the goal can't have a codec
+   * @param unsupportedType error message if a parameter can't be encoded
+   */
+  private static ProjectedRegularGoalDescription validate(RegularProjectableGoalElement goal,
+                                                          Class<? extends Annotation> annotation,
+                                                          String notSupported, String unsupportedType) {
+    ExecutableElement element = goal.executableElement;
+    if (!isSupported(element)) {
+      throw new ValidationException(notSupported, element);
+    }
+    Map<TypeName, NestedCodec> nestedCodecs = new HashMap<>();
+    for (VariableElement parameter : element.getParameters()) {
+      TypeName type = TypeName.get(parameter.asType());
+      if (!type.isPrimitive() && !type.equals(STRING)) {
+        nestedCodecs.put(type, nestedCodec(parameter, annotation, unsupportedType, new HashSet<>()));
+      }
+    }
+    return validateUpdater.apply(goal).withNestedCodecs(nestedCodecs);
+  }
+
+  private static boolean isSupported(ExecutableElement element) {
+    if (!element.getTypeParameters().isEmpty()) {
+      return false;
+    }
+    if (element.getKind() == CONSTRUCTOR) {
+      return asTypeElement(element.getEnclosingElement().asType()).getTypeParameters().isEmpty();
+    }
+    return element.getModifiers().contains(STATIC)
+        && isDeclaredType(element.getReturnType())
+        && asTypeElement(element.getReturnType()).getTypeParameters().isEmpty();
+  }
+
+  /**
+   * Finds the goal with the same annotation that the type of {@code parameter} declares for itself.
+   *
+   * @param visiting types whose checked exceptions are currently being collected
+   */
+  private static NestedCodec nestedCodec(VariableElement parameter, Class<? extends Annotation> annotation,
+                                         String unsupportedType, Set<TypeName> visiting) {
+    TypeMirror mirror = parameter.asType();
+    if (!isDeclaredType(mirror)
+        || !asTypeElement(mirror).getTypeParameters().isEmpty()) {
+      throw new ValidationException(unsupportedType + parameter.getSimpleName(), parameter);
+    }
+    TypeElement type = asTypeElement(mirror);
+    ClassName className = ClassName.get(type);
+    List<ExecutableElement> candidates = concat(
+        constructorsIn(type.getEnclosedElements()),
+        methodsIn(type.getEnclosedElements()));
+    for (ExecutableElement candidate : candidates) {
+      if (candidate.getAnnotation(annotation) != null
+          && isSupported(candidate)
+          && (candidate.getKind() == CONSTRUCTOR
+          || TypeName.get(candidate.getReturnType()).equals(className))) {
+        Set<TypeName> encodeThrownTypes = new LinkedHashSet<>();
+        Set<TypeName> decodeThrownTypes = new LinkedHashSet<>();
+        if (visiting.add(className)) {
+          encodeThrownTypes.addAll(projectionThrownTypes(candidate));
+          decodeThrownTypes.addAll(thrownTypes(candidate));
+          for (VariableElement nestedParameter : candidate.getParameters()) {
+            TypeName nestedType = TypeName.get(nestedParameter.asType());
+            if (!nestedType.isPrimitive() && !nestedType.equals(STRING)) {
+              NestedCodec nested = nestedCodec(nestedParameter, annotation, unsupportedType, visiting);
+              encodeThrownTypes.addAll(nested.encodeThrownTypes);
+              decodeThrownTypes.addAll(nested.decodeThrownTypes);
+            }
+          }
+          visiting.remove(className);
+        }
+        return NestedCodec.create(peer(className, "Builders"), GoalModifiers.create(candidate).goalName,
+            new ArrayList<>(encodeThrownTypes), new ArrayList<>(decodeThrownTypes));
+      }
+    }
+    throw new ValidationException(unsupportedType + parameter.getSimpleName(), parameter);
+  }
+
+  private static List<TypeName> thrownTypes(ExecutableElement element) {
+    return transform(element.getThrownTypes(), TypeName::get);
+  }
+
+  private CodecValidator() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
@@ -3,7 +3,12 @@ package net.zerobuilder.compiler.analyse;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
+import net.zerobuilder.BeanBuilder;
 import net.zerobuilder.Builder;
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
 import net.zerobuilder.Style;
 import net.zerobuilder.Updater;
 import net.zerobuilder.compiler.generate.Access;
@@ -26,8 +31,12 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
 import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.RECYCLE_STATS;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.ModuleChoice.BUILDER;
+import static net.zerobuilder.compiler.analyse.DtoGoalElement.ModuleChoice.CODEC;
+import static net.zerobuilder.compiler.analyse.DtoGoalElement.ModuleChoice.JSON;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.ModuleChoice.UPDATER;
+import static net.zerobuilder.compiler.analyse.GoalModifiers.poolLifecycle;
 import static net.zerobuilder.compiler.common.LessTypes.asTypeElement;
 import static net.zerobuilder.compiler.common.LessTypes.isDeclaredType;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
@@ -148,11 +157,18 @@ final class DtoGoalElement {
     final GoalModifiers goalAnnotation;
     final DtoContext.GoalContext context;
 
-    private RegularProjectableGoalElement(ExecutableElement element, AbstractRegularDetails details, DtoContext.GoalContext context) {
+    /**
+     * {@link ModuleChoice#UPDATER}, {@link ModuleChoice#CODEC} or {@link ModuleChoice#JSON}
+     */
+    final ModuleChoice moduleChoice;
+
+    private RegularProjectableGoalElement(ExecutableElement element, AbstractRegularDetails details,
+                                          DtoContext.GoalContext context, ModuleChoice moduleChoice) {
       this.goalAnnotation = GoalModifiers.create(element);
       this.details = details;
       this.executableElement = element;
       this.context = context;
+      this.moduleChoice = moduleChoice;
     }
 
     @Override
@@ -178,11 +194,25 @@ final class DtoGoalElement {
 
     private BeanGoalElement(ClassName goalType, String name, TypeElement beanType,
                             ModuleChoice moduleChoice, DtoContext.GoalContext context) {
+      Recycle recycle = beanType.getAnnotation(Recycle.class);
       this.moduleChoice = moduleChoice;
-      this.details = new BeanGoalDetails(goalType, name, Access.PUBLIC, context);
+      this.details = new BeanGoalDetails(goalType, name, Access.PUBLIC, context,
+          beanLifecycle(recycle, beanType),
+          recycle != null && recycle.prefetch(),
+          beanType.getAnnotation(BeanBuilder.class).inPlace());
       this.beanType = beanType;
     }
 
+    private static DtoContext.ContextLifecycle beanLifecycle(Recycle recycle, TypeElement beanType) {
+      if (recycle == null) {
+        return DtoContext.ContextLifecycle.NEW_INSTANCE;
+      }
+      if (recycle.stats() && recycle.value() != Pool.SHARED) {
+        throw new ValidationException(RECYCLE_STATS, beanType);
+      }
+      return poolLifecycle(recycle);
+    }
+
     static List<BeanGoalElement> create(TypeElement beanType, DtoContext.GoalContext context) {
       ClassName goalType = ClassName.get(beanType);
       String name = downcase(simpleName(goalType));
@@ -198,17 +228,23 @@ final class DtoGoalElement {
   }
 
   enum ModuleChoice {
-    UPDATER, BUILDER
+    UPDATER, BUILDER, CODEC, JSON
   }
 
   private static List<ModuleChoice> goalOptions(ExecutableElement element) {
-    ArrayList<ModuleChoice> options = new ArrayList<>(2);
+    ArrayList<ModuleChoice> options = new ArrayList<>(4);
     if (element.getAnnotation(Builder.class) != null) {
       options.add(BUILDER);
     }
     if (element.getAnnotation(Updater.class) != null) {
       options.add(UPDATER);
     }
+    if (element.getAnnotation(Codec.class) != null) {
+      options.add(CODEC);
+    }
+    if (element.getAnnotation(Json.class) != null) {
+      options.add(JSON);
+    }
     return options;
   }
 
@@ -233,7 +269,7 @@ final class DtoGoalElement {
                   createBuilderGoal(element, goalType, modifiers, methodName,
                       parameterNames(element), context) :
                   createUpdaterGoal(element, goalType, modifiers, methodName,
-                      parameterNames(element), context));
+                      parameterNames(element), context, goalOption));
     };
   }
 
@@ -241,12 +277,13 @@ final class DtoGoalElement {
                                                               GoalModifiers goalModifiers,
                                                               String methodName,
                                                               List<String> parameterNames,
-                                                              DtoContext.GoalContext context) {
+                                                              DtoContext.GoalContext context,
+                                                              ModuleChoice moduleChoice) {
     if (element.getKind() == CONSTRUCTOR) {
       return new RegularProjectableGoalElement(element, ConstructorGoalDetails.create(
           ClassName.get(asTypeElement(element.getEnclosingElement().asType())),
           goalModifiers.goalName, parameterNames, goalModifiers.access, instanceTypevars(element),
-          goalModifiers.lifecycle), context);
+          goalModifiers.lifecycle), context, moduleChoice);
     }
     AbstractRegularDetails details =
         element.getModifiers().contains(STATIC) ?
@@ -258,7 +295,7 @@ final class DtoGoalElement {
                 instanceTypevars(element),
                 returnTypeInstanceTypevars(element),
                 goalModifiers.lifecycle);
-    return new RegularProjectableGoalElement(element, details, context);
+    return new RegularProjectableGoalElement(element, details, context, moduleChoice);
   }
 
   private static List<TypeVariableName> instanceTypevars(ExecutableElement element) {
@@ -1,14 +1,19 @@
 package net.zerobuilder.compiler.analyse;
 
 import net.zerobuilder.AccessLevel;
+import net.zerobuilder.Builder;
 import net.zerobuilder.GoalName;
 import net.zerobuilder.Level;
+import net.zerobuilder.Pool;
 import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
 import net.zerobuilder.compiler.generate.Access;
 import net.zerobuilder.compiler.generate.DtoContext;
 
 import javax.lang.model.element.ExecutableElement;
 
+import static net.zerobuilder.compiler.Messages.ErrorMessages.RECYCLE_PREFETCH;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.RECYCLE_STATS;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.goalType;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
@@ -18,11 +23,21 @@ final class GoalModifiers {
   final Access access;
   final DtoContext.ContextLifecycle lifecycle;
   final String goalName;
+  final boolean lazy;
+  final boolean identity;
+  final boolean batch;
+  final boolean function;
 
-  private GoalModifiers(Access access, DtoContext.ContextLifecycle lifecycle, String goalName) {
+  private GoalModifiers(Access access, DtoContext.ContextLifecycle lifecycle, String goalName,
+                        boolean lazy, boolean identity, boolean batch,
+                        boolean function) {
     this.access = access;
     this.lifecycle = lifecycle;
     this.goalName = goalName;
+    this.lazy = lazy;
+    this.identity = identity;
+    this.batch = batch;
+    this.function = function;
   }
 
   private static Access getAccess(ExecutableElement element) {
@@ -34,14 +49,49 @@ final class GoalModifiers {
     return Access.PUBLIC;
   }
 
+  private static DtoContext.ContextLifecycle getLifecycle(ExecutableElement element) {
+    Recycle recycle = element.getAnnotation(Recycle.class);
+    if (recycle == null) {
+      return DtoContext.ContextLifecycle.NEW_INSTANCE;
+    }
+    if (recycle.stats() && recycle.value() != Pool.SHARED) {
+      throw new ValidationException(RECYCLE_STATS, element);
+    }
+    if (recycle.prefetch()) {
+      throw new ValidationException(RECYCLE_PREFETCH, element);
+    }
+    return poolLifecycle(recycle);
+  }
+
+  /**
+   * @param recycle a valid {@link Recycle} annotation
+   * @return the lifecycle that implements the requested pool
+   */
+  static DtoContext.ContextLifecycle poolLifecycle(Recycle recycle) {
+    switch (recycle.value()) {
+      case STRIPED:
+        return DtoContext.ContextLifecycle.POOL_INSTANCES;
+      case SHARED:
+        return recycle.stats() ?
+            DtoContext.ContextLifecycle.COUNTED_SHARED_INSTANCES :
+            DtoContext.ContextLifecycle.SHARED_INSTANCES;
+      default:
+        return DtoContext.ContextLifecycle.REUSE_INSTANCES;
+    }
+  }
+
   static GoalModifiers create(ExecutableElement element) {
     Access access = getAccess(element);
-    DtoContext.ContextLifecycle lifecycle = element.getAnnotation(Recycle.class) == null ?
-        DtoContext.ContextLifecycle.NEW_INSTANCE :
-        DtoContext.ContextLifecycle.REUSE_INSTANCES;
+    DtoContext.ContextLifecycle lifecycle = getLifecycle(element);
     String goalName = element.getAnnotation(GoalName.class) == null ?
         downcase(simpleName(goalType(element))) :
         element.getAnnotation(GoalName.class).value();
-    return new GoalModifiers(access, lifecycle, goalName);
+    Updater updater = element.getAnnotation(Updater.class);
+    boolean lazy = updater != null && updater.lazy();
+    boolean identity = updater != null && updater.identity();
+    Builder builder = element.getAnnotation(Builder.class);
+    boolean batch = builder != null && builder.batch();
+    boolean function = builder != null && builder.function();
+    return new GoalModifiers(access, lifecycle, goalName, lazy, identity, batch, function);
   }
 }
@@ -19,17 +19,13 @@ final class MoreValidations {
     Map<String, List<AbstractGoalElement>> m = goals.stream()
         .collect(groupingBy(goalName));
     m.forEach((name, group) -> {
-      if (group.size() == 2) {
-        Element el0 = element.apply(group.get(0));
-        Element el1 = element.apply(group.get(1));
-        if (!el0.equals(el1)) {
-          throw new ValidationException(DUPLICATE_GOAL_NAME, el1);
+      Element el0 = element.apply(group.get(0));
+      for (AbstractGoalElement goal : group.subList(1, group.size())) {
+        Element el = element.apply(goal);
+        if (!el0.equals(el)) {
+          throw new ValidationException(DUPLICATE_GOAL_NAME, el);
         }
       }
-      if (group.size() > 2) {
-        Element el = element.apply(group.get(2));
-        throw new ValidationException(DUPLICATE_GOAL_NAME, el);
-      }
     });
   }
 
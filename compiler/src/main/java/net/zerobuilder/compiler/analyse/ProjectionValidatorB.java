@@ -33,6 +33,7 @@ import static javax.lang.model.util.ElementFilter.constructorsIn;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.BEAN_ABSTRACT_CLASS;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.BEAN_COULD_NOT_FIND_SETTER;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.BEAN_NO_DEFAULT_CONSTRUCTOR;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.BEAN_PREFETCH_THROWS;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.NESTING_KIND;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.TYPE_PARAMS_BEAN;
 import static net.zerobuilder.compiler.analyse.ProjectionValidator.TmpAccessorPair.accessorPair;
@@ -198,8 +199,11 @@ final class ProjectionValidatorB {
     List<TmpAccessorPair> sorted = sortedCopy(tmpAccessorPairs, ALPHABETIC_SORT);
     List<AbstractBeanParameter> validBeanParameters
         = transform(shuffledParameters(sorted), toValidParameter);
-    return BeanGoalDescription.create(goal.details, validBeanParameters,
-        beanConstructorExceptions(goal));
+    List<TypeName> thrownTypes = beanConstructorExceptions(goal);
+    if (goal.details.prefetch && !thrownTypes.isEmpty()) {
+      throw new ValidationException(BEAN_PREFETCH_THROWS, goal.beanType);
+    }
+    return BeanGoalDescription.create(goal.details, validBeanParameters, thrownTypes);
   }
 
   private static List<TypeName> beanConstructorExceptions(BeanGoalElement goal) {
@@ -5,6 +5,7 @@ import net.zerobuilder.compiler.analyse.DtoGoalElement.RegularGoalElement;
 import net.zerobuilder.compiler.analyse.DtoGoalElement.RegularProjectableGoalElement;
 import net.zerobuilder.compiler.analyse.ProjectionValidator.TmpProjectedParameter;
 import net.zerobuilder.compiler.analyse.ProjectionValidator.TmpSimpleParameter;
+import net.zerobuilder.compiler.generate.DtoProjectionInfo;
 import net.zerobuilder.compiler.generate.DtoProjectionInfo.FieldAccess;
 import net.zerobuilder.compiler.generate.DtoProjectionInfo.ProjectionInfo;
 import net.zerobuilder.compiler.generate.DtoProjectionInfo.ProjectionMethod;
@@ -28,6 +29,7 @@ import static javax.lang.model.element.Modifier.ABSTRACT;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.STATIC;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.ABSTRACT_CONSTRUCTOR;
+import static net.zerobuilder.compiler.Messages.ErrorMessages.LAZY_TOO_MANY_PARAMETERS;
 import static net.zerobuilder.compiler.Messages.ErrorMessages.MISSING_PROJECTION;
 import static net.zerobuilder.compiler.analyse.DtoGoalElement.executableElement;
 import static net.zerobuilder.compiler.analyse.ProjectionValidator.TmpProjectedParameter.toValidParameter;
@@ -37,6 +39,8 @@ import static net.zerobuilder.compiler.common.LessElements.getLocalAndInheritedF
 import static net.zerobuilder.compiler.common.LessElements.getLocalAndInheritedMethods;
 import static net.zerobuilder.compiler.common.LessTypes.asTypeElement;
 import static net.zerobuilder.compiler.common.LessTypes.isDeclaredType;
+import static net.zerobuilder.compiler.generate.DtoRegularGoalDescription.ProjectedRegularGoalDescription.LAZY_MAX_PARAMETERS;
+import static net.zerobuilder.compiler.generate.ZeroUtil.flatList;
 import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
 
@@ -68,6 +72,23 @@ final class ProjectionValidatorV {
         return createGoalDescription(goal, parameters);
       };
 
+  /**
+   * @param goal a constructor, or a method that returns a declared type
+   * @return the exceptions that the projections of the parameters of {@code goal} may throw
+   * @throws ValidationException if a projection is missing
+   */
+  static List<TypeName> projectionThrownTypes(ExecutableElement goal) {
+    TypeElement type = asTypeElement(goal.getKind() == CONSTRUCTOR ?
+        goal.getEnclosingElement().asType() :
+        goal.getReturnType());
+    Map<String, ExecutableElement> methods = getLocalAndInheritedMethods(type, LOOKS_LIKE_PROJECTION);
+    Map<String, VariableElement> fields = getLocalAndInheritedFields(type);
+    return goal.getParameters().stream()
+        .map(parameter -> projectionInfo(methods, fields, parameter))
+        .map(DtoProjectionInfo.thrownTypes)
+        .collect(flatList());
+  }
+
   private static ProjectionInfo projectionInfo(Map<String, ExecutableElement> methods,
                                                Map<String, VariableElement> fields,
                                                VariableElement parameter) {
@@ -111,15 +132,21 @@ final class ProjectionValidatorV {
         goal.details,
         thrownTypes,
         transform(shuffled, parameter -> parameter.parameter),
-        goal.context);
+        goal.context,
+        goal.goalAnnotation.batch,
+        goal.goalAnnotation.function);
   };
 
   private static ProjectedRegularGoalDescription createGoalDescription(RegularProjectableGoalElement goal,
                                                                        List<TmpProjectedParameter> parameters) {
     List<TmpProjectedParameter> shuffled = shuffledParameters(parameters);
+    if (goal.goalAnnotation.lazy && parameters.size() > LAZY_MAX_PARAMETERS) {
+      throw new ValidationException(LAZY_TOO_MANY_PARAMETERS, goal.executableElement);
+    }
     return ProjectedRegularGoalDescription.create(
         goal.details, thrownTypes(goal.executableElement),
-        transform(shuffled, toValidParameter), goal.context);
+        transform(shuffled, toValidParameter), goal.context,
+        goal.goalAnnotation.lazy, goal.goalAnnotation.identity);
   }
 
   private ProjectionValidatorV() {
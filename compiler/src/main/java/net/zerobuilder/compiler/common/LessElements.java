@@ -11,10 +11,13 @@ import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.SimpleElementVisitor6;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.ElementKind.PACKAGE;
 import static javax.lang.model.util.ElementFilter.fieldsIn;
 import static javax.lang.model.util.ElementFilter.methodsIn;
@@ -51,6 +54,63 @@ public final class LessElements {
         }
       };
 
+  private static final ThreadLocal<Map<TypeElement, MethodTable>> methodTables = new ThreadLocal<>();
+
+  /**
+   * The non-static methods that a type declares, and links to the method tables of its supertypes.
+   */
+  private static final class MethodTable {
+    final List<ExecutableElement> methods;
+    final MethodTable superclass;
+    final List<MethodTable> interfaces;
+
+    private MethodTable(List<ExecutableElement> methods, MethodTable superclass,
+                        List<MethodTable> interfaces) {
+      this.methods = methods;
+      this.superclass = superclass;
+      this.interfaces = interfaces;
+    }
+  }
+
+  /**
+   * Start caching method tables on the current thread,
+   * so that a common supertype is only scanned once.
+   * Must be followed by {@link #closeMethodTableCache()}, at the end of the round.
+   */
+  public static void openMethodTableCache() {
+    methodTables.set(new HashMap<>());
+  }
+
+  public static void closeMethodTableCache() {
+    methodTables.remove();
+  }
+
+  private static MethodTable methodTable(TypeElement type) {
+    Map<TypeElement, MethodTable> cache = methodTables.get();
+    if (cache == null) {
+      return createMethodTable(type);
+    }
+    MethodTable table = cache.get(type);
+    if (table == null) {
+      table = createMethodTable(type);
+      cache.put(type, table);
+    }
+    return table;
+  }
+
+  private static MethodTable createMethodTable(TypeElement type) {
+    List<ExecutableElement> methods = methodsIn(type.getEnclosedElements()).stream()
+        .filter(method -> method.getKind() == ElementKind.METHOD
+            && !method.getModifiers().contains(Modifier.STATIC))
+        .collect(toList());
+    TypeMirror superclass = type.getSuperclass();
+    return new MethodTable(methods,
+        superclass.getKind() == TypeKind.NONE ? null : methodTable(asTypeElement(superclass)),
+        type.getInterfaces().stream()
+            .map(superInterface -> methodTable(asTypeElement(superInterface)))
+            .collect(toList()));
+  }
+
   /**
    * Find all non-static, visible methods that match the predicate, and group by name.
    * In case of name conflict, the first found wins.
@@ -69,8 +129,11 @@ public final class LessElements {
       TypeElement type, Predicate<ExecutableElement> predicate) {
     Map<String, ExecutableElement> methods = new LinkedHashMap<>();
     PackageElement pkg = getPackage(type);
-    addFromSuperclass(pkg, type, methods, predicate);
-    addFromInterfaces(pkg, type, methods, predicate);
+    MethodTable table = methodTable(type);
+    for (MethodTable t = table; t != null; t = t.superclass) {
+      addEnclosedMethods(pkg, t, methods, predicate);
+    }
+    addFromInterfaces(pkg, table, methods, predicate);
     return methods;
   }
 
@@ -92,40 +155,23 @@ public final class LessElements {
     addFieldsFromSuperclass(pkg, asTypeElement(superclass), methods);
   }
 
-  private static void addFromSuperclass(
-      PackageElement pkg, TypeElement type, Map<String, ExecutableElement> methods,
-      Predicate<ExecutableElement> predicate) {
-    addEnclosedMethods(pkg, type, methods, predicate);
-    TypeMirror superclass = type.getSuperclass();
-    if (superclass.getKind() == TypeKind.NONE) {
-      return;
-    }
-    addFromSuperclass(pkg, asTypeElement(superclass), methods,
-        predicate);
-  }
-
   private static void addFromInterfaces(
-      PackageElement pkg, TypeElement type, Map<String, ExecutableElement> methods,
+      PackageElement pkg, MethodTable table, Map<String, ExecutableElement> methods,
       Predicate<ExecutableElement> predicate) {
-    addEnclosedMethods(pkg, type, methods, predicate);
-    for (TypeMirror superInterface : type.getInterfaces()) {
-      addFromInterfaces(pkg, asTypeElement(superInterface), methods,
-          predicate);
+    addEnclosedMethods(pkg, table, methods, predicate);
+    for (MethodTable superInterface : table.interfaces) {
+      addFromInterfaces(pkg, superInterface, methods, predicate);
     }
   }
 
-  private static void addEnclosedMethods(PackageElement pkg, TypeElement type, Map<String, ExecutableElement> methods,
+  private static void addEnclosedMethods(PackageElement pkg, MethodTable table, Map<String, ExecutableElement> methods,
                                          Predicate<ExecutableElement> predicate) {
-    methodsIn(type.getEnclosedElements())
-        .stream()
-        .filter(predicate)
-        .forEach(method -> {
-          if (method.getKind() == ElementKind.METHOD
-              && !method.getModifiers().contains(Modifier.STATIC)
-              && methodVisibleFromPackage(method, pkg)) {
-            methods.computeIfAbsent(method.getSimpleName().toString(), name -> method);
-          }
-        });
+    for (ExecutableElement method : table.methods) {
+      if (predicate.test(method)
+          && methodVisibleFromPackage(method, pkg)) {
+        methods.computeIfAbsent(method.getSimpleName().toString(), name -> method);
+      }
+    }
   }
 
   private static void addEnclosedFields(PackageElement pkg, TypeElement type, Map<String, VariableElement> fields) {
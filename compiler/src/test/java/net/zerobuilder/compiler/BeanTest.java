@@ -93,5 +93,176 @@ public class BeanTest {
         .and().generatesSources(expected);
   }
 
+  @Test
+  public void inPlace() {
+    JavaFileObject businessAnalyst = forSourceLines("beans.BusinessAnalyst",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "import java.util.ArrayList;",
+        "",
+        "@BeanBuilder(inPlace = true)",
+        "public class BusinessAnalyst {",
+        "  private String name;",
+        "  private List<String> notes;",
+        "  BusinessAnalyst() throws ClassNotFoundException {}",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "  public List<String> getNotes() {",
+        "    if (notes == null) notes = new ArrayList<>();",
+        "    return notes;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "beans.BusinessAnalystBuilders",
+        "package beans;",
+        "",
+        "import java.util.Collection;",
+        "import java.util.List;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class BusinessAnalystBuilders {",
+        "  private BusinessAnalystBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static BusinessAnalystBuilder.Name businessAnalystBuilder() throws ClassNotFoundException {",
+        "    return new BusinessAnalystBuilderImpl();",
+        "  }",
+        "",
+        "  public static BusinessAnalystUpdater businessAnalystUpdater(BusinessAnalyst businessAnalyst) {",
+        "    if (businessAnalyst == null) {",
+        "      throw new NullPointerException(\"businessAnalyst\");",
+        "    }",
+        "    return new BusinessAnalystUpdater(businessAnalyst);",
+        "  }",
+        "",
+        "  private static final class BusinessAnalystBuilderImpl implements BusinessAnalystBuilder.Name, BusinessAnalystBuilder.Notes {",
+        "    private final BusinessAnalyst businessAnalyst;",
+        "",
+        "    BusinessAnalystBuilderImpl() throws ClassNotFoundException {",
+        "      this.businessAnalyst = new BusinessAnalyst();",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalystBuilder.Notes name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalyst notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystBuilder {",
+        "    private BusinessAnalystBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Name {",
+        "      Notes name(String name);",
+        "    }",
+        "",
+        "    public interface Notes {",
+        "      BusinessAnalyst notes(Iterable<? extends String> notes);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystUpdater {",
+        "    private final BusinessAnalyst businessAnalyst;",
+        "",
+        "    private BusinessAnalystUpdater(BusinessAnalyst businessAnalyst) {",
+        "      this.businessAnalyst = businessAnalyst;",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      if (notes != _notes) {",
+        "        _notes.clear();",
+        "        if (notes instanceof Collection) {",
+        "          _notes.addAll((Collection<? extends String>) notes);",
+        "        } else {",
+        "          for (String string : notes) {",
+        "            _notes.add(string);",
+        "          }",
+        "        }",
+        "      }",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalyst done() {",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(businessAnalyst))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
 
+  // the method table of AbstractEntity is shared, but the visibility of getNote depends on the package
+  @Test
+  public void sharedSuperclass() {
+    JavaFileObject abstractEntity = forSourceLines("base.AbstractEntity",
+        "package base;",
+        "",
+        "public abstract class AbstractEntity {",
+        "  private Long id;",
+        "  private String note;",
+        "  public Long getId() { return id; }",
+        "  public void setId(Long id) { this.id = id; }",
+        "  String getNote() { return note; }",
+        "  void setNote(String note) { this.note = note; }",
+        "}");
+    JavaFileObject local = forSourceLines("base.Local",
+        "package base;",
+        "import net.zerobuilder.*;",
+        "",
+        "@BeanBuilder",
+        "public class Local extends AbstractEntity {",
+        "}");
+    JavaFileObject customer = forSourceLines("beans.Customer",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "",
+        "@BeanBuilder",
+        "public class Customer extends base.AbstractEntity {",
+        "  private String name;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "}");
+    JavaFileObject user = forSourceLines("beans.User",
+        "package beans;",
+        "import base.Local;",
+        "import base.LocalBuilders;",
+        "",
+        "final class User {",
+        "  static Customer customer() {",
+        "    Local local = LocalBuilders.localBuilder().id(1L).note(\"note\");",
+        "    return CustomerBuilders.customerBuilder().id(local.getId()).name(\"name\");",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(abstractEntity, local, customer, user))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError();
+  }
 }
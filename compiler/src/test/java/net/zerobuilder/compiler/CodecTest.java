@@ -0,0 +1,303 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class CodecTest {
+
+  @Test
+  public void primitives() {
+    JavaFileObject color = forSourceLines("cc.Color",
+        "package cc;",
+        "import net.zerobuilder.*;",
+        "public final class Color {",
+        "  final int rgb;",
+        "  final boolean alpha;",
+        "  @Codec",
+        "  public Color(int rgb, boolean alpha) { this.rgb = rgb; this.alpha = alpha; }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cc.ColorBuilders",
+        "package cc;",
+        "",
+        "import java.nio.ByteBuffer;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class ColorBuilders {",
+        "  private ColorBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static void colorEncode(Color color, ByteBuffer _buffer) {",
+        "    _buffer.putInt(color.rgb);",
+        "    _buffer.put((byte) (color.alpha ? 1 : 0));",
+        "  }",
+        "",
+        "  public static Color colorDecode(ByteBuffer _buffer) {",
+        "    int rgb = _buffer.getInt();",
+        "    boolean alpha = _buffer.get() != 0;",
+        "    return new Color(rgb, alpha);",
+        "  }",
+        "",
+        "  public static int colorEncodedSize(Color color) {",
+        "    int _size = 5;",
+        "    return _size;",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(color))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  @Test
+  public void recursive() {
+    JavaFileObject node = forSourceLines("cc.Node",
+        "package cc;",
+        "import java.io.IOException;",
+        "import net.zerobuilder.*;",
+        "final class Node {",
+        "  private final String label;",
+        "  final Node next;",
+        "  @Codec",
+        "  Node(String label, Node next) throws IOException {",
+        "    this.label = label;",
+        "    this.next = next;",
+        "  }",
+        "  String getLabel() throws IOException {",
+        "    return label;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cc.NodeBuilders",
+        "package cc;",
+        "",
+        "import java.io.IOException;",
+        "import java.nio.BufferUnderflowException;",
+        "import java.nio.ByteBuffer;",
+        "import java.nio.charset.StandardCharsets;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class NodeBuilders {",
+        "  private NodeBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static void nodeEncode(Node node, ByteBuffer _buffer) throws IOException {",
+        "    Utf8.put(_buffer, node.getLabel());",
+        "    Node next = node.next;",
+        "    if (next == null) {",
+        "      _buffer.put((byte) 0);",
+        "    } else {",
+        "      _buffer.put((byte) 1);",
+        "      NodeBuilders.nodeEncode(next, _buffer);",
+        "    }",
+        "  }",
+        "",
+        "  public static Node nodeDecode(ByteBuffer _buffer) throws IOException {",
+        "    String label = Utf8.get(_buffer);",
+        "    Node next = _buffer.get() == 0 ? null : NodeBuilders.nodeDecode(_buffer);",
+        "    return new Node(label, next);",
+        "  }",
+        "",
+        "  public static int nodeEncodedSize(Node node) throws IOException {",
+        "    int _size = 0;",
+        "    _size += Utf8.encodedSize(node.getLabel());",
+        "    Node next = node.next;",
+        "    _size += next == null ? 1 : 1 + NodeBuilders.nodeEncodedSize(next);",
+        "    return _size;",
+        "  }",
+        "",
+        "  private static final class Utf8 {",
+        "    private Utf8() {",
+        "    }",
+        "",
+        "    static int encodedSize(String s) {",
+        "      return s == null ? 4 : 4 + length(s);",
+        "    }",
+        "",
+        "    static int length(String s) {",
+        "      int n = 0;",
+        "      for (int i = 0; i < s.length(); i++) {",
+        "        char c = s.charAt(i);",
+        "        if (c < 0x80) {",
+        "          n += 1;",
+        "        } else if (c < 0x800) {",
+        "          n += 2;",
+        "        } else if (!Character.isSurrogate(c)) {",
+        "          n += 3;",
+        "        } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {",
+        "          n += 4;",
+        "          i++;",
+        "        } else {",
+        "          n += 1;",
+        "        }",
+        "      }",
+        "      return n;",
+        "    }",
+        "",
+        "    static void put(ByteBuffer buffer, String s) {",
+        "      if (s == null) {",
+        "        buffer.putInt(-1);",
+        "        return;",
+        "      }",
+        "      buffer.putInt(length(s));",
+        "      for (int i = 0; i < s.length(); i++) {",
+        "        char c = s.charAt(i);",
+        "        if (c < 0x80) {",
+        "          buffer.put((byte) c);",
+        "        } else if (c < 0x800) {",
+        "          buffer.put((byte) (0xc0 | c >> 6));",
+        "          buffer.put((byte) (0x80 | c & 0x3f));",
+        "        } else if (!Character.isSurrogate(c)) {",
+        "          buffer.put((byte) (0xe0 | c >> 12));",
+        "          buffer.put((byte) (0x80 | c >> 6 & 0x3f));",
+        "          buffer.put((byte) (0x80 | c & 0x3f));",
+        "        } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {",
+        "          int cp = Character.toCodePoint(c, s.charAt(++i));",
+        "          buffer.put((byte) (0xf0 | cp >> 18));",
+        "          buffer.put((byte) (0x80 | cp >> 12 & 0x3f));",
+        "          buffer.put((byte) (0x80 | cp >> 6 & 0x3f));",
+        "          buffer.put((byte) (0x80 | cp & 0x3f));",
+        "        } else {",
+        "          buffer.put((byte) '?');",
+        "        }",
+        "      }",
+        "    }",
+        "",
+        "    static String get(ByteBuffer buffer) {",
+        "      int length = buffer.getInt();",
+        "      if (length == -1) {",
+        "        return null;",
+        "      }",
+        "      if (length < 0) {",
+        "        throw new IllegalArgumentException(\"negative length: \" + length);",
+        "      }",
+        "      if (buffer.remaining() < length) {",
+        "        throw new BufferUnderflowException();",
+        "      }",
+        "      if (buffer.hasArray()) {",
+        "        int position = buffer.position();",
+        "        buffer.position(position + length);",
+        "        return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);",
+        "      }",
+        "      byte[] bytes = new byte[length];",
+        "      buffer.get(bytes);",
+        "      return new String(bytes, StandardCharsets.UTF_8);",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(node))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  // parameters that look like the generated variables
+  @Test
+  public void generatedNames() {
+    JavaFileObject box = forSourceLines("cc.Box",
+        "package cc;",
+        "import net.zerobuilder.*;",
+        "final class Box {",
+        "  final Inner size;",
+        "  final Inner buffer;",
+        "  final Inner box;",
+        "  final Inner _size;",
+        "  final int _buffer;",
+        "  @Codec",
+        "  Box(Inner size, Inner buffer, Inner box, Inner _size, int _buffer) {",
+        "    this.size = size;",
+        "    this.buffer = buffer;",
+        "    this.box = box;",
+        "    this._size = _size;",
+        "    this._buffer = _buffer;",
+        "  }",
+        "  static final class Inner {",
+        "    final int value;",
+        "    @Codec",
+        "    Inner(int value) { this.value = value; }",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cc.BoxBuilders",
+        "package cc;",
+        "",
+        "import java.nio.ByteBuffer;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class BoxBuilders {",
+        "  private BoxBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static void boxEncode(Box box, ByteBuffer a_buffer) {",
+        "    Box.Inner size = box.size;",
+        "    if (size == null) {",
+        "      a_buffer.put((byte) 0);",
+        "    } else {",
+        "      a_buffer.put((byte) 1);",
+        "      Box_InnerBuilders.innerEncode(size, a_buffer);",
+        "    }",
+        "    Box.Inner buffer = box.buffer;",
+        "    if (buffer == null) {",
+        "      a_buffer.put((byte) 0);",
+        "    } else {",
+        "      a_buffer.put((byte) 1);",
+        "      Box_InnerBuilders.innerEncode(buffer, a_buffer);",
+        "    }",
+        "    Box.Inner aBox = box.box;",
+        "    if (aBox == null) {",
+        "      a_buffer.put((byte) 0);",
+        "    } else {",
+        "      a_buffer.put((byte) 1);",
+        "      Box_InnerBuilders.innerEncode(aBox, a_buffer);",
+        "    }",
+        "    Box.Inner _size = box._size;",
+        "    if (_size == null) {",
+        "      a_buffer.put((byte) 0);",
+        "    } else {",
+        "      a_buffer.put((byte) 1);",
+        "      Box_InnerBuilders.innerEncode(_size, a_buffer);",
+        "    }",
+        "    a_buffer.putInt(box._buffer);",
+        "  }",
+        "",
+        "  public static Box boxDecode(ByteBuffer a_buffer) {",
+        "    Box.Inner size = a_buffer.get() == 0 ? null : Box_InnerBuilders.innerDecode(a_buffer);",
+        "    Box.Inner buffer = a_buffer.get() == 0 ? null : Box_InnerBuilders.innerDecode(a_buffer);",
+        "    Box.Inner box = a_buffer.get() == 0 ? null : Box_InnerBuilders.innerDecode(a_buffer);",
+        "    Box.Inner _size = a_buffer.get() == 0 ? null : Box_InnerBuilders.innerDecode(a_buffer);",
+        "    int _buffer = a_buffer.getInt();",
+        "    return new Box(size, buffer, box, _size, _buffer);",
+        "  }",
+        "",
+        "  public static int boxEncodedSize(Box box) {",
+        "    int a_size = 4;",
+        "    Box.Inner size = box.size;",
+        "    a_size += size == null ? 1 : 1 + Box_InnerBuilders.innerEncodedSize(size);",
+        "    Box.Inner buffer = box.buffer;",
+        "    a_size += buffer == null ? 1 : 1 + Box_InnerBuilders.innerEncodedSize(buffer);",
+        "    Box.Inner aBox = box.box;",
+        "    a_size += aBox == null ? 1 : 1 + Box_InnerBuilders.innerEncodedSize(aBox);",
+        "    Box.Inner _size = box._size;",
+        "    a_size += _size == null ? 1 : 1 + Box_InnerBuilders.innerEncodedSize(_size);",
+        "    return a_size;",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(box))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
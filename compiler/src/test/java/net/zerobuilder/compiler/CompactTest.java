@@ -0,0 +1,126 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class CompactTest {
+
+  @Test
+  public void sharedSteps() {
+    JavaFileObject cube = forSourceLines("cube.Money",
+        "package cube;",
+        "import net.zerobuilder.*;",
+        "",
+        "final class Money {",
+        "  final String currency;",
+        "  final long amount;",
+        "",
+        "  @Builder",
+        "  Money(String currency, long amount) {",
+        "    this.currency = currency;",
+        "    this.amount = amount;",
+        "  }",
+        "",
+        "  @Builder",
+        "  @GoalName(\"euro\")",
+        "  static Money euro(long amount) {",
+        "    return new Money(\"EUR\", amount);",
+        "  }",
+        "",
+        "  @Builder",
+        "  @GoalName(\"plus\")",
+        "  Money plus(long amount) {",
+        "    return new Money(currency, this.amount + amount);",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cube.MoneyBuilders",
+        "package cube;",
+        "",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class MoneyBuilders {",
+        "  private static final EuroBuilderImpl euroBuilderImpl = new EuroBuilderImpl();",
+        "",
+        "  private MoneyBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static MoneyBuilder moneyBuilder() {",
+        "    return new MoneyBuilderImpl();",
+        "  }",
+        "",
+        "  public static MoneyBuilder.Amount euroBuilder() {",
+        "    return euroBuilderImpl;",
+        "  }",
+        "",
+        "  public static MoneyBuilder.Amount plusBuilder(Money money) {",
+        "    return new PlusBuilderImpl(money);",
+        "  }",
+        "",
+        "  private static final class MoneyBuilderImpl implements MoneyBuilder, MoneyBuilder.Amount {",
+        "    private String currency;",
+        "",
+        "    MoneyBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public MoneyBuilder.Amount currency(String currency) {",
+        "      this.currency = currency;",
+        "      return this;",
+        "    }",
+        "",
+        "    @Override",
+        "    public Money amount(long amount) {",
+        "      Money _money = new Money(currency, amount);",
+        "      return _money;",
+        "    }",
+        "  }",
+        "",
+        "  public interface MoneyBuilder {",
+        "    Amount currency(String currency);",
+        "",
+        "    interface Amount {",
+        "      Money amount(long amount);",
+        "    }",
+        "  }",
+        "",
+        "  private static final class EuroBuilderImpl implements MoneyBuilder.Amount {",
+        "    EuroBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public Money amount(long amount) {",
+        "      Money _money = Money.euro(amount);",
+        "      return _money;",
+        "    }",
+        "  }",
+        "",
+        "  private static final class PlusBuilderImpl implements MoneyBuilder.Amount {",
+        "    private final Money _money;",
+        "",
+        "    PlusBuilderImpl(Money money) {",
+        "      this._money = money;",
+        "    }",
+        "",
+        "    @Override",
+        "    public Money amount(long amount) {",
+        "      Money _money = this._money.plus(amount);",
+        "      return _money;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSource()).that(cube)
+        .withCompilerOptions("-Azerobuilder.compact=true")
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
@@ -0,0 +1,25 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class CountingWriterTest {
+
+  @Test
+  public void utf8() throws IOException {
+    String s = "x = \"é€😀\";\n";
+    StringWriter out = new StringWriter();
+    CountingWriter writer = new CountingWriter(out);
+    writer.write(s, 0, 5);
+    writer.write(s.charAt(5));
+    writer.write(s.substring(6).toCharArray());
+    assertThat(out.toString(), is(s));
+    assertThat(writer.bytes(), is((long) s.getBytes(UTF_8).length));
+  }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 
 import javax.tools.JavaFileObject;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -81,4 +82,226 @@ public class FailTest {
         .withErrorContaining("Missing projection: foo")
         .in(javaFile);
   }
+
+  @Test
+  public void recycleImmutable() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  @Builder(style = Style.IMMUTABLE)",
+        "  @Recycle",
+        "  Bu(int foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("Try Style.FLAT instead")
+        .in(javaFile);
+  }
+
+  @Test
+  public void lazyTooManyParameters() {
+    List<String> names = new ArrayList<>();
+    List<String> parameters = new ArrayList<>();
+    for (int i = 0; i < 65; i++) {
+      names.add("a" + i);
+      parameters.add("int a" + i);
+    }
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  int " + String.join(", ", names) + ";",
+        "  @Updater(lazy = true)",
+        "  Bu(" + String.join(", ", parameters) + ") {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("at most 64 parameters")
+        .in(javaFile);
+  }
+
+  @Test
+  public void batchGenerics() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu<T> {",
+        "  @Builder(batch = true)",
+        "  Bu(T foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("Batch is only supported")
+        .in(javaFile);
+  }
+
+  @Test
+  public void functionThrows() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  @Builder(function = true)",
+        "  Bu(int foo) throws java.io.IOException {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("Function is only supported")
+        .in(javaFile);
+  }
+
+  @Test
+  public void statsStriped() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  @Builder",
+        "  @Recycle(value = Pool.STRIPED, stats = true)",
+        "  Bu(int foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("only available for Pool.SHARED")
+        .in(javaFile);
+  }
+
+  @Test
+  public void prefetchRegular() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  @Builder",
+        "  @Recycle(prefetch = true)",
+        "  Bu(int foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("only available for @BeanBuilder")
+        .in(javaFile);
+  }
+
+  @Test
+  public void prefetchThrows() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "@BeanBuilder",
+        "@Recycle(prefetch = true)",
+        "public class Bu {",
+        "  private int foo;",
+        "  public Bu() throws java.io.IOException {}",
+        "  public int getFoo() { return foo; }",
+        "  public void setFoo(int foo) { this.foo = foo; }",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("bean constructor declares any exceptions")
+        .in(javaFile);
+  }
+
+  @Test
+  public void beanStripedStats() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "@BeanBuilder",
+        "@Recycle(value = Pool.STRIPED, stats = true)",
+        "public class Bu {",
+        "  private int foo;",
+        "  public int getFoo() { return foo; }",
+        "  public void setFoo(int foo) { this.foo = foo; }",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("Stats are only available for Pool.SHARED")
+        .in(javaFile);
+  }
+
+  @Test
+  public void monomorphicGenerics() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu<T> {",
+        "  @Builder(style = Style.MONOMORPHIC)",
+        "  Bu(T foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("Style.MONOMORPHIC is only supported")
+        .in(javaFile);
+  }
+
+  @Test
+  public void codecInstanceMethod() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  final int foo = 5;",
+        "  @Codec Bu create(int foo) { return null; }",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("@Codec is only supported")
+        .in(javaFile);
+  }
+
+  @Test
+  public void codecUnsupportedType() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "class Bu {",
+        "  final List<String> foo = null;",
+        "  @Codec Bu(List<String> foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("@Codec needs a primitive, a String, or a type with its own @Codec goal: foo")
+        .in(javaFile);
+  }
+
+  @Test
+  public void jsonUnsupportedType() {
+    List<String> sourceLines = Arrays.asList(
+        "package test;",
+        "import net.zerobuilder.*;",
+        "class Bu {",
+        "  final Integer foo = null;",
+        "  @Json Bu(Integer foo) {}",
+        "}");
+    JavaFileObject javaFile = forSourceLines("test.Bu", sourceLines);
+    assertAbout(javaSources()).that(ImmutableList.of(javaFile))
+        .processedWith(new ZeroProcessor())
+        .failsToCompile()
+        .withErrorContaining("@Json needs a primitive, a String, or a type with its own @Json goal: foo")
+        .in(javaFile);
+  }
 }
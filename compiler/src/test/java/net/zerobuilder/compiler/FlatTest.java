@@ -0,0 +1,96 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class FlatTest {
+
+  @Test
+  public void staticMethod() {
+    JavaFileObject cube = forSourceLines("cube.Fuchur",
+        "package cube;",
+        "import net.zerobuilder.*;",
+        "import java.util.Map;",
+        "import java.util.List;",
+        "import java.util.HashMap;",
+        "",
+        "final class Fuchur {",
+        "  @Builder(style = Style.FLAT)",
+        "  static <K, V> Map<K, V> multiKey(List<K> keys, V value) {",
+        "    Map<K, V> m = new HashMap<>();",
+        "    for (K key : keys) {",
+        "      m.put(key, value);",
+        "    }",
+        "    return m;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cube.FuchurBuilders",
+        "package cube;",
+        "import java.util.List;",
+        "import java.util.Map;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class FuchurBuilders {",
+        "",
+        "  private FuchurBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static MapBuilder.Keys mapBuilder() {",
+        "    return new MapBuilderImpl();",
+        "  }",
+        "",
+        "  @SuppressWarnings({\"rawtypes\", \"unchecked\"})",
+        "  private static final class MapBuilderImpl implements MapBuilder.Keys, MapBuilder.Value {",
+        "    private int _step;",
+        "    private List keys;",
+        "",
+        "    MapBuilderImpl() {}",
+        "",
+        "    private MapBuilderImpl(MapBuilderImpl _source) {",
+        "      this.keys = _source.keys;",
+        "    }",
+        "",
+        "    @Override",
+        "    public MapBuilder.Value keys(List keys) {",
+        "      MapBuilderImpl _impl = this._step == 0 ? this : new MapBuilderImpl(this);",
+        "      _impl.keys = keys;",
+        "      _impl._step = 1;",
+        "      return _impl;",
+        "    }",
+        "",
+        "    @Override",
+        "    public Map value(Object value) {",
+        "      return Fuchur.multiKey(keys, value);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class MapBuilder {",
+        "    private MapBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Keys {",
+        "      <K> Value<K> keys(List<K> keys);",
+        "    }",
+        "",
+        "    public interface Value<K> {",
+        "      <V> Map<K, V> value(V value);",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(cube))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
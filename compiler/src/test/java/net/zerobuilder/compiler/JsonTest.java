@@ -0,0 +1,1003 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class JsonTest {
+
+  @Test
+  public void primitives() {
+    JavaFileObject color = forSourceLines("jj.Color",
+        "package jj;",
+        "import net.zerobuilder.*;",
+        "public final class Color {",
+        "  final int rgb;",
+        "  final boolean alpha;",
+        "  @Json",
+        "  public Color(int rgb, boolean alpha) { this.rgb = rgb; this.alpha = alpha; }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "jj.ColorBuilders",
+        "package jj;",
+        "",
+        "import java.text.ParsePosition;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class ColorBuilders {",
+        "  private ColorBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static void colorToJson(Color color, StringBuilder _out) {",
+        "    _out.append(\"{\\\"rgb\\\":\");",
+        "    _out.append(color.rgb);",
+        "    _out.append(\",\\\"alpha\\\":\");",
+        "    _out.append(color.alpha);",
+        "    _out.append('}');",
+        "  }",
+        "",
+        "  public static String colorToJson(Color color) {",
+        "    StringBuilder _out = new StringBuilder();",
+        "    colorToJson(color, _out);",
+        "    return _out.toString();",
+        "  }",
+        "",
+        "  public static Color colorFromJson(String _json, ParsePosition _position) {",
+        "    int rgb = 0;",
+        "    boolean alpha = false;",
+        "    if (JsonSupport.beginObject(_json, _position)) {",
+        "      do {",
+        "        int _start = _position.getIndex();",
+        "        switch (JsonSupport.name(_json, _position, 31)) {",
+        "          case 112845:",
+        "            if (_json.startsWith(\"\\\"rgb\\\"\", _start)) {",
+        "              rgb = (int) JsonSupport.readLong(_json, _position, Integer.MIN_VALUE, Integer.MAX_VALUE);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 92909918:",
+        "            if (_json.startsWith(\"\\\"alpha\\\"\", _start)) {",
+        "              alpha = JsonSupport.readBoolean(_json, _position);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          default:",
+        "            break;",
+        "        }",
+        "        JsonSupport.skipValue(_json, _position);",
+        "      } while (JsonSupport.nextField(_json, _position));",
+        "    }",
+        "    return new Color(rgb, alpha);",
+        "  }",
+        "",
+        "  public static Color colorFromJson(String _json) {",
+        "    ParsePosition _position = new ParsePosition(0);",
+        "    Color _color = colorFromJson(_json, _position);",
+        "    JsonSupport.end(_json, _position);",
+        "    return _color;",
+        "  }",
+        "",
+        "  private static final class JsonSupport {",
+        "    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};",
+        "",
+        "    private JsonSupport() {",
+        "    }",
+        "",
+        "    static void string(StringBuilder out, String s) {",
+        "      if (s == null) {",
+        "        out.append(\"null\");",
+        "        return;",
+        "      }",
+        "      out.append('\"');",
+        "      int start = 0;",
+        "      for (int i = 0; i < s.length(); i++) {",
+        "        char c = s.charAt(i);",
+        "        if (c == '\"' || c == '\\\\' || c < 0x20) {",
+        "          out.append(s, start, i);",
+        "          escape(out, c);",
+        "          start = i + 1;",
+        "        }",
+        "      }",
+        "      out.append(s, start, s.length()).append('\"');",
+        "    }",
+        "",
+        "    static void character(StringBuilder out, char c) {",
+        "      out.append('\"');",
+        "      if (c == '\"' || c == '\\\\' || c < 0x20) {",
+        "        escape(out, c);",
+        "      } else {",
+        "        out.append(c);",
+        "      }",
+        "      out.append('\"');",
+        "    }",
+        "",
+        "    private static void escape(StringBuilder out, char c) {",
+        "      switch (c) {",
+        "        case '\"':",
+        "          out.append(\"\\\\\\\"\");",
+        "          return;",
+        "        case '\\\\':",
+        "          out.append(\"\\\\\\\\\");",
+        "          return;",
+        "        case '\\n':",
+        "          out.append(\"\\\\n\");",
+        "          return;",
+        "        case '\\r':",
+        "          out.append(\"\\\\r\");",
+        "          return;",
+        "        case '\\t':",
+        "          out.append(\"\\\\t\");",
+        "          return;",
+        "        case '\\b':",
+        "          out.append(\"\\\\b\");",
+        "          return;",
+        "        case '\\f':",
+        "          out.append(\"\\\\f\");",
+        "          return;",
+        "        default:",
+        "          out.append(\"\\\\u00\").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xf, 16));",
+        "      }",
+        "    }",
+        "",
+        "    static void number(StringBuilder out, double d) {",
+        "      if (Double.isNaN(d) || Double.isInfinite(d)) {",
+        "        throw new IllegalArgumentException(\"not a JSON number: \" + d);",
+        "      }",
+        "      out.append(d);",
+        "    }",
+        "",
+        "    static void number(StringBuilder out, float d) {",
+        "      if (Float.isNaN(d) || Float.isInfinite(d)) {",
+        "        throw new IllegalArgumentException(\"not a JSON number: \" + d);",
+        "      }",
+        "      out.append(d);",
+        "    }",
+        "",
+        "    static boolean beginObject(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (charAt(json, i) != '{') {",
+        "        throw error(\"expected '{'\", i);",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) == '}') {",
+        "        position.setIndex(i + 1);",
+        "        return false;",
+        "      }",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a member name\", i);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return true;",
+        "    }",
+        "",
+        "    static boolean nextField(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      char c = charAt(json, i);",
+        "      if (c == '}') {",
+        "        position.setIndex(i + 1);",
+        "        return false;",
+        "      }",
+        "      if (c != ',') {",
+        "        throw error(\"expected ',' or '}'\", i);",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a member name\", i);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return true;",
+        "    }",
+        "",
+        "    static int name(String json, ParsePosition position, int multiplier) {",
+        "      int h = 0;",
+        "      int i = position.getIndex() + 1;",
+        "      char c;",
+        "      while ((c = charAt(json, i)) != '\"') {",
+        "        if (c == '\\\\') {",
+        "          h = h * multiplier + c;",
+        "          c = charAt(json, ++i);",
+        "        }",
+        "        h = h * multiplier + c;",
+        "        i++;",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) != ':') {",
+        "        throw error(\"expected ':'\", i);",
+        "      }",
+        "      position.setIndex(i + 1);",
+        "      return h;",
+        "    }",
+        "",
+        "    static boolean readNull(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"null\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return true;",
+        "      }",
+        "      return false;",
+        "    }",
+        "",
+        "    static boolean readBoolean(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"true\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return true;",
+        "      }",
+        "      if (json.startsWith(\"false\", i)) {",
+        "        position.setIndex(i + 5);",
+        "        return false;",
+        "      }",
+        "      throw error(\"expected a boolean\", i);",
+        "    }",
+        "",
+        "    static long readLong(String json, ParsePosition position, long min, long max) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      int i = start;",
+        "      boolean negative = i < json.length() && json.charAt(i) == '-';",
+        "      if (negative) {",
+        "        i++;",
+        "      }",
+        "      long value = 0;",
+        "      int digits = i;",
+        "      for (char c; i < json.length() && (c = json.charAt(i)) >= '0' && c <= '9'; i++) {",
+        "        int digit = c - '0';",
+        "        if (value < (Long.MIN_VALUE + digit) / 10) {",
+        "          throw error(\"number out of range\", start);",
+        "        }",
+        "        value = value * 10 - digit;",
+        "      }",
+        "      if (i == digits) {",
+        "        throw error(\"expected an integer\", start);",
+        "      }",
+        "      if (i < json.length() && (json.charAt(i) == '.' || json.charAt(i) == 'e' || json.charAt(i) == 'E')) {",
+        "        throw error(\"expected an integer\", start);",
+        "      }",
+        "      if (!negative) {",
+        "        if (value == Long.MIN_VALUE) {",
+        "          throw error(\"number out of range\", start);",
+        "        }",
+        "        value = -value;",
+        "      }",
+        "      if (value < min || value > max) {",
+        "        throw error(\"number out of range\", start);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return value;",
+        "    }",
+        "",
+        "    static double readDouble(String json, ParsePosition position) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      int i = start;",
+        "      boolean negative = i < json.length() && json.charAt(i) == '-';",
+        "      if (negative) {",
+        "        i++;",
+        "      }",
+        "      long mantissa = 0;",
+        "      int digits = 0;",
+        "      int fraction = -1;",
+        "      boolean exponent = false;",
+        "      for (; i < json.length(); i++) {",
+        "        char c = json.charAt(i);",
+        "        if (c >= '0' && c <= '9') {",
+        "          if (digits++ < 15) {",
+        "            mantissa = mantissa * 10 + (c - '0');",
+        "          }",
+        "          if (fraction >= 0) {",
+        "            fraction++;",
+        "          }",
+        "        } else if (c == '.' && fraction < 0 && !exponent) {",
+        "          fraction = 0;",
+        "        } else if ((c == 'e' || c == 'E') && digits > 0 && !exponent) {",
+        "          exponent = true;",
+        "          if (i + 1 < json.length() && (json.charAt(i + 1) == '+' || json.charAt(i + 1) == '-')) {",
+        "            i++;",
+        "          }",
+        "        } else {",
+        "          break;",
+        "        }",
+        "      }",
+        "      if (digits == 0 || fraction == 0) {",
+        "        throw error(\"expected a number\", start);",
+        "      }",
+        "      position.setIndex(i);",
+        "      if (!exponent && digits <= 15 && fraction <= 22) {",
+        "        double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;",
+        "        return negative ? -value : value;",
+        "      }",
+        "      try {",
+        "        return Double.parseDouble(json.substring(start, i));",
+        "      } catch (NumberFormatException e) {",
+        "        throw error(\"expected a number\", start);",
+        "      }",
+        "    }",
+        "",
+        "    static char readChar(String json, ParsePosition position) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      String s = readString(json, position);",
+        "      if (s == null || s.length() != 1) {",
+        "        throw error(\"expected a single character\", start);",
+        "      }",
+        "      return s.charAt(0);",
+        "    }",
+        "",
+        "    static String readString(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"null\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return null;",
+        "      }",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a string\", i);",
+        "      }",
+        "      int start = ++i;",
+        "      char c;",
+        "      while ((c = charAt(json, i)) != '\"' && c != '\\\\') {",
+        "        i++;",
+        "      }",
+        "      if (c == '\"') {",
+        "        position.setIndex(i + 1);",
+        "        return json.substring(start, i);",
+        "      }",
+        "      StringBuilder sb = new StringBuilder(i - start + 16).append(json, start, i);",
+        "      while ((c = charAt(json, i++)) != '\"') {",
+        "        if (c != '\\\\') {",
+        "          sb.append(c);",
+        "          continue;",
+        "        }",
+        "        c = charAt(json, i++);",
+        "        switch (c) {",
+        "          case '\"':",
+        "          case '\\\\':",
+        "          case '/':",
+        "            sb.append(c);",
+        "            break;",
+        "          case 'n':",
+        "            sb.append('\\n');",
+        "            break;",
+        "          case 'r':",
+        "            sb.append('\\r');",
+        "            break;",
+        "          case 't':",
+        "            sb.append('\\t');",
+        "            break;",
+        "          case 'b':",
+        "            sb.append('\\b');",
+        "            break;",
+        "          case 'f':",
+        "            sb.append('\\f');",
+        "            break;",
+        "          case 'u':",
+        "            int u = 0;",
+        "            for (int end = i + 4; i < end; i++) {",
+        "              int digit = Character.digit(charAt(json, i), 16);",
+        "              if (digit < 0) {",
+        "                throw error(\"invalid escape sequence\", i);",
+        "              }",
+        "              u = u * 16 + digit;",
+        "            }",
+        "            sb.append((char) u);",
+        "            break;",
+        "          default:",
+        "            throw error(\"invalid escape sequence\", i - 1);",
+        "        }",
+        "      }",
+        "      position.setIndex(i);",
+        "      return sb.toString();",
+        "    }",
+        "",
+        "    static void skipValue(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      char c = charAt(json, i);",
+        "      if (c == '\"') {",
+        "        readString(json, position);",
+        "      } else if (c == '{') {",
+        "        if (beginObject(json, position)) {",
+        "          do {",
+        "            name(json, position, 31);",
+        "            skipValue(json, position);",
+        "          } while (nextField(json, position));",
+        "        }",
+        "      } else if (c == '[') {",
+        "        i = whitespace(json, i + 1);",
+        "        if (charAt(json, i) == ']') {",
+        "          position.setIndex(i + 1);",
+        "          return;",
+        "        }",
+        "        position.setIndex(i);",
+        "        while (true) {",
+        "          skipValue(json, position);",
+        "          i = whitespace(json, position.getIndex());",
+        "          c = charAt(json, i);",
+        "          position.setIndex(i + 1);",
+        "          if (c == ']') {",
+        "            return;",
+        "          }",
+        "          if (c != ',') {",
+        "            throw error(\"expected ',' or ']'\", i);",
+        "          }",
+        "        }",
+        "      } else if (c == 't' || c == 'f') {",
+        "        readBoolean(json, position);",
+        "      } else if (!readNull(json, position)) {",
+        "        readDouble(json, position);",
+        "      }",
+        "    }",
+        "",
+        "    static void end(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (i != json.length()) {",
+        "        throw error(\"unexpected characters\", i);",
+        "      }",
+        "    }",
+        "",
+        "    private static int whitespace(String json, int i) {",
+        "      while (i < json.length()) {",
+        "        char c = json.charAt(i);",
+        "        if (c != ' ' && c != '\\t' && c != '\\n' && c != '\\r') {",
+        "          break;",
+        "        }",
+        "        i++;",
+        "      }",
+        "      return i;",
+        "    }",
+        "",
+        "    private static char charAt(String json, int i) {",
+        "      if (i >= json.length()) {",
+        "        throw error(\"unexpected end of input\", i);",
+        "      }",
+        "      return json.charAt(i);",
+        "    }",
+        "",
+        "    private static IllegalArgumentException error(String message, int i) {",
+        "      return new IllegalArgumentException(message + \" at index \" + i);",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(color))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  // parameters that look like the generated variables
+  @Test
+  public void generatedNames() {
+    JavaFileObject box = forSourceLines("jj.Box",
+        "package jj;",
+        "import net.zerobuilder.*;",
+        "final class Box {",
+        "  final Inner out;",
+        "  final Inner box;",
+        "  final Inner _out;",
+        "  final int _json;",
+        "  final int _position;",
+        "  final int _start;",
+        "  final int _box;",
+        "  @Json",
+        "  Box(Inner out, Inner box, Inner _out, int _json, int _position, int _start, int _box) {",
+        "    this.out = out;",
+        "    this.box = box;",
+        "    this._out = _out;",
+        "    this._json = _json;",
+        "    this._position = _position;",
+        "    this._start = _start;",
+        "    this._box = _box;",
+        "  }",
+        "  static final class Inner {",
+        "    final int value;",
+        "    @Json",
+        "    Inner(int value) { this.value = value; }",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "jj.BoxBuilders",
+        "package jj;",
+        "",
+        "import java.text.ParsePosition;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class BoxBuilders {",
+        "  private BoxBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static void boxToJson(Box box, StringBuilder a_out) {",
+        "    a_out.append(\"{\\\"out\\\":\");",
+        "    Box.Inner out = box.out;",
+        "    if (out == null) {",
+        "      a_out.append(\"null\");",
+        "    } else {",
+        "      Box_InnerBuilders.innerToJson(out, a_out);",
+        "    }",
+        "    a_out.append(\",\\\"box\\\":\");",
+        "    Box.Inner aBox = box.box;",
+        "    if (aBox == null) {",
+        "      a_out.append(\"null\");",
+        "    } else {",
+        "      Box_InnerBuilders.innerToJson(aBox, a_out);",
+        "    }",
+        "    a_out.append(\",\\\"_out\\\":\");",
+        "    Box.Inner _out = box._out;",
+        "    if (_out == null) {",
+        "      a_out.append(\"null\");",
+        "    } else {",
+        "      Box_InnerBuilders.innerToJson(_out, a_out);",
+        "    }",
+        "    a_out.append(\",\\\"_json\\\":\");",
+        "    a_out.append(box._json);",
+        "    a_out.append(\",\\\"_position\\\":\");",
+        "    a_out.append(box._position);",
+        "    a_out.append(\",\\\"_start\\\":\");",
+        "    a_out.append(box._start);",
+        "    a_out.append(\",\\\"_box\\\":\");",
+        "    a_out.append(box._box);",
+        "    a_out.append('}');",
+        "  }",
+        "",
+        "  public static String boxToJson(Box box) {",
+        "    StringBuilder a_out = new StringBuilder();",
+        "    boxToJson(box, a_out);",
+        "    return a_out.toString();",
+        "  }",
+        "",
+        "  public static Box boxFromJson(String a_json, ParsePosition a_position) {",
+        "    Box.Inner out = null;",
+        "    Box.Inner box = null;",
+        "    Box.Inner _out = null;",
+        "    int _json = 0;",
+        "    int _position = 0;",
+        "    int _start = 0;",
+        "    int _box = 0;",
+        "    if (JsonSupport.beginObject(a_json, a_position)) {",
+        "      do {",
+        "        int a_start = a_position.getIndex();",
+        "        switch (JsonSupport.name(a_json, a_position, 31)) {",
+        "          case 110414:",
+        "            if (a_json.startsWith(\"\\\"out\\\"\", a_start)) {",
+        "              out = JsonSupport.readNull(a_json, a_position) ? null : Box_InnerBuilders.innerFromJson(a_json, a_position);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 97739:",
+        "            if (a_json.startsWith(\"\\\"box\\\"\", a_start)) {",
+        "              box = JsonSupport.readNull(a_json, a_position) ? null : Box_InnerBuilders.innerFromJson(a_json, a_position);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 2940559:",
+        "            if (a_json.startsWith(\"\\\"_out\\\"\", a_start)) {",
+        "              _out = JsonSupport.readNull(a_json, a_position) ? null : Box_InnerBuilders.innerFromJson(a_json, a_position);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 91006407:",
+        "            if (a_json.startsWith(\"\\\"_json\\\"\", a_start)) {",
+        "              _json = (int) JsonSupport.readLong(a_json, a_position, Integer.MIN_VALUE, Integer.MAX_VALUE);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 838322824:",
+        "            if (a_json.startsWith(\"\\\"_position\\\"\", a_start)) {",
+        "              _position = (int) JsonSupport.readLong(a_json, a_position, Integer.MIN_VALUE, Integer.MAX_VALUE);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case -1465440413:",
+        "            if (a_json.startsWith(\"\\\"_start\\\"\", a_start)) {",
+        "              _start = (int) JsonSupport.readLong(a_json, a_position, Integer.MIN_VALUE, Integer.MAX_VALUE);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          case 2927884:",
+        "            if (a_json.startsWith(\"\\\"_box\\\"\", a_start)) {",
+        "              _box = (int) JsonSupport.readLong(a_json, a_position, Integer.MIN_VALUE, Integer.MAX_VALUE);",
+        "              continue;",
+        "            }",
+        "            break;",
+        "          default:",
+        "            break;",
+        "        }",
+        "        JsonSupport.skipValue(a_json, a_position);",
+        "      } while (JsonSupport.nextField(a_json, a_position));",
+        "    }",
+        "    return new Box(out, box, _out, _json, _position, _start, _box);",
+        "  }",
+        "",
+        "  public static Box boxFromJson(String a_json) {",
+        "    ParsePosition a_position = new ParsePosition(0);",
+        "    Box a_box = boxFromJson(a_json, a_position);",
+        "    JsonSupport.end(a_json, a_position);",
+        "    return a_box;",
+        "  }",
+        "",
+        "  private static final class JsonSupport {",
+        "    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};",
+        "",
+        "    private JsonSupport() {",
+        "    }",
+        "",
+        "    static void string(StringBuilder out, String s) {",
+        "      if (s == null) {",
+        "        out.append(\"null\");",
+        "        return;",
+        "      }",
+        "      out.append('\"');",
+        "      int start = 0;",
+        "      for (int i = 0; i < s.length(); i++) {",
+        "        char c = s.charAt(i);",
+        "        if (c == '\"' || c == '\\\\' || c < 0x20) {",
+        "          out.append(s, start, i);",
+        "          escape(out, c);",
+        "          start = i + 1;",
+        "        }",
+        "      }",
+        "      out.append(s, start, s.length()).append('\"');",
+        "    }",
+        "",
+        "    static void character(StringBuilder out, char c) {",
+        "      out.append('\"');",
+        "      if (c == '\"' || c == '\\\\' || c < 0x20) {",
+        "        escape(out, c);",
+        "      } else {",
+        "        out.append(c);",
+        "      }",
+        "      out.append('\"');",
+        "    }",
+        "",
+        "    private static void escape(StringBuilder out, char c) {",
+        "      switch (c) {",
+        "        case '\"':",
+        "          out.append(\"\\\\\\\"\");",
+        "          return;",
+        "        case '\\\\':",
+        "          out.append(\"\\\\\\\\\");",
+        "          return;",
+        "        case '\\n':",
+        "          out.append(\"\\\\n\");",
+        "          return;",
+        "        case '\\r':",
+        "          out.append(\"\\\\r\");",
+        "          return;",
+        "        case '\\t':",
+        "          out.append(\"\\\\t\");",
+        "          return;",
+        "        case '\\b':",
+        "          out.append(\"\\\\b\");",
+        "          return;",
+        "        case '\\f':",
+        "          out.append(\"\\\\f\");",
+        "          return;",
+        "        default:",
+        "          out.append(\"\\\\u00\").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xf, 16));",
+        "      }",
+        "    }",
+        "",
+        "    static void number(StringBuilder out, double d) {",
+        "      if (Double.isNaN(d) || Double.isInfinite(d)) {",
+        "        throw new IllegalArgumentException(\"not a JSON number: \" + d);",
+        "      }",
+        "      out.append(d);",
+        "    }",
+        "",
+        "    static void number(StringBuilder out, float d) {",
+        "      if (Float.isNaN(d) || Float.isInfinite(d)) {",
+        "        throw new IllegalArgumentException(\"not a JSON number: \" + d);",
+        "      }",
+        "      out.append(d);",
+        "    }",
+        "",
+        "    static boolean beginObject(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (charAt(json, i) != '{') {",
+        "        throw error(\"expected '{'\", i);",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) == '}') {",
+        "        position.setIndex(i + 1);",
+        "        return false;",
+        "      }",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a member name\", i);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return true;",
+        "    }",
+        "",
+        "    static boolean nextField(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      char c = charAt(json, i);",
+        "      if (c == '}') {",
+        "        position.setIndex(i + 1);",
+        "        return false;",
+        "      }",
+        "      if (c != ',') {",
+        "        throw error(\"expected ',' or '}'\", i);",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a member name\", i);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return true;",
+        "    }",
+        "",
+        "    static int name(String json, ParsePosition position, int multiplier) {",
+        "      int h = 0;",
+        "      int i = position.getIndex() + 1;",
+        "      char c;",
+        "      while ((c = charAt(json, i)) != '\"') {",
+        "        if (c == '\\\\') {",
+        "          h = h * multiplier + c;",
+        "          c = charAt(json, ++i);",
+        "        }",
+        "        h = h * multiplier + c;",
+        "        i++;",
+        "      }",
+        "      i = whitespace(json, i + 1);",
+        "      if (charAt(json, i) != ':') {",
+        "        throw error(\"expected ':'\", i);",
+        "      }",
+        "      position.setIndex(i + 1);",
+        "      return h;",
+        "    }",
+        "",
+        "    static boolean readNull(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"null\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return true;",
+        "      }",
+        "      return false;",
+        "    }",
+        "",
+        "    static boolean readBoolean(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"true\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return true;",
+        "      }",
+        "      if (json.startsWith(\"false\", i)) {",
+        "        position.setIndex(i + 5);",
+        "        return false;",
+        "      }",
+        "      throw error(\"expected a boolean\", i);",
+        "    }",
+        "",
+        "    static long readLong(String json, ParsePosition position, long min, long max) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      int i = start;",
+        "      boolean negative = i < json.length() && json.charAt(i) == '-';",
+        "      if (negative) {",
+        "        i++;",
+        "      }",
+        "      long value = 0;",
+        "      int digits = i;",
+        "      for (char c; i < json.length() && (c = json.charAt(i)) >= '0' && c <= '9'; i++) {",
+        "        int digit = c - '0';",
+        "        if (value < (Long.MIN_VALUE + digit) / 10) {",
+        "          throw error(\"number out of range\", start);",
+        "        }",
+        "        value = value * 10 - digit;",
+        "      }",
+        "      if (i == digits) {",
+        "        throw error(\"expected an integer\", start);",
+        "      }",
+        "      if (i < json.length() && (json.charAt(i) == '.' || json.charAt(i) == 'e' || json.charAt(i) == 'E')) {",
+        "        throw error(\"expected an integer\", start);",
+        "      }",
+        "      if (!negative) {",
+        "        if (value == Long.MIN_VALUE) {",
+        "          throw error(\"number out of range\", start);",
+        "        }",
+        "        value = -value;",
+        "      }",
+        "      if (value < min || value > max) {",
+        "        throw error(\"number out of range\", start);",
+        "      }",
+        "      position.setIndex(i);",
+        "      return value;",
+        "    }",
+        "",
+        "    static double readDouble(String json, ParsePosition position) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      int i = start;",
+        "      boolean negative = i < json.length() && json.charAt(i) == '-';",
+        "      if (negative) {",
+        "        i++;",
+        "      }",
+        "      long mantissa = 0;",
+        "      int digits = 0;",
+        "      int fraction = -1;",
+        "      boolean exponent = false;",
+        "      for (; i < json.length(); i++) {",
+        "        char c = json.charAt(i);",
+        "        if (c >= '0' && c <= '9') {",
+        "          if (digits++ < 15) {",
+        "            mantissa = mantissa * 10 + (c - '0');",
+        "          }",
+        "          if (fraction >= 0) {",
+        "            fraction++;",
+        "          }",
+        "        } else if (c == '.' && fraction < 0 && !exponent) {",
+        "          fraction = 0;",
+        "        } else if ((c == 'e' || c == 'E') && digits > 0 && !exponent) {",
+        "          exponent = true;",
+        "          if (i + 1 < json.length() && (json.charAt(i + 1) == '+' || json.charAt(i + 1) == '-')) {",
+        "            i++;",
+        "          }",
+        "        } else {",
+        "          break;",
+        "        }",
+        "      }",
+        "      if (digits == 0 || fraction == 0) {",
+        "        throw error(\"expected a number\", start);",
+        "      }",
+        "      position.setIndex(i);",
+        "      if (!exponent && digits <= 15 && fraction <= 22) {",
+        "        double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;",
+        "        return negative ? -value : value;",
+        "      }",
+        "      try {",
+        "        return Double.parseDouble(json.substring(start, i));",
+        "      } catch (NumberFormatException e) {",
+        "        throw error(\"expected a number\", start);",
+        "      }",
+        "    }",
+        "",
+        "    static char readChar(String json, ParsePosition position) {",
+        "      int start = whitespace(json, position.getIndex());",
+        "      String s = readString(json, position);",
+        "      if (s == null || s.length() != 1) {",
+        "        throw error(\"expected a single character\", start);",
+        "      }",
+        "      return s.charAt(0);",
+        "    }",
+        "",
+        "    static String readString(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (json.startsWith(\"null\", i)) {",
+        "        position.setIndex(i + 4);",
+        "        return null;",
+        "      }",
+        "      if (charAt(json, i) != '\"') {",
+        "        throw error(\"expected a string\", i);",
+        "      }",
+        "      int start = ++i;",
+        "      char c;",
+        "      while ((c = charAt(json, i)) != '\"' && c != '\\\\') {",
+        "        i++;",
+        "      }",
+        "      if (c == '\"') {",
+        "        position.setIndex(i + 1);",
+        "        return json.substring(start, i);",
+        "      }",
+        "      StringBuilder sb = new StringBuilder(i - start + 16).append(json, start, i);",
+        "      while ((c = charAt(json, i++)) != '\"') {",
+        "        if (c != '\\\\') {",
+        "          sb.append(c);",
+        "          continue;",
+        "        }",
+        "        c = charAt(json, i++);",
+        "        switch (c) {",
+        "          case '\"':",
+        "          case '\\\\':",
+        "          case '/':",
+        "            sb.append(c);",
+        "            break;",
+        "          case 'n':",
+        "            sb.append('\\n');",
+        "            break;",
+        "          case 'r':",
+        "            sb.append('\\r');",
+        "            break;",
+        "          case 't':",
+        "            sb.append('\\t');",
+        "            break;",
+        "          case 'b':",
+        "            sb.append('\\b');",
+        "            break;",
+        "          case 'f':",
+        "            sb.append('\\f');",
+        "            break;",
+        "          case 'u':",
+        "            int u = 0;",
+        "            for (int end = i + 4; i < end; i++) {",
+        "              int digit = Character.digit(charAt(json, i), 16);",
+        "              if (digit < 0) {",
+        "                throw error(\"invalid escape sequence\", i);",
+        "              }",
+        "              u = u * 16 + digit;",
+        "            }",
+        "            sb.append((char) u);",
+        "            break;",
+        "          default:",
+        "            throw error(\"invalid escape sequence\", i - 1);",
+        "        }",
+        "      }",
+        "      position.setIndex(i);",
+        "      return sb.toString();",
+        "    }",
+        "",
+        "    static void skipValue(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      char c = charAt(json, i);",
+        "      if (c == '\"') {",
+        "        readString(json, position);",
+        "      } else if (c == '{') {",
+        "        if (beginObject(json, position)) {",
+        "          do {",
+        "            name(json, position, 31);",
+        "            skipValue(json, position);",
+        "          } while (nextField(json, position));",
+        "        }",
+        "      } else if (c == '[') {",
+        "        i = whitespace(json, i + 1);",
+        "        if (charAt(json, i) == ']') {",
+        "          position.setIndex(i + 1);",
+        "          return;",
+        "        }",
+        "        position.setIndex(i);",
+        "        while (true) {",
+        "          skipValue(json, position);",
+        "          i = whitespace(json, position.getIndex());",
+        "          c = charAt(json, i);",
+        "          position.setIndex(i + 1);",
+        "          if (c == ']') {",
+        "            return;",
+        "          }",
+        "          if (c != ',') {",
+        "            throw error(\"expected ',' or ']'\", i);",
+        "          }",
+        "        }",
+        "      } else if (c == 't' || c == 'f') {",
+        "        readBoolean(json, position);",
+        "      } else if (!readNull(json, position)) {",
+        "        readDouble(json, position);",
+        "      }",
+        "    }",
+        "",
+        "    static void end(String json, ParsePosition position) {",
+        "      int i = whitespace(json, position.getIndex());",
+        "      if (i != json.length()) {",
+        "        throw error(\"unexpected characters\", i);",
+        "      }",
+        "    }",
+        "",
+        "    private static int whitespace(String json, int i) {",
+        "      while (i < json.length()) {",
+        "        char c = json.charAt(i);",
+        "        if (c != ' ' && c != '\\t' && c != '\\n' && c != '\\r') {",
+        "          break;",
+        "        }",
+        "        i++;",
+        "      }",
+        "      return i;",
+        "    }",
+        "",
+        "    private static char charAt(String json, int i) {",
+        "      if (i >= json.length()) {",
+        "        throw error(\"unexpected end of input\", i);",
+        "      }",
+        "      return json.charAt(i);",
+        "    }",
+        "",
+        "    private static IllegalArgumentException error(String message, int i) {",
+        "      return new IllegalArgumentException(message + \" at index \" + i);",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(box))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
@@ -0,0 +1,129 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class LazyUpdaterTest {
+
+  @Test
+  public void lazy() {
+    JavaFileObject doo = forSourceLines("lazy.Doo",
+        "package lazy;",
+        "import net.zerobuilder.*;",
+        "import java.io.IOException;",
+        "import java.util.List;",
+        "",
+        "final class Doo {",
+        "  final String foo;",
+        "  private final List<String> bar;",
+        "  final int baz;",
+        "  @Updater(lazy = true)",
+        "  @Recycle",
+        "  Doo(String foo, List<String> bar, int baz) {",
+        "    this.foo = foo;",
+        "    this.bar = bar;",
+        "    this.baz = baz;",
+        "  }",
+        "  List<String> getBar() throws IOException { return bar; }",
+        "}");
+    JavaFileObject expected =
+        forSourceLines("lazy.DooBuilders",
+            "package lazy;",
+            "import java.io.IOException;",
+            "import java.util.List;",
+            "import javax.annotation.Generated;",
+            "",
+            GENERATED_ANNOTATION,
+            "public final class DooBuilders {",
+            "  private static final ThreadLocal<DooUpdater> dooUpdater = new ThreadLocal<DooUpdater>() {",
+            "    @Override",
+            "    protected DooUpdater initialValue() {",
+            "      return new DooUpdater();",
+            "    }",
+            "  };",
+            "",
+            "  private DooBuilders() {",
+            "    throw new UnsupportedOperationException(\"no instances\");",
+            "  }",
+            "",
+            "  public static DooUpdater dooUpdater(Doo doo) {",
+            "    if (doo == null) {",
+            "      throw new NullPointerException(\"doo\");",
+            "    }",
+            "    DooUpdater _updater = dooUpdater.get();",
+            "    if (_updater._currently_in_use) {",
+            "      dooUpdater.remove();",
+            "      _updater = dooUpdater.get();",
+            "    }",
+            "    _updater._currently_in_use = true;",
+            "    _updater._source = doo;",
+            "    return _updater;",
+            "  }",
+            "",
+            "  public static final class DooUpdater {",
+            "    private boolean _currently_in_use;",
+            "",
+            "    private Doo _source;",
+            "",
+            "    private int _changed;",
+            "",
+            "    private String foo;",
+            "",
+            "    private List<String> bar;",
+            "",
+            "    private int baz;",
+            "",
+            "    private DooUpdater() {",
+            "    }",
+            "",
+            "    public DooUpdater foo(String foo) {",
+            "      this.foo = foo;",
+            "      this._changed |= 1 << 0;",
+            "      return this;",
+            "    }",
+            "",
+            "    public DooUpdater bar(List<String> bar) {",
+            "      this.bar = bar;",
+            "      this._changed |= 1 << 1;",
+            "      return this;",
+            "    }",
+            "",
+            "    public DooUpdater baz(int baz) {",
+            "      this.baz = baz;",
+            "      this._changed |= 1 << 2;",
+            "      return this;",
+            "    }",
+            "",
+            "    public Doo done() throws IOException {",
+            "      if ((this._changed & (1 << 0)) == 0) {",
+            "        this.foo = this._source.foo;",
+            "      }",
+            "      if ((this._changed & (1 << 1)) == 0) {",
+            "        this.bar = this._source.getBar();",
+            "      }",
+            "      if ((this._changed & (1 << 2)) == 0) {",
+            "        this.baz = this._source.baz;",
+            "      }",
+            "      this._currently_in_use = false;",
+            "      Doo _doo = new Doo(foo, bar, baz);",
+            "      this.foo = null;",
+            "      this.bar = null;",
+            "      this._source = null;",
+            "      this._changed = 0;",
+            "      return _doo;",
+            "    }",
+            "  }",
+            "}");
+    assertAbout(javaSources()).that(ImmutableList.of(doo))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
@@ -0,0 +1,75 @@
+package net.zerobuilder.compiler;
+
+import com.google.testing.compile.Compilation;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.stream.Collectors.toList;
+
+// the code of the generated classes is generated in parallel,
+// then the classes are written one after the other
+public class ManyTypesTest {
+
+  private static final int COUNT = 64;
+
+  @Test
+  public void manyTypes() {
+    List<JavaFileObject> sources = IntStream.range(0, COUNT)
+        .mapToObj(ManyTypesTest::doo)
+        .collect(toList());
+    JavaFileObject user = forSourceLines("many.User",
+        "package many;",
+        "final class User {",
+        "  static Doo63 doo() {",
+        "    Doo0 doo0 = Doo0Builders.doo0Builder().foo(\"a\").bar(0);",
+        "    return Doo63Builders.doo63Builder().foo(doo0.foo).bar(doo0.bar);",
+        "  }",
+        "}");
+    sources.add(user);
+    assertAbout(javaSources()).that(sources)
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError();
+  }
+
+  @Test
+  public void sameAsSerial() throws IOException {
+    Compilation parallel = javac().withProcessors(new ZeroProcessor())
+        .compile(IntStream.range(0, COUNT)
+            .mapToObj(ManyTypesTest::doo)
+            .collect(toList()));
+    assertThat(parallel.errors()).isEmpty();
+    for (int i : new int[]{0, COUNT / 2, COUNT - 1}) {
+      Compilation serial = javac().withProcessors(new ZeroProcessor())
+          .compile(doo(i));
+      assertThat(serial.errors()).isEmpty();
+      String name = "many/Doo" + i + "Builders.java";
+      assertThat(parallel.generatedSourceFile(name).get().getCharContent(false).toString())
+          .isEqualTo(serial.generatedSourceFile(name).get().getCharContent(false).toString());
+    }
+  }
+
+  private static JavaFileObject doo(int i) {
+    return forSourceLines("many.Doo" + i,
+        "package many;",
+        "import net.zerobuilder.*;",
+        "final class Doo" + i + " {",
+        "  final String foo;",
+        "  final int bar;",
+        "  @Builder",
+        "  @Updater",
+        "  Doo" + i + "(String foo, int bar) {",
+        "    this.foo = foo;",
+        "    this.bar = bar;",
+        "  }",
+        "}");
+  }
+}
@@ -0,0 +1,112 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class MonomorphicTest {
+
+  @Test
+  public void constructorAndInstanceMethod() {
+    JavaFileObject cube = forSourceLines("cube.Tally",
+        "package cube;",
+        "import net.zerobuilder.*;",
+        "import java.io.IOException;",
+        "",
+        "final class Tally {",
+        "  final String prefix;",
+        "",
+        "  @Builder(style = Style.MONOMORPHIC)",
+        "  Tally(String prefix) {",
+        "    this.prefix = prefix;",
+        "  }",
+        "",
+        "  @Builder(style = Style.MONOMORPHIC)",
+        "  @GoalName(\"count\")",
+        "  String count(String name, int n) throws IOException {",
+        "    return prefix + name + n;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cube.TallyBuilders",
+        "package cube;",
+        "",
+        "import java.io.IOException;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class TallyBuilders {",
+        "  private TallyBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static TallyBuilder.Prefix tallyBuilder() {",
+        "    return TallyBuilder.prefix;",
+        "  }",
+        "",
+        "  public static CountBuilder.Name countBuilder(Tally tally) {",
+        "    return new CountBuilder.Name(tally);",
+        "  }",
+        "",
+        "  public static final class TallyBuilder {",
+        "    private static final Prefix prefix = new Prefix();",
+        "",
+        "    private TallyBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public static final class Prefix {",
+        "      Prefix() {",
+        "      }",
+        "",
+        "      public Tally prefix(String prefix) {",
+        "        return new Tally(prefix);",
+        "      }",
+        "    }",
+        "  }",
+        "",
+        "  public static final class CountBuilder {",
+        "    private CountBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public static final class Name {",
+        "      private final Tally _tally;",
+        "",
+        "      Name(Tally _tally) {",
+        "        this._tally = _tally;",
+        "      }",
+        "",
+        "      public N name(String name) {",
+        "        return new N(_tally, name);",
+        "      }",
+        "    }",
+        "",
+        "    public static final class N {",
+        "      private final Tally _tally;",
+        "",
+        "      private final String name;",
+        "",
+        "      N(Tally _tally, String name) {",
+        "        this._tally = _tally;",
+        "        this.name = name;",
+        "      }",
+        "",
+        "      public String n(int n) throws IOException {",
+        "        return this._tally.count(name, n);",
+        "      }",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(cube))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
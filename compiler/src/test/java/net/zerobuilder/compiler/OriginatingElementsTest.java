@@ -0,0 +1,167 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.Set;
+
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Gradle treats the processor as isolating, see
+ * {@code META-INF/gradle/incremental.annotation.processors}.
+ * This requires exactly one originating element per generated file.
+ */
+public class OriginatingElementsTest {
+
+  @Test
+  public void oneOriginatingElementPerFile() throws IOException {
+    JavaFileObject message = forSourceLines("test.Message",
+        "package test;",
+        "import net.zerobuilder.*;",
+        "final class Message {",
+        "  final String sender;",
+        "  @Builder",
+        "  @Updater",
+        "  Message(String sender) {",
+        "    this.sender = sender;",
+        "  }",
+        "}");
+    JavaFileObject factory = forSourceLines("test.Factory",
+        "package test;",
+        "import net.zerobuilder.*;",
+        "final class Factory {",
+        "  @Builder",
+        "  static String hello(String name) {",
+        "    return name;",
+        "  }",
+        "}");
+    JavaFileObject bean = forSourceLines("test.Bean",
+        "package test;",
+        "import net.zerobuilder.*;",
+        "@BeanBuilder",
+        "public class Bean {",
+        "  private String name;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "}");
+    Map<String, List<String>> originatingElements = compile(asList(message, factory, bean));
+    assertThat(originatingElements.size(), is(3));
+    assertThat(originatingElements.get("test.MessageBuilders"), is(singletonList("test.Message")));
+    assertThat(originatingElements.get("test.FactoryBuilders"), is(singletonList("test.Factory")));
+    assertThat(originatingElements.get("test.BeanBuilders"), is(singletonList("test.Bean")));
+  }
+
+  @Test
+  public void registeredAsIsolating() {
+    InputStream in = ZeroProcessor.class.getResourceAsStream(
+        "/META-INF/gradle/incremental.annotation.processors");
+    assertTrue(in != null);
+    try (Scanner scanner = new Scanner(in, "UTF-8")) {
+      assertThat(scanner.nextLine(), is(ZeroProcessor.class.getName() + ",isolating"));
+    }
+  }
+
+  private static Map<String, List<String>> compile(List<JavaFileObject> sources) throws IOException {
+    Path out = Files.createTempDirectory("zerobuilder");
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    RecordingProcessor processor = new RecordingProcessor();
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+        asList("-d", out.toString(), "-s", out.toString(), "-proc:only"),
+        null, sources);
+    task.setProcessors(singletonList(processor));
+    assertTrue(task.call());
+    return processor.originatingElements;
+  }
+
+  /**
+   * Runs the {@link ZeroProcessor}, recording the originating elements
+   * that it passes to {@link Filer#createSourceFile}.
+   */
+  private static final class RecordingProcessor extends AbstractProcessor {
+
+    private final ZeroProcessor delegate = new ZeroProcessor();
+    private final Map<String, List<String>> originatingElements = new HashMap<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+      super.init(env);
+      Filer filer = proxy(Filer.class, env.getFiler(), (name, args) -> {
+        if (name.equals("createSourceFile")) {
+          originatingElements.put(args[0].toString(), asList((Element[]) args[1]).stream()
+              .map(element -> ((TypeElement) element).getQualifiedName().toString())
+              .collect(toList()));
+        }
+      });
+      delegate.init(proxy(ProcessingEnvironment.class, env, (name, args) -> {
+      }, filer));
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+      return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return delegate.getSupportedSourceVersion();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+      return delegate.process(annotations, env);
+    }
+  }
+
+  private interface Listener {
+    void call(String name, Object[] args);
+  }
+
+  private static <E> E proxy(Class<E> type, E target, Listener listener) {
+    return proxy(type, target, listener, null);
+  }
+
+  /**
+   * @param filer if not {@code null}, returned by {@code getFiler()}
+   */
+  private static <E> E proxy(Class<E> type, E target, Listener listener, Filer filer) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (filer != null && method.getName().equals("getFiler")) {
+        return filer;
+      }
+      listener.call(method.getName(), args);
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    };
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+  }
+}
@@ -0,0 +1,63 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class ProfileTest {
+
+  private final JavaFileObject message = forSourceLines("test.Message",
+      "package test;",
+      "import net.zerobuilder.*;",
+      "final class Message {",
+      "  final String sender;",
+      "  final String body;",
+      "  @Builder",
+      "  @Updater",
+      "  Message(String sender, String body) {",
+      "    this.sender = sender;",
+      "    this.body = body;",
+      "  }",
+      "}");
+
+  @Test
+  public void csv() throws IOException {
+    Path path = Files.createTempDirectory("zerobuilder").resolve("profile.csv");
+    compile(path);
+    List<String> lines = Files.readAllLines(path, UTF_8);
+    assertThat(lines.size(), is(2));
+    assertThat(lines.get(0), is("type,goals,steps,bytes,analyse_ns,process_ns,type_spec_ns,write_ns"));
+    assertThat(lines.get(1), startsWith("test.Message,2,4,"));
+  }
+
+  @Test
+  public void json() throws IOException {
+    Path path = Files.createTempDirectory("zerobuilder").resolve("profile.json");
+    compile(path);
+    String json = new String(Files.readAllBytes(path), UTF_8);
+    assertThat(json, containsString("\"type\": \"test.Message\""));
+    assertThat(json, containsString("\"goals\": 2"));
+    assertThat(json, containsString("{\"module\": \"RegularBuilder\", \"goal\": \"message\", \"steps\": 2, \"nanos\": "));
+    assertThat(json, containsString("{\"module\": \"RegularUpdater\", \"goal\": \"message\", \"steps\": 2, \"nanos\": "));
+  }
+
+  private void compile(Path path) {
+    assertAbout(javaSource()).that(message)
+        .withCompilerOptions("-Azerobuilder.profile=" + path)
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError();
+  }
+}
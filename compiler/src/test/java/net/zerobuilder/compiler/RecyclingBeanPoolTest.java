@@ -0,0 +1,353 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class RecyclingBeanPoolTest {
+
+  @Test
+  public void striped() {
+    JavaFileObject analyst = forSourceLines("beans.Analyst",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "import java.util.ArrayList;",
+        "",
+        "@BeanBuilder",
+        "@Recycle(Pool.STRIPED)",
+        "public class Analyst {",
+        "  private String name;",
+        "  private List<String> notes;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "  public List<String> getNotes() {",
+        "    if (notes == null) notes = new ArrayList<>();",
+        "    return notes;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "beans.AnalystBuilders",
+        "package beans;",
+        "",
+        "import java.util.Collection;",
+        "import java.util.List;",
+        "import java.util.concurrent.atomic.AtomicReferenceArray;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class AnalystBuilders {",
+        "  private static final AtomicReferenceArray<AnalystBuilderImpl> analystBuilderImpl = new AtomicReferenceArray<AnalystBuilderImpl>(16);",
+        "",
+        "  private static final AtomicReferenceArray<AnalystUpdater> analystUpdater = new AtomicReferenceArray<AnalystUpdater>(16);",
+        "",
+        "  private AnalystBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static AnalystBuilder.Name analystBuilder() {",
+        "    AnalystBuilderImpl _builder = analystBuilderImpl.getAndSet((int) Thread.currentThread().getId() & 15, null);",
+        "    if (_builder == null) {",
+        "      _builder = new AnalystBuilderImpl();",
+        "    }",
+        "    if (_builder.analyst == null) {",
+        "      _builder.analyst = new Analyst();",
+        "    }",
+        "    return _builder;",
+        "  }",
+        "",
+        "  public static AnalystUpdater analystUpdater(Analyst analyst) {",
+        "    AnalystUpdater _updater = analystUpdater.getAndSet((int) Thread.currentThread().getId() & 15, null);",
+        "    if (_updater == null) {",
+        "      _updater = new AnalystUpdater();",
+        "    }",
+        "    if (_updater.analyst == null) {",
+        "      _updater.analyst = new Analyst();",
+        "    }",
+        "    _updater.analyst.setName(analyst.getName());",
+        "    _updater.analyst.getNotes().addAll(analyst.getNotes());",
+        "    return _updater;",
+        "  }",
+        "",
+        "  private static final class AnalystBuilderImpl implements AnalystBuilder.Name, AnalystBuilder.Notes {",
+        "    private Analyst analyst;",
+        "",
+        "    AnalystBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public AnalystBuilder.Notes name(String name) {",
+        "      this.analyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    @Override",
+        "    public Analyst notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.analyst.getNotes();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      Analyst _analyst = this.analyst;",
+        "      this.analyst = null;",
+        "      analystBuilderImpl.compareAndSet((int) Thread.currentThread().getId() & 15, null, this);",
+        "      return _analyst;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class AnalystBuilder {",
+        "    private AnalystBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Name {",
+        "      Notes name(String name);",
+        "    }",
+        "",
+        "    public interface Notes {",
+        "      Analyst notes(Iterable<? extends String> notes);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class AnalystUpdater {",
+        "    private Analyst analyst;",
+        "",
+        "    private AnalystUpdater() {",
+        "    }",
+        "",
+        "    public AnalystUpdater name(String name) {",
+        "      this.analyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    public AnalystUpdater notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.analyst.getNotes();",
+        "      _notes.clear();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      return this;",
+        "    }",
+        "",
+        "    public Analyst done() {",
+        "      Analyst _analyst = this.analyst;",
+        "      this.analyst = null;",
+        "      analystUpdater.compareAndSet((int) Thread.currentThread().getId() & 15, null, this);",
+        "      return _analyst;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(analyst))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  @Test
+  public void sharedInPlace() {
+    JavaFileObject clerk = forSourceLines("beans.Clerk",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "",
+        "@BeanBuilder(inPlace = true)",
+        "@Recycle(value = Pool.SHARED, stats = true, prefetch = true)",
+        "public class Clerk {",
+        "  private String name;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "beans.ClerkBuilders",
+        "package beans;",
+        "",
+        "import java.util.LinkedHashMap;",
+        "import java.util.Map;",
+        "import java.util.concurrent.atomic.AtomicReferenceArray;",
+        "import java.util.concurrent.atomic.LongAdder;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class ClerkBuilders {",
+        "  private static final AtomicReferenceArray<ClerkBuilderImpl> clerkBuilderImpl = new AtomicReferenceArray<ClerkBuilderImpl>(16);",
+        "",
+        "  private static final LongAdder clerkBuilderImplHits = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkBuilderImplMisses = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkBuilderImplReturned = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkBuilderImplDropped = new LongAdder();",
+        "",
+        "  private static final AtomicReferenceArray<ClerkUpdater> clerkUpdater = new AtomicReferenceArray<ClerkUpdater>(16);",
+        "",
+        "  private static final LongAdder clerkUpdaterHits = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkUpdaterMisses = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkUpdaterReturned = new LongAdder();",
+        "",
+        "  private static final LongAdder clerkUpdaterDropped = new LongAdder();",
+        "",
+        "  private ClerkBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static ClerkBuilder.Name clerkBuilder() {",
+        "    ClerkBuilderImpl _builder = null;",
+        "    int _slot = (int) Thread.currentThread().getId() & 15;",
+        "    for (int _probe = 0; _probe < 16; _probe++) {",
+        "      int _index = (_slot + _probe) & 15;",
+        "      if (clerkBuilderImpl.get(_index) != null && (_builder = clerkBuilderImpl.getAndSet(_index, null)) != null) {",
+        "        break;",
+        "      }",
+        "    }",
+        "    if (_builder == null) {",
+        "      _builder = new ClerkBuilderImpl();",
+        "      clerkBuilderImplMisses.increment();",
+        "    } else {",
+        "      clerkBuilderImplHits.increment();",
+        "    }",
+        "    if (_builder.clerk == null) {",
+        "      _builder.clerk = new Clerk();",
+        "    }",
+        "    return _builder;",
+        "  }",
+        "",
+        "  public static Map<String, Long> clerkBuilderPoolStats() {",
+        "    long hits = clerkBuilderImplHits.sum();",
+        "    long misses = clerkBuilderImplMisses.sum();",
+        "    long returned = clerkBuilderImplReturned.sum();",
+        "    long dropped = clerkBuilderImplDropped.sum();",
+        "    Map<String, Long> stats = new LinkedHashMap<>();",
+        "    stats.put(\"hits\", hits);",
+        "    stats.put(\"misses\", misses);",
+        "    stats.put(\"returned\", returned);",
+        "    stats.put(\"dropped\", dropped);",
+        "    stats.put(\"abandoned\", hits + misses - returned - dropped);",
+        "    return stats;",
+        "  }",
+        "",
+        "  public static ClerkUpdater clerkUpdater(Clerk clerk) {",
+        "    if (clerk == null) {",
+        "      throw new NullPointerException(\"clerk\");",
+        "    }",
+        "    ClerkUpdater _updater = null;",
+        "    int _slot = (int) Thread.currentThread().getId() & 15;",
+        "    for (int _probe = 0; _probe < 16; _probe++) {",
+        "      int _index = (_slot + _probe) & 15;",
+        "      if (clerkUpdater.get(_index) != null && (_updater = clerkUpdater.getAndSet(_index, null)) != null) {",
+        "        break;",
+        "      }",
+        "    }",
+        "    if (_updater == null) {",
+        "      _updater = new ClerkUpdater();",
+        "      clerkUpdaterMisses.increment();",
+        "    } else {",
+        "      clerkUpdaterHits.increment();",
+        "    }",
+        "    _updater.clerk = clerk;",
+        "    return _updater;",
+        "  }",
+        "",
+        "  public static Map<String, Long> clerkUpdaterPoolStats() {",
+        "    long hits = clerkUpdaterHits.sum();",
+        "    long misses = clerkUpdaterMisses.sum();",
+        "    long returned = clerkUpdaterReturned.sum();",
+        "    long dropped = clerkUpdaterDropped.sum();",
+        "    Map<String, Long> stats = new LinkedHashMap<>();",
+        "    stats.put(\"hits\", hits);",
+        "    stats.put(\"misses\", misses);",
+        "    stats.put(\"returned\", returned);",
+        "    stats.put(\"dropped\", dropped);",
+        "    stats.put(\"abandoned\", hits + misses - returned - dropped);",
+        "    return stats;",
+        "  }",
+        "",
+        "  private static final class ClerkBuilderImpl implements ClerkBuilder.Name {",
+        "    private Clerk clerk;",
+        "",
+        "    ClerkBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public Clerk name(String name) {",
+        "      this.clerk.setName(name);",
+        "      Clerk _clerk = this.clerk;",
+        "      this.clerk = new Clerk();",
+        "      int _slot = (int) Thread.currentThread().getId() & 15;",
+        "      int _probe = 0;",
+        "      for (; _probe < 16; _probe++) {",
+        "        int _index = (_slot + _probe) & 15;",
+        "        if (clerkBuilderImpl.get(_index) == null && clerkBuilderImpl.compareAndSet(_index, null, this)) {",
+        "          break;",
+        "        }",
+        "      }",
+        "      if (_probe == 16) {",
+        "        clerkBuilderImplDropped.increment();",
+        "      } else {",
+        "        clerkBuilderImplReturned.increment();",
+        "      }",
+        "      return _clerk;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class ClerkBuilder {",
+        "    private ClerkBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Name {",
+        "      Clerk name(String name);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class ClerkUpdater {",
+        "    private Clerk clerk;",
+        "",
+        "    private ClerkUpdater() {",
+        "    }",
+        "",
+        "    public ClerkUpdater name(String name) {",
+        "      this.clerk.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    public Clerk done() {",
+        "      Clerk _clerk = this.clerk;",
+        "      this.clerk = null;",
+        "      int _slot = (int) Thread.currentThread().getId() & 15;",
+        "      int _probe = 0;",
+        "      for (; _probe < 16; _probe++) {",
+        "        int _index = (_slot + _probe) & 15;",
+        "        if (clerkUpdater.get(_index) == null && clerkUpdater.compareAndSet(_index, null, this)) {",
+        "          break;",
+        "        }",
+        "      }",
+        "      if (_probe == 16) {",
+        "        clerkUpdaterDropped.increment();",
+        "      } else {",
+        "        clerkUpdaterReturned.increment();",
+        "      }",
+        "      return _clerk;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(clerk))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
@@ -34,6 +34,8 @@ public class RecyclingBeanTest {
     JavaFileObject expected =
         forSourceLines("beans.BusinessAnalystBuilders",
             "package beans;",
+            "import java.util.Collection;",
+            "import java.util.List;",
             "import javax.annotation.Generated;",
             "",
             GENERATED_ANNOTATION,
@@ -50,9 +52,7 @@ public class RecyclingBeanTest {
             "  public static BusinessAnalystUpdater businessAnalystUpdater(BusinessAnalyst businessAnalyst) {",
             "    BusinessAnalystUpdater _updater = new BusinessAnalystUpdater();",
             "    _updater.businessAnalyst.setName(businessAnalyst.getName());",
-            "    for (String string : businessAnalyst.getNotes()) {",
-            "      _updater.businessAnalyst.getNotes().add(string);",
-            "    }",
+            "    _updater.businessAnalyst.getNotes().addAll(businessAnalyst.getNotes());",
             "    return _updater;",
             "  }",
             "",
@@ -69,8 +69,13 @@ public class RecyclingBeanTest {
             "    }",
             "",
             "    @Override public BusinessAnalyst notes(Iterable<? extends String> notes) {",
-            "      for (String string : notes) {",
-            "        this.businessAnalyst.getNotes().add(string);",
+            "      List<String> _notes = this.businessAnalyst.getNotes();",
+            "      if (notes instanceof Collection) {",
+            "        _notes.addAll((Collection<? extends String>) notes);",
+            "      } else {",
+            "        for (String string : notes) {",
+            "          _notes.add(string);",
+            "        }",
             "      }",
             "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
             "      return _businessAnalyst;",
@@ -99,9 +104,14 @@ public class RecyclingBeanTest {
             "    }",
             "",
             "    public BusinessAnalystUpdater notes(Iterable<? extends String> notes) {",
-            "      this.businessAnalyst.getNotes().clear();",
-            "      for (String string : notes) {",
-            "        this.businessAnalyst.getNotes().add(string);",
+            "      List<String> _notes = this.businessAnalyst.getNotes();",
+            "      _notes.clear();",
+            "      if (notes instanceof Collection) {",
+            "        _notes.addAll((Collection<? extends String>) notes);",
+            "      } else {",
+            "        for (String string : notes) {",
+            "          _notes.add(string);",
+            "        }",
             "      }",
             "      return this;",
             "    }",
@@ -117,4 +127,327 @@ public class RecyclingBeanTest {
         .compilesWithoutError()
         .and().generatesSources(expected);
   }
+
+  @Test
+  public void recycledUpdater() {
+    JavaFileObject businessAnalyst = forSourceLines("beans.BusinessAnalyst",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "import java.util.ArrayList;",
+        "",
+        "@BeanBuilder",
+        "@Recycle",
+        "public class BusinessAnalyst {",
+        "  private String name;",
+        "  private List<String> notes;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "  public List<String> getNotes() {",
+        "    if (notes == null) notes = new ArrayList<>();",
+        "    return notes;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "beans.BusinessAnalystBuilders",
+        "package beans;",
+        "",
+        "import java.util.Collection;",
+        "import java.util.List;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class BusinessAnalystBuilders {",
+        "  private static final ThreadLocal<BusinessAnalystBuilderImpl> businessAnalystBuilderImpl = new ThreadLocal<BusinessAnalystBuilderImpl>() {",
+        "    @Override",
+        "    protected BusinessAnalystBuilderImpl initialValue() {",
+        "      return new BusinessAnalystBuilderImpl();",
+        "    }",
+        "  };",
+        "",
+        "  private static final ThreadLocal<BusinessAnalystUpdater> businessAnalystUpdater = new ThreadLocal<BusinessAnalystUpdater>() {",
+        "    @Override",
+        "    protected BusinessAnalystUpdater initialValue() {",
+        "      return new BusinessAnalystUpdater();",
+        "    }",
+        "  };",
+        "",
+        "  private BusinessAnalystBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static BusinessAnalystBuilder.Name businessAnalystBuilder() {",
+        "    BusinessAnalystBuilderImpl _builder = businessAnalystBuilderImpl.get();",
+        "    if (_builder._currently_in_use) {",
+        "      businessAnalystBuilderImpl.remove();",
+        "      _builder = businessAnalystBuilderImpl.get();",
+        "    }",
+        "    _builder._currently_in_use = true;",
+        "    if (_builder.businessAnalyst == null) {",
+        "      _builder.businessAnalyst = new BusinessAnalyst();",
+        "    }",
+        "    return _builder;",
+        "  }",
+        "",
+        "  public static BusinessAnalystUpdater businessAnalystUpdater(BusinessAnalyst businessAnalyst) {",
+        "    BusinessAnalystUpdater _updater = businessAnalystUpdater.get();",
+        "    if (_updater._currently_in_use) {",
+        "      businessAnalystUpdater.remove();",
+        "      _updater = businessAnalystUpdater.get();",
+        "    }",
+        "    _updater._currently_in_use = true;",
+        "    if (_updater.businessAnalyst == null) {",
+        "      _updater.businessAnalyst = new BusinessAnalyst();",
+        "    }",
+        "    _updater.businessAnalyst.setName(businessAnalyst.getName());",
+        "    _updater.businessAnalyst.getNotes().addAll(businessAnalyst.getNotes());",
+        "    return _updater;",
+        "  }",
+        "",
+        "  private static final class BusinessAnalystBuilderImpl implements BusinessAnalystBuilder.Name, BusinessAnalystBuilder.Notes {",
+        "    private BusinessAnalyst businessAnalyst;",
+        "",
+        "    private boolean _currently_in_use;",
+        "",
+        "    BusinessAnalystBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalystBuilder.Notes name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalyst notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      this.businessAnalyst = null;",
+        "      this._currently_in_use = false;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystBuilder {",
+        "    private BusinessAnalystBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Name {",
+        "      Notes name(String name);",
+        "    }",
+        "",
+        "    public interface Notes {",
+        "      BusinessAnalyst notes(Iterable<? extends String> notes);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystUpdater {",
+        "    private BusinessAnalyst businessAnalyst;",
+        "",
+        "    private boolean _currently_in_use;",
+        "",
+        "    private BusinessAnalystUpdater() {",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      _notes.clear();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalyst done() {",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      this.businessAnalyst = null;",
+        "      this._currently_in_use = false;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(businessAnalyst))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  @Test
+  public void recycledInPlaceUpdater() {
+    JavaFileObject businessAnalyst = forSourceLines("beans.BusinessAnalyst",
+        "package beans;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "import java.util.ArrayList;",
+        "",
+        "@BeanBuilder(inPlace = true)",
+        "@Recycle",
+        "public class BusinessAnalyst {",
+        "  private String name;",
+        "  private List<String> notes;",
+        "  public String getName() { return name; }",
+        "  public void setName(String name) { this.name = name; }",
+        "  public List<String> getNotes() {",
+        "    if (notes == null) notes = new ArrayList<>();",
+        "    return notes;",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "beans.BusinessAnalystBuilders",
+        "package beans;",
+        "",
+        "import java.util.Collection;",
+        "import java.util.List;",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class BusinessAnalystBuilders {",
+        "  private static final ThreadLocal<BusinessAnalystBuilderImpl> businessAnalystBuilderImpl = new ThreadLocal<BusinessAnalystBuilderImpl>() {",
+        "    @Override",
+        "    protected BusinessAnalystBuilderImpl initialValue() {",
+        "      return new BusinessAnalystBuilderImpl();",
+        "    }",
+        "  };",
+        "",
+        "  private static final ThreadLocal<BusinessAnalystUpdater> businessAnalystUpdater = new ThreadLocal<BusinessAnalystUpdater>() {",
+        "    @Override",
+        "    protected BusinessAnalystUpdater initialValue() {",
+        "      return new BusinessAnalystUpdater();",
+        "    }",
+        "  };",
+        "",
+        "  private BusinessAnalystBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static BusinessAnalystBuilder.Name businessAnalystBuilder() {",
+        "    BusinessAnalystBuilderImpl _builder = businessAnalystBuilderImpl.get();",
+        "    if (_builder._currently_in_use) {",
+        "      businessAnalystBuilderImpl.remove();",
+        "      _builder = businessAnalystBuilderImpl.get();",
+        "    }",
+        "    _builder._currently_in_use = true;",
+        "    if (_builder.businessAnalyst == null) {",
+        "      _builder.businessAnalyst = new BusinessAnalyst();",
+        "    }",
+        "    return _builder;",
+        "  }",
+        "",
+        "  public static BusinessAnalystUpdater businessAnalystUpdater(BusinessAnalyst businessAnalyst) {",
+        "    if (businessAnalyst == null) {",
+        "      throw new NullPointerException(\"businessAnalyst\");",
+        "    }",
+        "    BusinessAnalystUpdater _updater = businessAnalystUpdater.get();",
+        "    if (_updater._currently_in_use) {",
+        "      businessAnalystUpdater.remove();",
+        "      _updater = businessAnalystUpdater.get();",
+        "    }",
+        "    _updater._currently_in_use = true;",
+        "    _updater.businessAnalyst = businessAnalyst;",
+        "    return _updater;",
+        "  }",
+        "",
+        "  private static final class BusinessAnalystBuilderImpl implements BusinessAnalystBuilder.Name, BusinessAnalystBuilder.Notes {",
+        "    private BusinessAnalyst businessAnalyst;",
+        "",
+        "    private boolean _currently_in_use;",
+        "",
+        "    BusinessAnalystBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalystBuilder.Notes name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    @Override",
+        "    public BusinessAnalyst notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      if (notes instanceof Collection) {",
+        "        _notes.addAll((Collection<? extends String>) notes);",
+        "      } else {",
+        "        for (String string : notes) {",
+        "          _notes.add(string);",
+        "        }",
+        "      }",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      this.businessAnalyst = null;",
+        "      this._currently_in_use = false;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystBuilder {",
+        "    private BusinessAnalystBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Name {",
+        "      Notes name(String name);",
+        "    }",
+        "",
+        "    public interface Notes {",
+        "      BusinessAnalyst notes(Iterable<? extends String> notes);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class BusinessAnalystUpdater {",
+        "    private BusinessAnalyst businessAnalyst;",
+        "",
+        "    private boolean _currently_in_use;",
+        "",
+        "    private BusinessAnalystUpdater() {",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater name(String name) {",
+        "      this.businessAnalyst.setName(name);",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalystUpdater notes(Iterable<? extends String> notes) {",
+        "      List<String> _notes = this.businessAnalyst.getNotes();",
+        "      if (notes != _notes) {",
+        "        _notes.clear();",
+        "        if (notes instanceof Collection) {",
+        "          _notes.addAll((Collection<? extends String>) notes);",
+        "        } else {",
+        "          for (String string : notes) {",
+        "            _notes.add(string);",
+        "          }",
+        "        }",
+        "      }",
+        "      return this;",
+        "    }",
+        "",
+        "    public BusinessAnalyst done() {",
+        "      BusinessAnalyst _businessAnalyst = this.businessAnalyst;",
+        "      this.businessAnalyst = null;",
+        "      this._currently_in_use = false;",
+        "      return _businessAnalyst;",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(businessAnalyst))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
 }
@@ -0,0 +1,158 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class RecyclingGenericsTest {
+
+  @Test
+  public void page() {
+    JavaFileObject page = forSourceLines("page.Page",
+        "package page;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "",
+        "final class Page<T> {",
+        "  final List<T> items;",
+        "  final int number;",
+        "  @Builder",
+        "  @Updater",
+        "  @Recycle",
+        "  Page(List<T> items, int number) {",
+        "    this.items = items;",
+        "    this.number = number;",
+        "  }",
+        "}");
+    JavaFileObject expected =
+        forSourceLines("page.PageBuilders",
+            "package page;",
+            "import java.util.List;",
+            "import javax.annotation.Generated;",
+            "",
+            GENERATED_ANNOTATION,
+            "public final class PageBuilders {",
+            "  private static final ThreadLocal<PageBuilderImpl> pageBuilderImpl = new ThreadLocal<PageBuilderImpl>() {",
+            "    @Override",
+            "    protected PageBuilderImpl initialValue() {",
+            "      return new PageBuilderImpl();",
+            "    }",
+            "  };",
+            "",
+            "  private static final ThreadLocal<PageUpdater> pageUpdater = new ThreadLocal<PageUpdater>() {",
+            "    @Override",
+            "    protected PageUpdater initialValue() {",
+            "      return new PageUpdater();",
+            "    }",
+            "  };",
+            "",
+            "  private PageBuilders() {",
+            "    throw new UnsupportedOperationException(\"no instances\");",
+            "  }",
+            "",
+            "  public static PageBuilder.Items pageBuilder() {",
+            "    PageBuilderImpl _builder = pageBuilderImpl.get();",
+            "    if (_builder._currently_in_use) {",
+            "      pageBuilderImpl.remove();",
+            "      _builder = pageBuilderImpl.get();",
+            "    }",
+            "    _builder._currently_in_use = true;",
+            "    return _builder;",
+            "  }",
+            "",
+            "  @SuppressWarnings(\"unchecked\")",
+            "  public static <T> PageUpdater<T> pageUpdater(Page<T> page) {",
+            "    PageUpdater<T> _updater = pageUpdater.get();",
+            "    if (_updater._currently_in_use) {",
+            "      pageUpdater.remove();",
+            "      _updater = pageUpdater.get();",
+            "    }",
+            "    _updater._currently_in_use = true;",
+            "    _updater.items = page.items;",
+            "    _updater.number = page.number;",
+            "    return _updater;",
+            "  }",
+            "",
+            "  @SuppressWarnings({\"rawtypes\", \"unchecked\"})",
+            "  private static final class PageBuilderImpl implements PageBuilder.Items, PageBuilder.Number {",
+            "    private boolean _currently_in_use;",
+            "    private int _step;",
+            "    private List items;",
+            "",
+            "    PageBuilderImpl() {",
+            "    }",
+            "",
+            "    private PageBuilderImpl(PageBuilderImpl _source) {",
+            "      this.items = _source.items;",
+            "    }",
+            "",
+            "    @Override",
+            "    public PageBuilder.Number items(List items) {",
+            "      PageBuilderImpl _impl = this._step == 0 ? this : new PageBuilderImpl(this);",
+            "      _impl.items = items;",
+            "      _impl._step = 1;",
+            "      return _impl;",
+            "    }",
+            "",
+            "    @Override",
+            "    public Page number(int number) {",
+            "      this._currently_in_use = false;",
+            "      Page _page = new Page(items, number);",
+            "      this._step = 0;",
+            "      this.items = null;",
+            "      return _page;",
+            "    }",
+            "  }",
+            "",
+            "  public static final class PageBuilder {",
+            "    private PageBuilder() {",
+            "      throw new UnsupportedOperationException(\"no instances\");",
+            "    }",
+            "",
+            "    public interface Items {",
+            "      <T> Number<T> items(List<T> items);",
+            "    }",
+            "",
+            "    public interface Number<T> {",
+            "      Page<T> number(int number);",
+            "    }",
+            "  }",
+            "",
+            "  public static final class PageUpdater<T> {",
+            "    private boolean _currently_in_use;",
+            "    private List<T> items;",
+            "    private int number;",
+            "",
+            "    private PageUpdater() {",
+            "    }",
+            "",
+            "    public PageUpdater<T> items(List<T> items) {",
+            "      this.items = items;",
+            "      return this;",
+            "    }",
+            "",
+            "    public PageUpdater<T> number(int number) {",
+            "      this.number = number;",
+            "      return this;",
+            "    }",
+            "",
+            "    public Page<T> done() {",
+            "      this._currently_in_use = false;",
+            "      Page<T> _page = new Page<T>(items, number);",
+            "      this.items = null;",
+            "      return _page;",
+            "    }",
+            "  }",
+            "}");
+    assertAbout(javaSources()).that(ImmutableList.of(page))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
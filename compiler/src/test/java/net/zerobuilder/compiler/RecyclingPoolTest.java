@@ -0,0 +1,151 @@
+package net.zerobuilder.compiler;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class RecyclingPoolTest {
+
+  @Test
+  public void stripedCube() {
+    JavaFileObject cube = forSourceLines("cube.Cube",
+        "package cube;",
+        "import net.zerobuilder.*;",
+        "import java.util.List;",
+        "",
+        "final class Cube {",
+        "  final String width;",
+        "  final List<String> length;",
+        "  @Builder",
+        "  @Updater",
+        "  @Recycle(Pool.STRIPED)",
+        "  Cube(String width, List<String> length) {",
+        "    this.width = width;",
+        "    this.length = length;",
+        "  }",
+        "}");
+    JavaFileObject expected =
+        forSourceLines("cube.CubeBuilders",
+            "package cube;",
+            "import java.util.List;",
+            "import java.util.concurrent.atomic.AtomicReferenceArray;",
+            "import javax.annotation.Generated;",
+            "",
+            GENERATED_ANNOTATION,
+            "public final class CubeBuilders {",
+            "  private static final AtomicReferenceArray<CubeBuilderImpl> cubeBuilderImpl = new AtomicReferenceArray<CubeBuilderImpl>(16);",
+            "",
+            "  private static final AtomicReferenceArray<CubeUpdater> cubeUpdater = new AtomicReferenceArray<CubeUpdater>(16);",
+            "",
+            "  private CubeBuilders() {",
+            "    throw new UnsupportedOperationException(\"no instances\");",
+            "  }",
+            "",
+            "  public static CubeBuilder.Width cubeBuilder() {",
+            "    CubeBuilderImpl _builder = cubeBuilderImpl.getAndSet((int) Thread.currentThread().getId() & 15, null);",
+            "    if (_builder == null) {",
+            "      _builder = new CubeBuilderImpl();",
+            "    }",
+            "    return _builder;",
+            "  }",
+            "",
+            "  public static CubeUpdater cubeUpdater(Cube cube) {",
+            "    CubeUpdater _updater = cubeUpdater.getAndSet((int) Thread.currentThread().getId() & 15, null);",
+            "    if (_updater == null) {",
+            "      _updater = new CubeUpdater();",
+            "    }",
+            "    _updater.width = cube.width;",
+            "    _updater.length = cube.length;",
+            "    return _updater;",
+            "  }",
+            "",
+            "  private static final class CubeBuilderImpl implements",
+            "        CubeBuilder.Width , CubeBuilder.Length {",
+            "    private String width;",
+            "    CubeBuilderImpl() {}",
+            "",
+            "    @Override public CubeBuilder.Length width(String width) {",
+            "      this.width = width;",
+            "      return this; ",
+            "    }",
+            "",
+            "    @Override public Cube length(List<String> length) {",
+            "      Cube _cube = new Cube( width, length );",
+            "      this.width = null;",
+            "      cubeBuilderImpl.compareAndSet((int) Thread.currentThread().getId() & 15, null, this);",
+            "      return _cube;",
+            "    }",
+            "  }",
+            "",
+            "  public static final class CubeBuilder {",
+            "    private CubeBuilder() {",
+            "      throw new UnsupportedOperationException(\"no instances\");",
+            "    }",
+            "    public interface Width { Length width(String width); }",
+            "    public interface Length {",
+            "      Cube length(List<String> length);",
+            "    }",
+            "  }",
+            "",
+            "  public static final class CubeUpdater {",
+            "    private String width;",
+            "    private List<String> length;",
+            "    private CubeUpdater() {}",
+            "",
+            "    public CubeUpdater width(String width) {",
+            "      this.width = width;",
+            "      return this;",
+            "    }",
+            "",
+            "    public CubeUpdater length(List<String> length) {",
+            "      this.length = length;",
+            "      return this;",
+            "    }",
+            "",
+            "    public Cube done() {",
+            "      Cube _cube = new Cube( width, length );",
+            "      this.width = null;",
+            "      this.length = null;",
+            "      cubeUpdater.compareAndSet((int) Thread.currentThread().getId() & 15, null, this);",
+            "      return _cube;",
+            "    }",
+            "  }",
+            "}");
+    assertAbout(javaSources()).that(ImmutableList.of(cube))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+
+  @Test
+  public void sharedGenerics() {
+    JavaFileObject pair = forSourceLines("pair.Pair",
+        "package pair;",
+        "import net.zerobuilder.*;",
+        "import java.util.Map;",
+        "",
+        "final class Pair<K, V> {",
+        "  final K key;",
+        "  final V value;",
+        "  @Builder",
+        "  @Recycle(value = Pool.SHARED, stats = true)",
+        "  Pair(K key, V value) {",
+        "    this.key = key;",
+        "    this.value = value;",
+        "  }",
+        "  static Map<String, Long> stats() {",
+        "    PairBuilders.<String, Integer>pairBuilder().key(\"a\").value(1);",
+        "    return PairBuilders.pairBuilderPoolStats();",
+        "  }",
+        "}");
+    assertAbout(javaSources()).that(ImmutableList.of(pair))
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError();
+  }
+}
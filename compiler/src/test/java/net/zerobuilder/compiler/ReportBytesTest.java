@@ -0,0 +1,31 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class ReportBytesTest {
+
+  @Test
+  public void reportBytes() {
+    JavaFileObject message = forSourceLines("test.Message",
+        "package test;",
+        "import net.zerobuilder.*;",
+        "final class Message {",
+        "  final String sender;",
+        "  @Builder",
+        "  Message(String sender) {",
+        "    this.sender = sender;",
+        "  }",
+        "}");
+    assertAbout(javaSource()).that(message)
+        .withCompilerOptions("-Azerobuilder.reportBytes=true")
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .withNoteContaining("test.MessageBuilders: ");
+  }
+}
@@ -0,0 +1,106 @@
+package net.zerobuilder.compiler;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaFileObjects.forSourceLines;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static net.zerobuilder.compiler.test_util.GeneratedLines.GENERATED_ANNOTATION;
+
+public class StatelessTest {
+
+  @Test
+  public void singleParameter() {
+    JavaFileObject cube = forSourceLines("cube.Req",
+        "package cube;",
+        "import net.zerobuilder.*;",
+        "",
+        "final class Req {",
+        "  final String path;",
+        "",
+        "  @Builder",
+        "  @Recycle",
+        "  Req(String path) {",
+        "    this.path = path;",
+        "  }",
+        "",
+        "  @Builder(style = Style.FLAT)",
+        "  @Recycle",
+        "  @GoalName(\"get\")",
+        "  static Req get(String path) {",
+        "    return new Req(path);",
+        "  }",
+        "}");
+    JavaFileObject expected = forSourceLines(
+        "cube.ReqBuilders",
+        "package cube;",
+        "",
+        "import javax.annotation.Generated;",
+        "",
+        GENERATED_ANNOTATION,
+        "public final class ReqBuilders {",
+        "  private static final ReqBuilderImpl reqBuilderImpl = new ReqBuilderImpl();",
+        "",
+        "  private static final GetBuilderImpl getBuilderImpl = new GetBuilderImpl();",
+        "",
+        "  private ReqBuilders() {",
+        "    throw new UnsupportedOperationException(\"no instances\");",
+        "  }",
+        "",
+        "  public static ReqBuilder.Path reqBuilder() {",
+        "    return reqBuilderImpl;",
+        "  }",
+        "",
+        "  public static GetBuilder.Path getBuilder() {",
+        "    return getBuilderImpl;",
+        "  }",
+        "",
+        "  private static final class ReqBuilderImpl implements ReqBuilder.Path {",
+        "    ReqBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public Req path(String path) {",
+        "      Req _req = new Req(path);",
+        "      return _req;",
+        "    }",
+        "  }",
+        "",
+        "  public static final class ReqBuilder {",
+        "    private ReqBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Path {",
+        "      Req path(String path);",
+        "    }",
+        "  }",
+        "",
+        "  private static final class GetBuilderImpl implements GetBuilder.Path {",
+        "    GetBuilderImpl() {",
+        "    }",
+        "",
+        "    @Override",
+        "    public Req path(String path) {",
+        "      return Req.get(path);",
+        "    }",
+        "  }",
+        "",
+        "  public static final class GetBuilder {",
+        "    private GetBuilder() {",
+        "      throw new UnsupportedOperationException(\"no instances\");",
+        "    }",
+        "",
+        "    public interface Path {",
+        "      Req path(String path);",
+        "    }",
+        "  }",
+        "}");
+    assertAbout(javaSource()).that(cube)
+        .processedWith(new ZeroProcessor())
+        .compilesWithoutError()
+        .and().generatesSources(expected);
+  }
+}
@@ -33,12 +33,14 @@ public class ThrowTest {
             "",
             GENERATED_ANNOTATION,
             "public final class ThrowBuilders {",
+            "  private static final VoidBuilderImpl voidBuilderImpl = new VoidBuilderImpl();",
+            "",
             "  private ThrowBuilders() {",
             "    throw new UnsupportedOperationException(\"no instances\");",
             "  }",
             "",
             "  public static VoidBuilder.Message VoidBuilder() {",
-            "    return new VoidBuilderImpl();",
+            "    return voidBuilderImpl;",
             "  }",
             "",
             "  private static final class VoidBuilderImpl implements VoidBuilder.Message {",
@@ -0,0 +1,32 @@
+package net.zerobuilder.examples.beans;
+
+import net.zerobuilder.BeanBuilder;
+import net.zerobuilder.Recycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// recycled updater that changes the given bean, instead of a copy
+// see CartTest
+@BeanBuilder(inPlace = true)
+@Recycle
+public class Cart {
+
+  private String customer;
+  private List<String> items;
+
+  public String getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(String customer) {
+    this.customer = customer;
+  }
+
+  public List<String> getItems() {
+    if (items == null) {
+      items = new ArrayList<>();
+    }
+    return items;
+  }
+}
@@ -0,0 +1,24 @@
+package net.zerobuilder.examples.beans;
+
+import net.zerobuilder.BeanBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// lone getter, counts its invocations
+// see DepartmentTest
+@BeanBuilder
+public class Department {
+
+  private final List<String> members = new ArrayList<>();
+  private int memberReads;
+
+  public List<String> getMembers() {
+    memberReads++;
+    return members;
+  }
+
+  int memberReads() {
+    return memberReads;
+  }
+}
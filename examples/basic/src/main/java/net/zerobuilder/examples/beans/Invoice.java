@@ -0,0 +1,31 @@
+package net.zerobuilder.examples.beans;
+
+import net.zerobuilder.BeanBuilder;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
+
+// bean builder and updater in a pool that is shared by all threads
+// see InvoiceTest
+@BeanBuilder
+@Recycle(value = Pool.SHARED, stats = true)
+public class Invoice {
+
+  private String customer;
+  private int amount;
+
+  public String getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(String customer) {
+    this.customer = customer;
+  }
+
+  public int getAmount() {
+    return amount;
+  }
+
+  public void setAmount(int amount) {
+    this.amount = amount;
+  }
+}
@@ -0,0 +1,36 @@
+package net.zerobuilder.examples.beans;
+
+import net.zerobuilder.BeanBuilder;
+import net.zerobuilder.Recycle;
+
+// recycled bean builder and updater, next bean is created in advance
+// see JournalTest
+@BeanBuilder
+@Recycle(prefetch = true)
+public class Journal {
+
+  static int instances;
+
+  private String title;
+  private int pages;
+
+  public Journal() {
+    instances++;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public int getPages() {
+    return pages;
+  }
+
+  public void setPages(int pages) {
+    this.pages = pages;
+  }
+}
@@ -0,0 +1,32 @@
+package net.zerobuilder.examples.beans;
+
+import net.zerobuilder.BeanBuilder;
+import net.zerobuilder.Recycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// recycled bean builder and updater
+// see LedgerTest
+@BeanBuilder
+@Recycle
+public class Ledger {
+
+  private String owner;
+  private List<String> entries;
+
+  public String getOwner() {
+    return owner;
+  }
+
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public List<String> getEntries() {
+    if (entries == null) {
+      entries = new ArrayList<>();
+    }
+    return entries;
+  }
+}
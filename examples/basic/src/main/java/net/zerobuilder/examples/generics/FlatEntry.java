@@ -0,0 +1,31 @@
+package net.zerobuilder.examples.generics;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.GoalName;
+import net.zerobuilder.Style;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+// a single carrier object instead of one object per step
+// see FlatEntryTest
+public class FlatEntry<S extends CharSequence> {
+
+  final S prefix;
+
+  FlatEntry(S prefix) {
+    this.prefix = prefix;
+  }
+
+  @Builder(style = Style.FLAT)
+  @GoalName("entry")
+  static <K, V> Map.Entry<K, V> entry(K key, V value) {
+    return new AbstractMap.SimpleEntry<>(key, value);
+  }
+
+  @Builder(style = Style.FLAT)
+  @GoalName("prefixed")
+  <V extends Number> Map.Entry<String, V> prefixed(S key, String suffix, V value) {
+    return new AbstractMap.SimpleEntry<>(prefix.toString() + key + suffix, value);
+  }
+}
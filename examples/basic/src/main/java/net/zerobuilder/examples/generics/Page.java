@@ -0,0 +1,23 @@
+package net.zerobuilder.examples.generics;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+import java.util.List;
+
+// a generic goal can be recycled
+// see PageTest
+final class Page<T> {
+
+  final List<T> items;
+  final int number;
+
+  @Builder
+  @Updater
+  @Recycle
+  Page(List<T> items, int number) {
+    this.items = items;
+    this.number = number;
+  }
+}
@@ -0,0 +1,26 @@
+package net.zerobuilder.examples.generics;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// type parameters on a static method, striped pool
+// see ResultTest
+final class Result<E, V> {
+
+  final E error;
+  final V value;
+
+  private Result(E error, V value) {
+    this.error = error;
+    this.value = value;
+  }
+
+  @Builder
+  @Updater
+  @Recycle(Pool.STRIPED)
+  static <E, V> Result<E, V> result(E error, V value) {
+    return new Result<>(error, value);
+  }
+}
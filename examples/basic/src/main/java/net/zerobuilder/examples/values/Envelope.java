@@ -0,0 +1,24 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// striped pool instead of ThreadLocal
+// see EnvelopeTest
+final class Envelope {
+
+  final String sender;
+  final String recipient;
+  final int weight;
+
+  @Builder
+  @Updater
+  @Recycle(Pool.STRIPED)
+  Envelope(String sender, String recipient, int weight) {
+    this.sender = sender;
+    this.recipient = recipient;
+    this.weight = weight;
+  }
+}
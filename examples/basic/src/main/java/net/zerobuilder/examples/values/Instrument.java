@@ -0,0 +1,18 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
+
+// nested codec and json, see Trade
+final class Instrument {
+
+  final String symbol;
+  final char venue;
+
+  @Codec
+  @Json
+  Instrument(String symbol, char venue) {
+    this.symbol = symbol;
+    this.venue = venue;
+  }
+}
@@ -0,0 +1,46 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.GoalName;
+
+// batch goals: measurementFromArrays, totalFromArrays, scaledFromArrays, differenceFromArrays, labelFromArrays
+// see MeasurementTest
+final class Measurement {
+
+  final String unit;
+  final int count;
+  final double value;
+
+  @Builder(batch = true)
+  Measurement(String unit, int count, double value) {
+    this.unit = unit;
+    this.count = count;
+    this.value = value;
+  }
+
+  @Builder(batch = true)
+  @GoalName("total")
+  static long total(int count, long each) {
+    return count * each;
+  }
+
+  @Builder(batch = true)
+  @GoalName("scaled")
+  Measurement scale(double factor) {
+    return new Measurement(unit, count, value * factor);
+  }
+
+  // the parameter has the same name as the instance
+  @Builder(batch = true)
+  @GoalName("difference")
+  double minus(Measurement measurement) {
+    return value - measurement.value;
+  }
+
+  // the parameters have the same names as the locals of labelFromArrays
+  @Builder(batch = true)
+  @GoalName("label")
+  static String label(String _size, String _i, String _list) {
+    return _size + _i + _list;
+  }
+}
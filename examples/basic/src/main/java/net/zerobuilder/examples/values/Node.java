@@ -0,0 +1,22 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Pool;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// shared pool with stats
+// see NodeTest
+final class Node {
+
+  final String name;
+  final Node child;
+
+  @Builder
+  @Updater
+  @Recycle(value = Pool.SHARED, stats = true)
+  Node(String name, Node child) {
+    this.name = name;
+    this.child = child;
+  }
+}
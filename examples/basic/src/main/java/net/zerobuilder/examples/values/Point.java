@@ -0,0 +1,27 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.GoalName;
+import net.zerobuilder.Style;
+
+// monomorphic steps: final classes instead of interfaces
+// see PointTest
+final class Point {
+
+  final int x;
+  final int y;
+  final String label;
+
+  @Builder(style = Style.MONOMORPHIC)
+  Point(int x, int y, String label) {
+    this.x = x;
+    this.y = y;
+    this.label = label;
+  }
+
+  @Builder(style = Style.MONOMORPHIC)
+  @GoalName("translated")
+  Point translate(int dx, int dy) {
+    return new Point(x + dx, y + dy, label);
+  }
+}
@@ -0,0 +1,28 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Updater;
+
+// lazy updater, counts the projection calls
+// see ProfileTest
+final class Profile {
+
+  static int nameReads;
+
+  private final String name;
+  final String email;
+  final int age;
+
+  @Builder
+  @Updater(lazy = true)
+  Profile(String name, String email, int age) {
+    this.name = name;
+    this.email = email;
+    this.age = age;
+  }
+
+  String getName() {
+    nameReads++;
+    return name;
+  }
+}
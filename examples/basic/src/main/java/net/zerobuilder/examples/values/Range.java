@@ -0,0 +1,27 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Updater;
+
+// lazy updater that returns the source if nothing changed,
+// counts the projection calls
+// see RangeTest
+final class Range {
+
+  static int fromReads;
+
+  private final Integer from;
+  final int to;
+
+  @Builder
+  @Updater(lazy = true, identity = true)
+  Range(Integer from, int to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  Integer getFrom() {
+    fromReads++;
+    return from;
+  }
+}
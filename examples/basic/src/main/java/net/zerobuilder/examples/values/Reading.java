@@ -0,0 +1,44 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.GoalName;
+
+import java.util.Collection;
+
+// function goals: readingFunction, recordFunction, deltaFunction, tagFunction
+// see ReadingTest
+final class Reading {
+
+  final String sensor;
+  final long time;
+  final double value;
+  final boolean valid;
+
+  @Builder(function = true)
+  Reading(String sensor, long time, double value, boolean valid) {
+    this.sensor = sensor;
+    this.time = time;
+    this.value = value;
+    this.valid = valid;
+  }
+
+  @Builder(function = true)
+  @GoalName("record")
+  static void record(Collection<? super String> log, String sensor) {
+    log.add(sensor);
+  }
+
+  // the parameter has the same name as the instance
+  @Builder(function = true)
+  @GoalName("delta")
+  double minus(Reading reading) {
+    return value - reading.value;
+  }
+
+  // the parameter has the same name as the lambda parameter of tagFunction
+  @Builder(function = true)
+  @GoalName("tag")
+  static String tag(String _row) {
+    return '#' + _row;
+  }
+}
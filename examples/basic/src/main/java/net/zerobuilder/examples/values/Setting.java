@@ -0,0 +1,21 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Recycle;
+import net.zerobuilder.Updater;
+
+// updater that returns the source if nothing changed
+// see SettingTest
+final class Setting {
+
+  final String key;
+  final double value;
+
+  @Builder
+  @Updater(identity = true)
+  @Recycle
+  Setting(String key, double value) {
+    this.key = key;
+    this.value = value;
+  }
+}
@@ -0,0 +1,54 @@
+package net.zerobuilder.examples.values;
+
+import net.zerobuilder.Builder;
+import net.zerobuilder.Codec;
+import net.zerobuilder.Json;
+
+// codec goal: tradeEncode, tradeDecode, tradeEncodedSize
+// json goal: tradeToJson, tradeFromJson
+// see TradeTest
+final class Trade {
+
+  private final long id;
+  private final Instrument instrument;
+  private final double price;
+  private final int quantity;
+  private final boolean buy;
+  private final String trader;
+
+  @Builder
+  @Codec
+  @Json
+  Trade(long id, Instrument instrument, double price, int quantity, boolean buy, String trader) {
+    this.id = id;
+    this.instrument = instrument;
+    this.price = price;
+    this.quantity = quantity;
+    this.buy = buy;
+    this.trader = trader;
+  }
+
+  long id() {
+    return id;
+  }
+
+  Instrument instrument() {
+    return instrument;
+  }
+
+  double price() {
+    return price;
+  }
+
+  int quantity() {
+    return quantity;
+  }
+
+  boolean buy() {
+    return buy;
+  }
+
+  String trader() {
+    return trader;
+  }
+}
@@ -0,0 +1,68 @@
+package net.zerobuilder.examples.beans;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static java.util.Arrays.asList;
+import static net.zerobuilder.examples.beans.CartBuilders.cartBuilder;
+import static net.zerobuilder.examples.beans.CartBuilders.cartUpdater;
+import static net.zerobuilder.examples.beans.LedgerTest.awaitCollection;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CartTest {
+
+  @Test
+  public void update() {
+    Cart cart = cartBuilder().customer("Alice").items(asList("apple"));
+    Cart updated = cartUpdater(cart).customer("Bob").done();
+    assertThat(updated, is(sameInstance(cart)));
+    assertThat(cart.getCustomer(), is("Bob"));
+    assertThat(cart.getItems(), is(asList("apple")));
+  }
+
+  @Test
+  public void replaceItems() {
+    Cart cart = cartBuilder().customer("Alice").items(asList("apple"));
+    cartUpdater(cart).items(asList("pear", "plum")).done();
+    assertThat(cart.getItems(), is(asList("pear", "plum")));
+  }
+
+  @Test
+  public void sameItems() {
+    Cart cart = cartBuilder().customer("Alice").items(asList("apple"));
+    cartUpdater(cart).items(cart.getItems()).done();
+    assertThat(cart.getItems(), is(asList("apple")));
+  }
+
+  @Test
+  public void nested() {
+    Cart first = cartBuilder().customer("Alice").items(asList("apple"));
+    Cart second = cartBuilder().customer("Bob").items(asList("pear"));
+    CartBuilders.CartUpdater outer = cartUpdater(first).customer("Carol");
+    cartUpdater(second).customer("Dave").done();
+    outer.done();
+    assertThat(first.getCustomer(), is("Carol"));
+    assertThat(second.getCustomer(), is("Dave"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullBean() {
+    cartUpdater(null);
+  }
+
+  @Test
+  public void updaterDoesNotRetainBean() throws InterruptedException {
+    WeakReference<Cart> ref = updated();
+    awaitCollection(ref);
+    assertThat(ref.get(), is(nullValue()));
+  }
+
+  private static WeakReference<Cart> updated() {
+    Cart cart = cartBuilder().customer("Alice").items(asList("apple"));
+    return new WeakReference<>(cartUpdater(cart).customer("Bob").done());
+  }
+}
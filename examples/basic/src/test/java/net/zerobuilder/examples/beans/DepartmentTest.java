@@ -0,0 +1,46 @@
+package net.zerobuilder.examples.beans;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static net.zerobuilder.examples.beans.DepartmentBuilders.departmentBuilder;
+import static net.zerobuilder.examples.beans.DepartmentBuilders.departmentUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class DepartmentTest {
+
+  @Test
+  public void collection() {
+    Department department = departmentBuilder()
+        .members(asList("a", "b", "c"));
+    assertThat(department.getMembers(), is(asList("a", "b", "c")));
+    assertThat(department.memberReads(), is(2));
+  }
+
+  @Test
+  public void iterable() {
+    Iterable<String> members = () -> Arrays.asList("a", "b").iterator();
+    Department department = departmentBuilder()
+        .members(members);
+    assertThat(department.getMembers(), is(asList("a", "b")));
+    assertThat(department.memberReads(), is(2));
+  }
+
+  @Test
+  public void update() {
+    Department department = departmentBuilder()
+        .members(asList("a", "b"));
+    Department updated = departmentUpdater(department)
+        .members(singletonList("c"))
+        .done();
+    List<String> members = updated.getMembers();
+    assertThat(members, is(singletonList("c")));
+    assertThat(updated.memberReads(), is(3));
+    assertThat(department.getMembers(), is(asList("a", "b")));
+  }
+}
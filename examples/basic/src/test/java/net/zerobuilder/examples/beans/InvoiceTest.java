@@ -0,0 +1,81 @@
+package net.zerobuilder.examples.beans;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static net.zerobuilder.examples.beans.InvoiceBuilders.invoiceBuilder;
+import static net.zerobuilder.examples.beans.InvoiceBuilders.invoiceBuilderPoolStats;
+import static net.zerobuilder.examples.beans.InvoiceBuilders.invoiceUpdater;
+import static net.zerobuilder.examples.beans.InvoiceBuilders.invoiceUpdaterPoolStats;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class InvoiceTest {
+
+  @Test
+  public void builderHits() {
+    invoiceBuilder().amount(1).customer("warmup");
+    Map<String, Long> before = invoiceBuilderPoolStats();
+    for (int i = 0; i < 100; i++) {
+      invoiceBuilder().amount(i).customer("a");
+    }
+    Map<String, Long> after = invoiceBuilderPoolStats();
+    assertThat(delta(before, after, "hits"), is(100L));
+    assertThat(delta(before, after, "misses"), is(0L));
+    assertThat(delta(before, after, "returned"), is(100L));
+  }
+
+  @Test
+  public void newBeanEachTime() {
+    Invoice first = invoiceBuilder().amount(1).customer("a");
+    Invoice second = invoiceBuilder().amount(2).customer("b");
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(first.getAmount(), is(1));
+    assertThat(second.getAmount(), is(2));
+  }
+
+  @Test
+  public void update() {
+    Invoice invoice = invoiceBuilder().amount(1).customer("a");
+    Map<String, Long> before = invoiceUpdaterPoolStats();
+    Invoice updated = invoiceUpdater(invoice).amount(2).done();
+    Map<String, Long> after = invoiceUpdaterPoolStats();
+    assertThat(updated, is(not(sameInstance(invoice))));
+    assertThat(updated.getAmount(), is(2));
+    assertThat(updated.getCustomer(), is("a"));
+    assertThat(invoice.getAmount(), is(1));
+    assertThat(delta(before, after, "returned"), is(1L));
+  }
+
+  @Test
+  public void manyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<Invoice>> futures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int amount = i;
+        futures.add(executor.submit(() ->
+            invoiceBuilder().amount(amount).customer("c" + amount)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        Invoice invoice = futures.get(i).get();
+        assertThat(invoice.getAmount(), is(i));
+        assertThat(invoice.getCustomer(), is("c" + i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static long delta(Map<String, Long> before, Map<String, Long> after, String key) {
+    return after.get(key) - before.get(key);
+  }
+}
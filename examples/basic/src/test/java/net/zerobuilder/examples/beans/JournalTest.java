@@ -0,0 +1,52 @@
+package net.zerobuilder.examples.beans;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static net.zerobuilder.examples.beans.JournalBuilders.journalBuilder;
+import static net.zerobuilder.examples.beans.JournalBuilders.journalUpdater;
+import static net.zerobuilder.examples.beans.LedgerTest.awaitCollection;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class JournalTest {
+
+  @Test
+  public void prefetch() {
+    journalBuilder().pages(1).title("warmup");
+    int instances = Journal.instances;
+    // the bean for this build already exists
+    JournalBuilders.JournalBuilder.Title step = journalBuilder().pages(2);
+    assertThat(Journal.instances, is(instances));
+    Journal journal = step.title("a");
+    // the bean for the next build is created now
+    assertThat(Journal.instances, is(instances + 1));
+    assertThat(journal.getPages(), is(2));
+    assertThat(journal.getTitle(), is("a"));
+  }
+
+  @Test
+  public void update() {
+    Journal journal = journalBuilder().pages(1).title("a");
+    Journal updated = journalUpdater(journal).title("b").done();
+    assertThat(updated, is(not(sameInstance(journal))));
+    assertThat(updated.getPages(), is(1));
+    assertThat(updated.getTitle(), is("b"));
+    assertThat(journal.getTitle(), is("a"));
+  }
+
+  @Test
+  public void builderDoesNotRetainBean() throws InterruptedException {
+    WeakReference<Journal> ref = built();
+    awaitCollection(ref);
+    assertThat(ref.get(), is(nullValue()));
+  }
+
+  private static WeakReference<Journal> built() {
+    return new WeakReference<>(journalBuilder().pages(3).title("c"));
+  }
+}
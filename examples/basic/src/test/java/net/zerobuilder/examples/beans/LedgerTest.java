@@ -0,0 +1,80 @@
+package net.zerobuilder.examples.beans;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static java.util.Arrays.asList;
+import static net.zerobuilder.examples.beans.LedgerBuilders.ledgerBuilder;
+import static net.zerobuilder.examples.beans.LedgerBuilders.ledgerUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LedgerTest {
+
+  @Test
+  public void build() {
+    Ledger first = ledgerBuilder().entries(asList("a", "b")).owner("Alice");
+    Ledger second = ledgerBuilder().entries(asList("c")).owner("Bob");
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(first.getOwner(), is("Alice"));
+    assertThat(first.getEntries(), is(asList("a", "b")));
+    assertThat(second.getOwner(), is("Bob"));
+    assertThat(second.getEntries(), is(asList("c")));
+  }
+
+  @Test
+  public void update() {
+    Ledger ledger = ledgerBuilder().entries(asList("a")).owner("Alice");
+    Ledger first = ledgerUpdater(ledger).owner("Bob").done();
+    Ledger second = ledgerUpdater(ledger).entries(asList("b")).done();
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(first.getOwner(), is("Bob"));
+    assertThat(first.getEntries(), is(asList("a")));
+    assertThat(second.getOwner(), is("Alice"));
+    assertThat(second.getEntries(), is(asList("b")));
+    assertThat(ledger.getOwner(), is("Alice"));
+  }
+
+  @Test
+  public void noReuseWhileInUse() {
+    LedgerBuilders.LedgerBuilder.Owner outer = ledgerBuilder().entries(asList("a"));
+    Ledger inner = ledgerBuilder().entries(asList("b")).owner("Bob");
+    Ledger ledger = outer.owner("Alice");
+    assertThat(ledger.getEntries(), is(asList("a")));
+    assertThat(inner.getEntries(), is(asList("b")));
+  }
+
+  @Test
+  public void builderDoesNotRetainBean() throws InterruptedException {
+    WeakReference<Ledger> ref = built();
+    awaitCollection(ref);
+    assertThat(ref.get(), is(nullValue()));
+  }
+
+  @Test
+  public void updaterDoesNotRetainBean() throws InterruptedException {
+    WeakReference<Ledger> ref = updated();
+    awaitCollection(ref);
+    assertThat(ref.get(), is(nullValue()));
+  }
+
+  private static WeakReference<Ledger> built() {
+    return new WeakReference<>(ledgerBuilder().entries(asList("a")).owner("Alice"));
+  }
+
+  private static WeakReference<Ledger> updated() {
+    Ledger ledger = ledgerBuilder().entries(asList("a")).owner("Alice");
+    return new WeakReference<>(ledgerUpdater(ledger).owner("Bob").done());
+  }
+
+  static void awaitCollection(WeakReference<?> ref) throws InterruptedException {
+    for (int i = 0; i < 50 && ref.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+  }
+}
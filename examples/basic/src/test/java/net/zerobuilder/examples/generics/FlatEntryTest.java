@@ -0,0 +1,54 @@
+package net.zerobuilder.examples.generics;
+
+import org.junit.Test;
+
+import java.util.Map.Entry;
+
+import static net.zerobuilder.examples.generics.FlatEntryBuilders.entryBuilder;
+import static net.zerobuilder.examples.generics.FlatEntryBuilders.prefixedBuilder;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class FlatEntryTest {
+
+  @Test
+  public void entry() throws Exception {
+    Entry<String, Long> entry = entryBuilder()
+        .key("foo")
+        .value(12L);
+    assertThat(entry.getKey(), is("foo"));
+    assertThat(entry.getValue(), is(12L));
+  }
+
+  @Test
+  public void branching() throws Exception {
+    FlatEntryBuilders.EntryBuilder.Value<String> foo = entryBuilder().key("foo");
+    FlatEntryBuilders.EntryBuilder.Value<String> bar = entryBuilder().key("bar");
+    FlatEntryBuilders.EntryBuilder.Key key = entryBuilder();
+    FlatEntryBuilders.EntryBuilder.Value<String> baz = key.key("baz");
+    FlatEntryBuilders.EntryBuilder.Value<String> qux = key.key("qux");
+    Entry<String, Integer> foo1 = foo.value(1);
+    Entry<String, Integer> foo2 = foo.value(2);
+    assertThat(foo1.getKey(), is("foo"));
+    assertThat(foo1.getValue(), is(1));
+    assertThat(foo2.getKey(), is("foo"));
+    assertThat(foo2.getValue(), is(2));
+    assertThat(bar.value(3).getKey(), is("bar"));
+    assertThat(baz.value(4).getKey(), is("baz"));
+    assertThat(qux.value(5).getKey(), is("qux"));
+  }
+
+  @Test
+  public void instance() throws Exception {
+    FlatEntry<String> flatEntry = new FlatEntry<>("a");
+    FlatEntryBuilders.PrefixedBuilder.Suffix<String> b = prefixedBuilder(flatEntry).key("b");
+    FlatEntryBuilders.PrefixedBuilder.Value<String> c = b.suffix("c");
+    FlatEntryBuilders.PrefixedBuilder.Value<String> d = b.suffix("d");
+    Entry<String, Integer> abc = c.value(1);
+    Entry<String, Double> abd = d.value(2d);
+    assertThat(abc.getKey(), is("abc"));
+    assertThat(abc.getValue(), is(1));
+    assertThat(abd.getKey(), is("abd"));
+    assertThat(abd.getValue(), is(2d));
+  }
+}
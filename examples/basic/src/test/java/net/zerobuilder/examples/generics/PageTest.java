@@ -0,0 +1,50 @@
+package net.zerobuilder.examples.generics;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static net.zerobuilder.examples.generics.PageBuilders.pageBuilder;
+import static net.zerobuilder.examples.generics.PageBuilders.pageUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PageTest {
+
+  @Test
+  public void page() throws Exception {
+    Page<String> page = pageBuilder()
+        .items(asList("a", "b"))
+        .number(1);
+    Page<String> updated = pageUpdater(page)
+        .number(2)
+        .done();
+    assertThat(updated.items, is(asList("a", "b")));
+    assertThat(updated.number, is(2));
+    assertThat(page.number, is(1));
+  }
+
+  @Test
+  public void reuseAfterRelease() throws Exception {
+    PageBuilders.PageBuilder.Items builder = pageBuilder();
+    Page<Integer> page = builder.items(singletonList(1)).number(1);
+    assertThat(page.items, is(singletonList(1)));
+    assertThat(pageBuilder(), is(sameInstance(builder)));
+  }
+
+  @Test
+  public void noReuseWhileInUse() throws Exception {
+    PageBuilders.PageBuilder.Number<String> outer = pageBuilder().items(singletonList("a"));
+    List<Long> numbers = asList(1L, 2L);
+    Page<Long> inner = pageBuilder().items(numbers).number(2);
+    Page<String> page = outer.number(1);
+    assertThat(inner.items, is(numbers));
+    assertThat(page.items, is(singletonList("a")));
+    assertThat(page.number, is(1));
+    assertThat(outer, is(not(sameInstance(pageBuilder().items(singletonList("b"))))));
+  }
+}
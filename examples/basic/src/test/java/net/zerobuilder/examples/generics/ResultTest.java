@@ -0,0 +1,52 @@
+package net.zerobuilder.examples.generics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static net.zerobuilder.examples.generics.ResultBuilders.resultBuilder;
+import static net.zerobuilder.examples.generics.ResultBuilders.resultUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ResultTest {
+
+  @Test
+  public void result() throws Exception {
+    Result<Exception, Integer> result = resultBuilder()
+        .error((Exception) null)
+        .value(12);
+    Result<Exception, Integer> updated = resultUpdater(result)
+        .value(13)
+        .done();
+    assertThat(updated.error, is(nullValue()));
+    assertThat(updated.value, is(13));
+    assertThat(result.value, is(12));
+  }
+
+  @Test
+  public void manyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<Result<String, Integer>>> futures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int value = i;
+        futures.add(executor.submit(() -> resultBuilder()
+            .error("e" + value)
+            .value(value)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        Result<String, Integer> result = futures.get(i).get();
+        assertThat(result.error, is("e" + i));
+        assertThat(result.value, is(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static net.zerobuilder.examples.values.EnvelopeBuilders.envelopeBuilder;
+import static net.zerobuilder.examples.values.EnvelopeBuilders.envelopeUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class EnvelopeTest {
+
+  @Test
+  public void envelope() throws Exception {
+    Envelope envelope = envelopeBuilder()
+        .sender("Alice")
+        .recipient("Bob")
+        .weight(12);
+    Envelope updated = envelopeUpdater(envelope)
+        .weight(13)
+        .done();
+    assertThat(updated.sender, is("Alice"));
+    assertThat(updated.recipient, is("Bob"));
+    assertThat(updated.weight, is(13));
+    assertThat(envelope.weight, is(12));
+  }
+
+  @Test
+  public void reuseAfterRelease() throws Exception {
+    EnvelopeBuilders.EnvelopeBuilder.Sender builder = envelopeBuilder();
+    builder.sender("Alice").recipient("Bob").weight(1);
+    assertThat(envelopeBuilder(), is(sameInstance(builder)));
+  }
+
+  @Test
+  public void noReuseWhileInUse() throws Exception {
+    EnvelopeBuilders.EnvelopeBuilder.Recipient outer = envelopeBuilder().sender("Alice");
+    Envelope inner = envelopeBuilder().sender("Carol").recipient("Dave").weight(2);
+    Envelope envelope = outer.recipient("Bob").weight(1);
+    assertThat(inner.sender, is("Carol"));
+    assertThat(envelope.sender, is("Alice"));
+    assertThat(envelope.recipient, is("Bob"));
+    assertThat(outer, is(not(sameInstance(envelopeBuilder().sender("Erin")))));
+  }
+
+  @Test
+  public void manyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<Envelope>> futures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int weight = i;
+        futures.add(executor.submit(() -> envelopeBuilder()
+            .sender("s" + weight)
+            .recipient("r" + weight)
+            .weight(weight)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        Envelope envelope = futures.get(i).get();
+        assertThat(envelope.sender, is("s" + i));
+        assertThat(envelope.recipient, is("r" + i));
+        assertThat(envelope.weight, is(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static net.zerobuilder.examples.values.MeasurementBuilders.differenceFromArrays;
+import static net.zerobuilder.examples.values.MeasurementBuilders.labelFromArrays;
+import static net.zerobuilder.examples.values.MeasurementBuilders.measurementBuilder;
+import static net.zerobuilder.examples.values.MeasurementBuilders.measurementFromArrays;
+import static net.zerobuilder.examples.values.MeasurementBuilders.scaledFromArrays;
+import static net.zerobuilder.examples.values.MeasurementBuilders.totalFromArrays;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class MeasurementTest {
+
+  @Test
+  public void constructor() {
+    List<Measurement> measurements = measurementFromArrays(
+        new String[]{"m", "s"},
+        new int[]{1, 2},
+        new double[]{0.5, 1.5});
+    assertThat(measurements.size(), is(2));
+    assertThat(measurements.get(0).unit, is("m"));
+    assertThat(measurements.get(0).count, is(1));
+    assertThat(measurements.get(0).value, is(0.5));
+    assertThat(measurements.get(1).unit, is("s"));
+    assertThat(measurements.get(1).count, is(2));
+    assertThat(measurements.get(1).value, is(1.5));
+  }
+
+  @Test
+  public void staticMethod() {
+    assertThat(totalFromArrays(new int[]{2, 3}, new long[]{5L, 7L}),
+        is(asList(10L, 21L)));
+  }
+
+  @Test
+  public void instanceMethod() {
+    Measurement measurement = measurementBuilder().unit("m").count(1).value(2.0);
+    List<Measurement> scaled = scaledFromArrays(measurement, new double[]{0.5, 3.0});
+    assertThat(scaled.size(), is(2));
+    assertThat(scaled.get(0).value, is(1.0));
+    assertThat(scaled.get(1).value, is(6.0));
+    assertThat(scaled.get(1).unit, is("m"));
+  }
+
+  @Test
+  public void parameterNamedLikeInstance() {
+    Measurement measurement = measurementBuilder().unit("m").count(1).value(2.0);
+    Measurement other = measurementBuilder().unit("m").count(1).value(0.5);
+    assertThat(differenceFromArrays(measurement, new Measurement[]{other, measurement}),
+        is(asList(1.5, 0.0)));
+  }
+
+  @Test
+  public void parametersNamedLikeLocals() {
+    assertThat(labelFromArrays(new String[]{"a", "d"}, new String[]{"b", "e"}, new String[]{"c", "f"}),
+        is(asList("abc", "def")));
+  }
+
+  @Test
+  public void empty() {
+    assertThat(measurementFromArrays(new String[0], new int[0], new double[0]).isEmpty(),
+        is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void lengthMismatch() {
+    measurementFromArrays(new String[]{"m"}, new int[]{1, 2}, new double[]{0.5});
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullInstance() {
+    scaledFromArrays(null, new double[]{1.0});
+  }
+}
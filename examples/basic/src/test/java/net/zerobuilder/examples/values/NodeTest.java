@@ -0,0 +1,104 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static net.zerobuilder.examples.values.NodeBuilders.nodeBuilder;
+import static net.zerobuilder.examples.values.NodeBuilders.nodeBuilderPoolStats;
+import static net.zerobuilder.examples.values.NodeBuilders.nodeUpdater;
+import static net.zerobuilder.examples.values.NodeBuilders.nodeUpdaterPoolStats;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class NodeTest {
+
+  private static Node nested() {
+    return nodeBuilder()
+        .name("outer")
+        .child(nodeBuilder().name("inner").child(null));
+  }
+
+  @Test
+  public void nestedBuild() {
+    Node node = nested();
+    assertThat(node.name, is("outer"));
+    assertThat(node.child.name, is("inner"));
+  }
+
+  @Test
+  public void nestedBuildHits() {
+    nested();
+    Map<String, Long> before = nodeBuilderPoolStats();
+    for (int i = 0; i < 100; i++) {
+      nested();
+    }
+    Map<String, Long> after = nodeBuilderPoolStats();
+    assertThat(delta(before, after, "hits"), is(200L));
+    assertThat(delta(before, after, "misses"), is(0L));
+    assertThat(delta(before, after, "returned"), is(200L));
+    assertThat(delta(before, after, "abandoned"), is(0L));
+  }
+
+  @Test
+  public void noReuseWhileInUse() {
+    NodeBuilders.NodeBuilder.Child outer = nodeBuilder().name("a");
+    NodeBuilders.NodeBuilder.Child inner = nodeBuilder().name("b");
+    assertThat(outer, is(not(sameInstance(inner))));
+    Node node = outer.child(inner.child(null));
+    assertThat(node.name, is("a"));
+    assertThat(node.child.name, is("b"));
+  }
+
+  @Test
+  public void abandoned() {
+    Map<String, Long> before = nodeBuilderPoolStats();
+    nodeBuilder().name("never done");
+    Map<String, Long> after = nodeBuilderPoolStats();
+    assertThat(delta(before, after, "abandoned"), is(1L));
+  }
+
+  @Test
+  public void updater() {
+    Node node = nested();
+    Map<String, Long> before = nodeUpdaterPoolStats();
+    Node updated = nodeUpdater(node).name("updated").done();
+    Map<String, Long> after = nodeUpdaterPoolStats();
+    assertThat(updated.name, is("updated"));
+    assertThat(updated.child, is(sameInstance(node.child)));
+    assertThat(delta(before, after, "hits") + delta(before, after, "misses"), is(1L));
+    assertThat(delta(before, after, "returned") + delta(before, after, "dropped"), is(1L));
+  }
+
+  @Test
+  public void manyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<Node>> futures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        String name = "n" + i;
+        futures.add(executor.submit(() -> nodeBuilder()
+            .name(name)
+            .child(nodeBuilder().name(name + "c").child(null))));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        Node node = futures.get(i).get();
+        assertThat(node.name, is("n" + i));
+        assertThat(node.child.name, is("n" + i + "c"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static long delta(Map<String, Long> before, Map<String, Long> after, String key) {
+    return after.get(key) - before.get(key);
+  }
+}
@@ -0,0 +1,50 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.lang.reflect.Modifier;
+
+import static net.zerobuilder.examples.values.PointBuilders.pointBuilder;
+import static net.zerobuilder.examples.values.PointBuilders.translatedBuilder;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PointTest {
+
+  @Test
+  public void constructor() {
+    Point point = pointBuilder().x(1).y(2).label("a");
+    assertThat(point.x, is(1));
+    assertThat(point.y, is(2));
+    assertThat(point.label, is("a"));
+  }
+
+  @Test
+  public void instanceMethod() {
+    Point point = translatedBuilder(pointBuilder().x(1).y(2).label("a"))
+        .dx(10)
+        .dy(20);
+    assertThat(point.x, is(11));
+    assertThat(point.y, is(22));
+    assertThat(point.label, is("a"));
+  }
+
+  @Test
+  public void reuseStep() {
+    PointBuilders.PointBuilder.Y y = pointBuilder().x(1);
+    Point a = y.y(2).label("a");
+    Point b = y.y(3).label("b");
+    assertThat(a.y, is(2));
+    assertThat(b.y, is(3));
+    assertThat(b.x, is(1));
+  }
+
+  @Test
+  public void finalSteps() {
+    for (Class<?> step : PointBuilders.PointBuilder.class.getDeclaredClasses()) {
+      assertTrue(step.getName(), Modifier.isFinal(step.getModifiers()));
+      assertTrue(step.getName(), !step.isInterface());
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import static net.zerobuilder.examples.values.ProfileBuilders.profileBuilder;
+import static net.zerobuilder.examples.values.ProfileBuilders.profileUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class ProfileTest {
+
+  @Test
+  public void unchangedPropertiesAreReadInDone() throws Exception {
+    Profile profile = profileBuilder()
+        .name("Alice")
+        .email("alice@example.com")
+        .age(30);
+    Profile.nameReads = 0;
+    ProfileBuilders.ProfileUpdater updater = profileUpdater(profile)
+        .age(31);
+    assertThat(Profile.nameReads, is(0));
+    Profile updated = updater.done();
+    assertThat(Profile.nameReads, is(1));
+    assertThat(updated.getName(), is("Alice"));
+    assertThat(updated.email, is("alice@example.com"));
+    assertThat(updated.age, is(31));
+  }
+
+  @Test
+  public void changedPropertiesAreNotRead() throws Exception {
+    Profile profile = profileBuilder()
+        .name("Alice")
+        .email("alice@example.com")
+        .age(30);
+    Profile.nameReads = 0;
+    Profile updated = profileUpdater(profile)
+        .name("Bob")
+        .done();
+    assertThat(Profile.nameReads, is(0));
+    assertThat(updated.getName(), is("Bob"));
+    assertThat(updated.email, is("alice@example.com"));
+    assertThat(updated.age, is(30));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullSource() throws Exception {
+    profileUpdater(null);
+  }
+}
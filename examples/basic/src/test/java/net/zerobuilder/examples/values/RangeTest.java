@@ -0,0 +1,55 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import static net.zerobuilder.examples.values.RangeBuilders.rangeBuilder;
+import static net.zerobuilder.examples.values.RangeBuilders.rangeUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class RangeTest {
+
+  private final Integer from = 1000;
+  private final Range range = rangeBuilder().from(from).to(2000);
+
+  @Test
+  public void noStep() {
+    Range.fromReads = 0;
+    assertThat(rangeUpdater(range).done(), is(sameInstance(range)));
+    assertThat(Range.fromReads, is(0));
+  }
+
+  @Test
+  public void sameValues() {
+    Range.fromReads = 0;
+    Range updated = rangeUpdater(range)
+        .from(from)
+        .to(2000)
+        .done();
+    assertThat(updated, is(sameInstance(range)));
+    assertThat(Range.fromReads, is(1));
+  }
+
+  @Test
+  public void changedValue() {
+    Range.fromReads = 0;
+    Range updated = rangeUpdater(range)
+        .to(3000)
+        .done();
+    assertThat(updated, is(not(sameInstance(range))));
+    assertThat(Range.fromReads, is(1));
+    assertThat(updated.getFrom(), is(from));
+    assertThat(updated.to, is(3000));
+  }
+
+  @Test
+  public void changedBackToSource() {
+    Range updated = rangeUpdater(range)
+        .to(3000)
+        .to(2000)
+        .done();
+    assertThat(updated, is(sameInstance(range)));
+  }
+}
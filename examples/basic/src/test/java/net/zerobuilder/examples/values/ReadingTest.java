@@ -0,0 +1,98 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static net.zerobuilder.examples.values.ReadingBuilders.deltaFunction;
+import static net.zerobuilder.examples.values.ReadingBuilders.readingFunction;
+import static net.zerobuilder.examples.values.ReadingBuilders.recordFunction;
+import static net.zerobuilder.examples.values.ReadingBuilders.tagFunction;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class ReadingTest {
+
+  private static final class Row {
+    final String[] cells;
+
+    Row(String... cells) {
+      this.cells = cells;
+    }
+  }
+
+  private final Function<Row, Reading> function = readingFunction(
+      row -> row.cells[0],
+      row -> Long.parseLong(row.cells[1]),
+      row -> Double.parseDouble(row.cells[2]),
+      row -> !row.cells[2].isEmpty());
+
+  @Test
+  public void map() {
+    List<Reading> readings = asList(new Row("a", "1", "0.5"), new Row("b", "2", "1.5"))
+        .stream()
+        .map(function)
+        .collect(toList());
+    assertThat(readings.size(), is(2));
+    assertThat(readings.get(0).sensor, is("a"));
+    assertThat(readings.get(0).time, is(1L));
+    assertThat(readings.get(0).value, is(0.5));
+    assertThat(readings.get(0).valid, is(true));
+    assertThat(readings.get(1).sensor, is("b"));
+    assertThat(readings.get(1).time, is(2L));
+    assertThat(readings.get(1).value, is(1.5));
+  }
+
+  @Test
+  public void parallel() {
+    List<Reading> readings = IntStream.range(0, 10000)
+        .mapToObj(i -> new Row("s" + i, Integer.toString(i), Integer.toString(i)))
+        .parallel()
+        .map(function)
+        .collect(toList());
+    for (int i = 0; i < readings.size(); i++) {
+      assertThat(readings.get(i).sensor, is("s" + i));
+      assertThat(readings.get(i).time, is((long) i));
+      assertThat(readings.get(i).value, is((double) i));
+    }
+  }
+
+  @Test
+  public void consumer() {
+    Collection<String> log = new ConcurrentLinkedQueue<>();
+    asList(new Row("a"), new Row("b")).forEach(recordFunction(row -> log, row -> row.cells[0]));
+    assertThat(new ArrayList<>(log), is(asList("a", "b")));
+  }
+
+  @Test
+  public void parameterNamedLikeInstance() {
+    Reading reading = function.apply(new Row("a", "1", "2.5"));
+    List<Double> deltas = asList(new Row("b", "2", "0.5"), new Row("c", "3", "2.5"))
+        .stream()
+        .map(function)
+        .map(deltaFunction(reading, other -> other))
+        .collect(toList());
+    assertThat(deltas, is(asList(2.0, 0.0)));
+  }
+
+  @Test
+  public void parameterNamedLikeRow() {
+    List<String> tags = asList(new Row("a"), new Row("b"))
+        .stream()
+        .map(tagFunction(row -> row.cells[0]))
+        .collect(toList());
+    assertThat(tags, is(asList("#a", "#b")));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullExtractor() {
+    readingFunction(row -> "a", row -> 1L, null, row -> true);
+  }
+}
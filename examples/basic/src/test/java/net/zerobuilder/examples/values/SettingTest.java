@@ -0,0 +1,78 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import static net.zerobuilder.examples.values.SettingBuilders.settingBuilder;
+import static net.zerobuilder.examples.values.SettingBuilders.settingUpdater;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SettingTest {
+
+  @Test
+  public void noStep() {
+    Setting setting = settingBuilder().key("a").value(1.5);
+    assertThat(settingUpdater(setting).done(), is(sameInstance(setting)));
+  }
+
+  @Test
+  public void sameValues() {
+    String key = "a";
+    Setting setting = settingBuilder().key(key).value(1.5);
+    Setting updated = settingUpdater(setting)
+        .key(key)
+        .value(1.5)
+        .done();
+    assertThat(updated, is(sameInstance(setting)));
+  }
+
+  @Test
+  public void changedValue() {
+    Setting setting = settingBuilder().key("a").value(1.5);
+    Setting updated = settingUpdater(setting)
+        .value(2.5)
+        .done();
+    assertThat(updated, is(not(sameInstance(setting))));
+    assertThat(updated.key, is("a"));
+    assertThat(updated.value, is(2.5));
+  }
+
+  @Test
+  public void negativeZero() {
+    Setting setting = settingBuilder().key("a").value(0.0);
+    Setting updated = settingUpdater(setting)
+        .value(-0.0)
+        .done();
+    assertThat(updated, is(not(sameInstance(setting))));
+  }
+
+  @Test
+  public void equalButNotSame() {
+    Setting setting = settingBuilder().key("a").value(1.5);
+    Setting updated = settingUpdater(setting)
+        .key(new String("a"))
+        .done();
+    assertThat(updated, is(not(sameInstance(setting))));
+  }
+
+  @Test
+  public void changedBackToSource() {
+    Setting setting = settingBuilder().key("a").value(1.5);
+    Setting updated = settingUpdater(setting)
+        .value(2.5)
+        .value(1.5)
+        .done();
+    assertThat(updated, is(sameInstance(setting)));
+  }
+
+  @Test
+  public void recycled() {
+    Setting setting = settingBuilder().key("a").value(1.5);
+    Setting changed = settingUpdater(setting).value(2.5).done();
+    assertThat(settingUpdater(changed).done(), is(sameInstance(changed)));
+    assertThat(settingUpdater(setting).key("b").done().key, is("b"));
+    assertThat(settingUpdater(setting).done(), is(sameInstance(setting)));
+  }
+}
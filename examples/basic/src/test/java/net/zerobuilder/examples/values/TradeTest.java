@@ -0,0 +1,105 @@
+package net.zerobuilder.examples.values;
+
+import org.junit.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static net.zerobuilder.examples.values.TradeBuilders.tradeBuilder;
+import static net.zerobuilder.examples.values.TradeBuilders.tradeDecode;
+import static net.zerobuilder.examples.values.TradeBuilders.tradeEncode;
+import static net.zerobuilder.examples.values.TradeBuilders.tradeEncodedSize;
+import static net.zerobuilder.examples.values.TradeBuilders.tradeFromJson;
+import static net.zerobuilder.examples.values.TradeBuilders.tradeToJson;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TradeTest {
+
+  private final Trade trade = tradeBuilder()
+      .id(12L)
+      .instrument(new Instrument("ACME", 'X'))
+      .price(101.25)
+      .quantity(300)
+      .buy(true)
+      .trader("Zoë 😀");
+
+  @Test
+  public void roundTrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(tradeEncodedSize(trade));
+    tradeEncode(trade, buffer);
+    assertThat(buffer.remaining(), is(0));
+    buffer.flip();
+    Trade decoded = tradeDecode(buffer);
+    assertThat(buffer.remaining(), is(0));
+    assertThat(decoded.id(), is(12L));
+    assertThat(decoded.instrument().symbol, is("ACME"));
+    assertThat(decoded.instrument().venue, is('X'));
+    assertThat(decoded.price(), is(101.25));
+    assertThat(decoded.quantity(), is(300));
+    assertThat(decoded.buy(), is(true));
+    assertThat(decoded.trader(), is("Zoë 😀"));
+  }
+
+  @Test
+  public void nulls() {
+    Trade trade = tradeBuilder().id(1L).instrument(null).price(0).quantity(0).buy(false).trader(null);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(tradeEncodedSize(trade));
+    tradeEncode(trade, buffer);
+    buffer.flip();
+    Trade decoded = tradeDecode(buffer);
+    assertThat(decoded.instrument(), is(nullValue()));
+    assertThat(decoded.trader(), is(nullValue()));
+  }
+
+  @Test
+  public void unpairedSurrogate() {
+    Trade trade = tradeBuilder().id(1L).instrument(null).price(0).quantity(0).buy(false).trader("a\uD83Db");
+    ByteBuffer buffer = ByteBuffer.allocate(tradeEncodedSize(trade));
+    tradeEncode(trade, buffer);
+    assertThat(buffer.remaining(), is(0));
+    buffer.flip();
+    assertThat(tradeDecode(buffer).trader(), is("a?b"));
+  }
+
+  @Test(expected = BufferUnderflowException.class)
+  public void truncated() {
+    ByteBuffer buffer = ByteBuffer.allocate(tradeEncodedSize(trade));
+    tradeEncode(trade, buffer);
+    buffer.flip();
+    buffer.limit(buffer.limit() - 1);
+    tradeDecode(buffer);
+  }
+
+  @Test
+  public void jsonRoundTrip() {
+    String json = tradeToJson(trade);
+    assertThat(json, is("{\"id\":12,\"instrument\":{\"symbol\":\"ACME\",\"venue\":\"X\"}," +
+        "\"price\":101.25,\"quantity\":300,\"buy\":true,\"trader\":\"Zoë 😀\"}"));
+    Trade decoded = tradeFromJson(json);
+    assertThat(decoded.id(), is(12L));
+    assertThat(decoded.instrument().symbol, is("ACME"));
+    assertThat(decoded.instrument().venue, is('X'));
+    assertThat(decoded.price(), is(101.25));
+    assertThat(decoded.quantity(), is(300));
+    assertThat(decoded.buy(), is(true));
+    assertThat(decoded.trader(), is("Zoë 😀"));
+  }
+
+  @Test
+  public void jsonMemberOrder() {
+    Trade decoded = tradeFromJson("{ \"trader\": \"a\\\"b\", \"tags\": [1, {\"x\": null}], " +
+        "\"quantity\": -7, \"instrument\": null }");
+    assertThat(decoded.trader(), is("a\"b"));
+    assertThat(decoded.quantity(), is(-7));
+    assertThat(decoded.instrument(), is(nullValue()));
+    assertThat(decoded.id(), is(0L));
+    assertThat(decoded.buy(), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void jsonOutOfRange() {
+    tradeFromJson("{\"quantity\": 2147483648}");
+  }
+}
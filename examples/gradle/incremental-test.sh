@@ -0,0 +1,32 @@
+#!/bin/sh
+# Checks that gradle processes zerobuilder incrementally:
+# after GradleMan.java is changed, GradleManBuilders is generated again,
+# but GradleWomanBuilders is not.
+#
+# ./incremental-test.sh -PzerobuilderVersion=0-SNAPSHOT
+set -e
+cd "$(dirname "$0")"
+GRADLE="${GRADLE:-./gradlew}"
+SOURCE=src/main/java/net/zerobuilder/examples/gradle/GradleMan.java
+GENERATED=build/generated/sources/annotationProcessor/java/main/net/zerobuilder/examples/gradle
+MARKER=build/incremental-test.marker
+
+cp "$SOURCE" "$SOURCE.orig"
+trap 'mv "$SOURCE.orig" "$SOURCE"' EXIT
+
+$GRADLE clean compileJava "$@"
+touch "$MARKER"
+sleep 1
+echo "// changed by incremental-test.sh" >> "$SOURCE"
+$GRADLE compileJava --info "$@" | tee build/incremental-test.log
+
+if grep -q "Full recompilation is required" build/incremental-test.log; then
+  echo "FAIL: full recompilation"
+  exit 1
+fi
+CHANGED=$(cd "$GENERATED" && find . -name '*.java' -newer "$OLDPWD/$MARKER" | sort)
+if [ "$CHANGED" != "./GradleManBuilders.java" ]; then
+  echo "FAIL: expected only GradleManBuilders.java to be generated again, got: $CHANGED"
+  exit 1
+fi
+echo "OK: only GradleManBuilders.java was generated again"
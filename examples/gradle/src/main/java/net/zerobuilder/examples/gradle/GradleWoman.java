@@ -0,0 +1,14 @@
+package net.zerobuilder.examples.gradle;
+
+import net.zerobuilder.Builder;
+
+// see incremental-test.sh
+public final class GradleWoman {
+
+  final String message;
+
+  @Builder
+  GradleWoman(String message) {
+    this.message = message;
+  }
+}
@@ -4,6 +4,7 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 import net.zerobuilder.compiler.generate.DtoBeanGoalDescription.BeanGoalDescription;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoModule.BeanModule;
 import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
 
@@ -15,11 +16,13 @@ import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.constructor;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
@@ -68,11 +71,13 @@ public final class BeanBuilder implements BeanModule {
   }
 
   private final Function<BeanGoalDescription, MethodSpec> builderConstructor =
-      description -> constructorBuilder()
-          .addExceptions(description.thrownTypes)
-          .addCode(statement("this.$N = new $T()",
-              description.beanField, description.details.goalType))
-          .build();
+      description -> description.details.lifecycle.recycles() ?
+          constructor() :
+          constructorBuilder()
+              .addExceptions(description.thrownTypes)
+              .addCode(statement("this.$N = new $T()",
+                  description.beanField, description.details.goalType))
+              .build();
 
   private List<ClassName> stepInterfaceTypes(BeanGoalDescription description) {
     return transform(description.parameters,
@@ -84,13 +89,23 @@ public final class BeanBuilder implements BeanModule {
     return description.details.context.generatedType.nestedClass(contractName);
   }
 
+  private static List<BuilderMethod> extraMethods(BeanGoalDescription description) {
+    if (!description.details.lifecycle.counts()) {
+      return emptyList();
+    }
+    return singletonList(new BuilderMethod(description.details.name,
+        description.details.context.poolStats(methodName(description) + "PoolStats",
+            implType(description), description.details.access(STATIC))));
+  }
+
   @Override
   public ModuleOutput process(BeanGoalDescription description) {
     return new ModuleOutput(
         Generator.builderMethod(description),
+        extraMethods(description),
         asList(
             defineBuilderImpl(description),
             defineContract(description)),
-        emptyList());
+        description.cacheFields(implType(description)));
   }
 }
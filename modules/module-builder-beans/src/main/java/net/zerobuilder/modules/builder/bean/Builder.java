@@ -10,6 +10,7 @@ import net.zerobuilder.compiler.generate.DtoBeanGoalDescription.BeanGoalDescript
 import net.zerobuilder.compiler.generate.DtoBeanParameter.AbstractBeanParameter;
 import net.zerobuilder.compiler.generate.DtoBeanParameter.AccessorPair;
 import net.zerobuilder.compiler.generate.DtoBeanParameter.LoneGetter;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
 
 import java.util.List;
 import java.util.function.Function;
@@ -17,21 +18,32 @@ import java.util.stream.IntStream;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.WildcardTypeName.subtypeOf;
+import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static net.zerobuilder.compiler.generate.DtoBeanParameter.beanParameterCases;
+import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUSE_INSTANCES;
+import static net.zerobuilder.compiler.generate.ZeroUtil.distinctFrom;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
+import static net.zerobuilder.modules.builder.bean.BeanBuilder.implType;
 import static net.zerobuilder.modules.builder.bean.BeanStep.nextType;
 
 final class Builder {
 
   private static final ClassName ITERABLE = ClassName.get(Iterable.class);
 
+  static final String IN_USE = "_currently_in_use";
+
   static final Function<BeanGoalDescription, List<FieldSpec>> fields =
-      description -> singletonList(description.beanField);
+      description -> description.details.lifecycle == REUSE_INSTANCES ?
+          asList(description.beanField, fieldSpec(BOOLEAN, IN_USE, PRIVATE)) :
+          singletonList(description.beanField);
 
   static final Function<BeanGoalDescription, List<MethodSpec>> steps =
       description -> IntStream.range(0, description.parameters.size())
@@ -46,30 +58,54 @@ final class Builder {
         loneGetter -> iterateCollection(loneGetter, i, description));
   }
 
-  private static CodeBlock normalReturn(BeanGoalDescription description) {
-    ParameterSpec varBean = parameterSpec(description.details.goalType,
+  private static ParameterSpec varBean(BeanGoalDescription description) {
+    return parameterSpec(description.details.goalType,
         '_' + downcase(description.details.goalType.simpleName()));
+  }
+
+  private static CodeBlock normalReturn(BeanGoalDescription description) {
+    ParameterSpec varBean = varBean(description);
     CodeBlock.Builder builder = CodeBlock.builder();
     builder.addStatement("$T $N = this.$N", varBean.type, varBean, description.beanField);
+    if (description.details.lifecycle.recycles()) {
+      builder.add(release(description));
+    }
     return builder.addStatement("return $N", varBean).build();
   }
 
+  /**
+   * Let go of the finished bean, so that the cached builder does not keep it reachable,
+   * then make the builder available again.
+   */
+  private static CodeBlock release(BeanGoalDescription description) {
+    CodeBlock.Builder builder = CodeBlock.builder();
+    if (description.details.prefetch) {
+      builder.addStatement("this.$N = new $T()", description.beanField, description.details.goalType);
+    } else {
+      builder.addStatement("this.$N = null", description.beanField);
+    }
+    ContextLifecycle lifecycle = description.details.lifecycle;
+    if (lifecycle.pools()) {
+      return builder.add(description.details.context.offer(implType(description), lifecycle)).build();
+    }
+    return builder.addStatement("this.$L = $L", IN_USE, false).build();
+  }
+
   private static MethodSpec iterateCollection(LoneGetter step, int i, BeanGoalDescription description) {
     String name = step.name();
     ParameterizedTypeName it = ParameterizedTypeName.get(ITERABLE,
         subtypeOf(step.iterationType()));
     ParameterSpec parameter = parameterSpec(it, name);
-    ParameterSpec iterationVar = step.iterationVar(parameter);
+    ParameterSpec varCollection = parameterSpec(step.type,
+        distinctFrom('_' + name, varBean(description).name));
     return methodBuilder(name)
         .addAnnotation(Override.class)
         .returns(nextType(i, description))
         .addExceptions(step.getterThrownTypes)
         .addParameter(parameter)
-        .beginControlFlow("for ($T $N : $N)",
-            iterationVar.type, iterationVar, parameter)
-        .addStatement("this.$N.$L().add($N)", description.beanField,
-            step.getter, iterationVar)
-        .endControlFlow()
+        .addStatement("$T $N = this.$N.$L()",
+            varCollection.type, varCollection, description.beanField, step.getter)
+        .addCode(step.addAll(varCollection, parameter))
         .addCode(i == description.parameters.size() - 1 ?
             normalReturn(description) :
             statement("return this"))
@@ -2,15 +2,20 @@ package net.zerobuilder.modules.builder.bean;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import net.zerobuilder.compiler.generate.DtoBeanGoalDescription.BeanGoalDescription;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
 import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
 import static net.zerobuilder.modules.builder.bean.BeanBuilder.implType;
+import static net.zerobuilder.modules.builder.bean.Builder.IN_USE;
 
 final class Generator {
 
@@ -28,7 +33,33 @@ final class Generator {
 
   private static CodeBlock returnBuilder(BeanGoalDescription description) {
     ClassName implType = implType(description);
-    return statement("return new $T()", implType);
+    if (!description.details.lifecycle.recycles()) {
+      return statement("return new $T()", implType);
+    }
+    ParameterSpec varBuilder = parameterSpec(implType, "_builder");
+    return CodeBlock.builder()
+        .add(acquireBuilder(description, varBuilder))
+        .beginControlFlow("if ($N.$N == null)", varBuilder, description.beanField)
+        .addStatement("$N.$N = new $T()", varBuilder, description.beanField, description.details.goalType)
+        .endControlFlow()
+        .addStatement("return $N", varBuilder)
+        .build();
+  }
+
+  private static CodeBlock acquireBuilder(BeanGoalDescription description, ParameterSpec varBuilder) {
+    ContextLifecycle lifecycle = description.details.lifecycle;
+    if (lifecycle.pools()) {
+      return description.details.context.poll(varBuilder, lifecycle);
+    }
+    FieldSpec cache = description.details.context.cache(implType(description));
+    return CodeBlock.builder()
+        .addStatement("$T $N = $N.get()", varBuilder.type, varBuilder, cache)
+        .beginControlFlow("if ($N.$L)", varBuilder, IN_USE)
+        .addStatement("$N.remove()", cache)
+        .addStatement("$N = $N.get()", varBuilder, cache)
+        .endControlFlow()
+        .addStatement("$N.$L = $L", varBuilder, IN_USE, true)
+        .build();
   }
 
   private Generator() {
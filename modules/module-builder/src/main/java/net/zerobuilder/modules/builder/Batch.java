@@ -0,0 +1,127 @@
+package net.zerobuilder.modules.builder;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeName.INT;
+import static com.squareup.javapoet.TypeName.VOID;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.distinctFrom;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
+
+/**
+ * Builds many goals from columnar input, without going through the step interfaces.
+ */
+final class Batch {
+
+  static BuilderMethod batchMethod(SimpleRegularGoalDescription description) {
+    AbstractRegularDetails details = description.details;
+    TypeName goalType = details.type();
+    List<SimpleParameter> parameters = description.unshuffle(description.parameters);
+    List<ParameterSpec> arrays = transform(parameters,
+        parameter -> parameterSpec(ArrayTypeName.of(parameter.type), parameter.name));
+    ParameterSpec varInstance = instanceVar(description);
+    String size = localName("_size", description);
+    String index = localName("_i", description);
+    MethodSpec.Builder method = methodBuilder(methodName(description))
+        .addModifiers(details.access(STATIC))
+        .addExceptions(description.thrownTypes);
+    if (isInstance.apply(details)) {
+      method.addParameter(varInstance);
+      method.addStatement("$T.requireNonNull($N, $S)", Objects.class, varInstance, varInstance.name);
+    }
+    method.addParameters(arrays);
+    ParameterSpec first = arrays.get(0);
+    method.addStatement("$T $L = $N.length", INT, size, first);
+    for (ParameterSpec array : arrays.subList(1, arrays.size())) {
+      method.beginControlFlow("if ($N.length != $L)", array, size)
+          .addStatement("throw new $T($S + $N.length + $S + $L)", IllegalArgumentException.class,
+              array.name + ".length: ", array, ", expected: ", size)
+          .endControlFlow();
+    }
+    CodeBlock goal = invoke(description, index);
+    if (VOID.equals(goalType)) {
+      return new BuilderMethod(details.name, method
+          .beginControlFlow("for (int $L = 0; $L < $L; $L++)", index, index, size, index)
+          .addStatement("$L", goal)
+          .endControlFlow()
+          .build());
+    }
+    TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), goalType.box());
+    ParameterSpec varList = parameterSpec(listType, localName("_list", description));
+    return new BuilderMethod(details.name, method
+        .returns(listType)
+        .addStatement("$T $N = new $T<>($L)", listType, varList, ArrayList.class, size)
+        .beginControlFlow("for (int $L = 0; $L < $L; $L++)", index, index, size, index)
+        .addStatement("$N.add($L)", varList, goal)
+        .endControlFlow()
+        .addStatement("return $N", varList)
+        .build());
+  }
+
+  static String methodName(SimpleRegularGoalDescription description) {
+    return description.details.name + "FromArrays";
+  }
+
+  private static CodeBlock invoke(SimpleRegularGoalDescription description, String index) {
+    CodeBlock arguments = arguments(description, index);
+    return regularDetailsCases(
+        constructor -> CodeBlock.of("new $T($L)",
+            constructor.goalType, arguments),
+        staticMethod -> CodeBlock.of("$T.$N($L)",
+            rawClassName(description.context.type), staticMethod.methodName, arguments),
+        instanceMethod -> CodeBlock.of("$N.$N($L)",
+            instanceVar(description), instanceMethod.methodName, arguments))
+        .apply(description.details);
+  }
+
+  private static CodeBlock arguments(SimpleRegularGoalDescription description, String index) {
+    return description.unshuffle(description.parameters).stream()
+        .map(parameter -> CodeBlock.of("$N[$L]", parameter.name, index))
+        .collect(joinCodeBlocks(", "));
+  }
+
+  private static List<String> parameterNames(SimpleRegularGoalDescription description) {
+    return transform(description.parameters, parameter -> parameter.name);
+  }
+
+  private static ParameterSpec instanceVar(SimpleRegularGoalDescription description) {
+    TypeName type = description.context.type;
+    return parameterSpec(type,
+        distinctFrom('_' + downcase(simpleName(type)), parameterNames(description)));
+  }
+
+  /**
+   * @return a name that is distinct from the goal parameters, and from the instance
+   */
+  private static String localName(String name, SimpleRegularGoalDescription description) {
+    List<String> names = new ArrayList<>(parameterNames(description));
+    names.add(instanceVar(description).name);
+    return distinctFrom(name, names);
+  }
+
+  private Batch() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
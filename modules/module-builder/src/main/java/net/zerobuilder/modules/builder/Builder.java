@@ -1,5 +1,6 @@
 package net.zerobuilder.modules.builder;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
@@ -26,6 +27,7 @@ import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUS
 import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
 import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.emptyCodeBlock;
 import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
@@ -34,16 +36,23 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
 import static net.zerobuilder.modules.builder.Generator.instanceField;
+import static net.zerobuilder.modules.builder.RegularBuilder.contractType;
+import static net.zerobuilder.modules.builder.RegularBuilder.implType;
 
 final class Builder {
 
   static final String IN_USE = "_currently_in_use";
 
+  static ClassName stepType(int i, SimpleRegularGoalDescription description) {
+    if (!description.stepTypes.isEmpty()) {
+      return description.stepTypes.get(i);
+    }
+    return contractType(description).nestedClass(upcase(description.parameters.get(i).name));
+  }
+
   static TypeName nextType(int i, SimpleRegularGoalDescription description) {
     if (i < description.parameters.size() - 1) {
-      return description.context.generatedType
-          .nestedClass(upcase(description.details.name() + "Builder"))
-          .nestedClass(upcase(description.parameters.get(i + 1).name));
+      return stepType(i + 1, description);
     }
     return description.details.type();
   }
@@ -55,7 +64,7 @@ final class Builder {
     if (isInstance.apply(description.details)) {
       builder.add(instanceField(description));
     }
-    if (description.details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle() == REUSE_INSTANCES) {
       builder.add(fieldSpec(BOOLEAN, IN_USE, PRIVATE));
     }
     steps.stream()
@@ -113,13 +122,14 @@ final class Builder {
     ParameterSpec varGoal = parameterSpec(type,
         '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle() == REUSE_INSTANCES) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
     CodeBlock args = description.invocationParameters();
     builder.addStatement("$T $N = new $T($L)", varGoal.type, varGoal, type, args);
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle().recycles()) {
       builder.add(free(description.parameters));
+      builder.add(release(description));
     }
     return builder.addStatement("return $N", varGoal).build();
   }
@@ -131,7 +141,7 @@ final class Builder {
     ParameterSpec varGoal = parameterSpec(type,
         '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle() == REUSE_INSTANCES) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
     if (VOID.equals(type)) {
@@ -141,9 +151,10 @@ final class Builder {
       builder.addStatement("$T $N = this.$N.$N($L)", varGoal.type, varGoal, instanceField(description),
           method, description.invocationParameters());
     }
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle().recycles()) {
       builder.addStatement("this.$N = null", instanceField(description));
       builder.add(free(description.parameters));
+      builder.add(release(description));
     }
     if (!VOID.equals(type)) {
       builder.addStatement("return $N", varGoal);
@@ -158,7 +169,7 @@ final class Builder {
     ParameterSpec varGoal = parameterSpec(type,
         '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle() == REUSE_INSTANCES) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
     if (VOID.equals(type)) {
@@ -169,8 +180,9 @@ final class Builder {
           rawClassName(description.context.type),
           method, description.invocationParameters());
     }
-    if (details.lifecycle == REUSE_INSTANCES) {
+    if (description.implLifecycle().recycles()) {
       builder.add(free(description.parameters));
+      builder.add(release(description));
     }
     if (!VOID.equals(type)) {
       builder.addStatement("return $N", varGoal);
@@ -186,6 +198,12 @@ final class Builder {
         .collect(joinCodeBlocks);
   }
 
+  private static CodeBlock release(SimpleRegularGoalDescription description) {
+    return description.implLifecycle().pools() ?
+        description.context.offer(implType(description), description.implLifecycle()) :
+        emptyCodeBlock;
+  }
+
   private Builder() {
     throw new UnsupportedOperationException("no instances");
   }
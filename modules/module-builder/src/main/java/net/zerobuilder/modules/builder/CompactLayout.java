@@ -0,0 +1,70 @@
+package net.zerobuilder.modules.builder;
+
+import com.squareup.javapoet.ClassName;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.builder.RegularBuilder.contractType;
+
+/**
+ * Chooses fewer step types for the goals of one type.
+ * The first step interface is also the contract type, and the other step interfaces are nested in it.
+ * Two goals that have the same remaining steps, with the same goal type and exceptions,
+ * share the step interfaces of the goal that comes first.
+ * Goals must be passed in source order, so the result doesn't change between compilations.
+ */
+public final class CompactLayout implements UnaryOperator<SimpleRegularGoalDescription> {
+
+  private final Map<List<Object>, ClassName> declared = new HashMap<>();
+
+  @Override
+  public SimpleRegularGoalDescription apply(SimpleRegularGoalDescription description) {
+    ClassName contract = contractType(description);
+    if (hasNameConflict(description, contract)) {
+      return description;
+    }
+    List<SimpleParameter> parameters = description.parameters;
+    List<ClassName> stepTypes = new ArrayList<>(parameters.size());
+    for (int i = 0; i < parameters.size(); i++) {
+      ClassName shared = declared.get(suffix(i, description));
+      if (shared != null) {
+        stepTypes.add(shared);
+      } else {
+        stepTypes.add(i == 0 ? contract : contract.nestedClass(upcase(parameters.get(i).name)));
+      }
+    }
+    for (int i = 0; i < parameters.size(); i++) {
+      declared.putIfAbsent(suffix(i, description), stepTypes.get(i));
+    }
+    return description.withStepTypes(stepTypes);
+  }
+
+  /**
+   * A nested type can't have the same name as the contract type, or the generated type.
+   */
+  private static boolean hasNameConflict(SimpleRegularGoalDescription description, ClassName contract) {
+    return description.parameters.stream()
+        .skip(1)
+        .map(parameter -> upcase(parameter.name))
+        .anyMatch(name -> name.equals(contract.simpleName())
+            || name.equals(description.context.generatedType.simpleName()));
+  }
+
+  private static List<Object> suffix(int i, SimpleRegularGoalDescription description) {
+    List<Object> key = new ArrayList<>();
+    key.add(description.details.type());
+    key.add(description.thrownTypes);
+    for (SimpleParameter parameter : description.parameters.subList(i, description.parameters.size())) {
+      key.add(Arrays.asList(parameter.name, parameter.type));
+    }
+    return key;
+  }
+}
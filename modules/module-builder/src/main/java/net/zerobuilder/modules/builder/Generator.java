@@ -10,9 +10,7 @@ import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.InstanceMethodGoalDetails;
 import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
-import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
 
-import java.util.List;
 import java.util.function.Function;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
@@ -27,17 +25,16 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
-import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
 import static net.zerobuilder.modules.builder.Builder.IN_USE;
+import static net.zerobuilder.modules.builder.Builder.stepType;
 import static net.zerobuilder.modules.builder.RegularBuilder.implType;
 
 final class Generator {
 
   static BuilderMethod builderMethod(SimpleRegularGoalDescription description) {
     AbstractRegularDetails abstractRegularDetails = description.details;
-    List<SimpleParameter> steps = description.parameters;
     MethodSpec.Builder method = methodBuilder(RegularBuilder.methodName(description))
-        .returns(RegularBuilder.contractType(description).nestedClass(upcase(steps.get(0).name)))
+        .returns(stepType(0, description))
         .addModifiers(abstractRegularDetails.access(STATIC));
     GoalContext context = description.context;
     ParameterSpec varInstance = parameterSpec(context.type,
@@ -60,6 +57,15 @@ final class Generator {
 
   private static CodeBlock returnRegular(SimpleRegularGoalDescription description) {
     ParameterSpec varBuilder = builderInstance(description);
+    if (description.stateless()) {
+      return statement("return $N", description.context.singleton(implType(description)));
+    }
+    if (description.details.lifecycle.pools()) {
+      return CodeBlock.builder()
+          .add(description.context.poll(varBuilder, description.details.lifecycle))
+          .addStatement("return $N", varBuilder)
+          .build();
+    }
     if (description.details.lifecycle == REUSE_INSTANCES) {
       FieldSpec cache = description.context.cache(implType(description));
       return CodeBlock.builder()
@@ -79,6 +85,13 @@ final class Generator {
       SimpleRegularGoalDescription description,
       InstanceMethodGoalDetails details, ParameterSpec varInstance) {
     ParameterSpec varBuilder = builderInstance(description);
+    if (details.lifecycle.pools()) {
+      return CodeBlock.builder()
+          .add(description.context.poll(varBuilder, description.details.lifecycle))
+          .addStatement("$N.$N = $N", varBuilder, instanceField(description), varInstance)
+          .addStatement("return $N", varBuilder)
+          .build();
+    }
     if (details.lifecycle == REUSE_INSTANCES) {
       FieldSpec cache = description.context.cache(implType(description));
       return CodeBlock.builder()
@@ -102,7 +115,7 @@ final class Generator {
   static FieldSpec instanceField(SimpleRegularGoalDescription description) {
     TypeName type = description.context.type;
     String name = '_' + downcase(simpleName(type));
-    return description.details.lifecycle == REUSE_INSTANCES
+    return description.details.lifecycle.recycles()
         ? fieldSpec(type, name, PRIVATE)
         : fieldSpec(type, name, PRIVATE, FINAL);
   }
@@ -0,0 +1,157 @@
+package net.zerobuilder.modules.builder;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static com.squareup.javapoet.TypeName.DOUBLE;
+import static com.squareup.javapoet.TypeName.INT;
+import static com.squareup.javapoet.TypeName.LONG;
+import static com.squareup.javapoet.TypeName.VOID;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.distinctFrom;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
+
+/**
+ * Returns a function that invokes the goal directly, without going through the step interfaces.
+ * The function has no state of its own, so it can be shared by the threads of a parallel stream.
+ */
+final class Mapping {
+
+  private static final TypeVariableName ROW = TypeVariableName.get("R");
+
+  static BuilderMethod functionMethod(SimpleRegularGoalDescription description) {
+    AbstractRegularDetails details = description.details;
+    TypeName goalType = details.type();
+    MethodSpec.Builder method = methodBuilder(methodName(description))
+        .addTypeVariable(ROW)
+        .addModifiers(details.access(STATIC))
+        .returns(VOID.equals(goalType) ?
+            ParameterizedTypeName.get(ClassName.get(Consumer.class), ROW) :
+            ParameterizedTypeName.get(ClassName.get(Function.class), ROW, goalType.box()));
+    if (isInstance.apply(details)) {
+      ParameterSpec varInstance = instanceVar(description);
+      method.addParameter(varInstance);
+      method.addStatement("$T.requireNonNull($N, $S)", Objects.class, varInstance, varInstance.name);
+    }
+    for (SimpleParameter parameter : description.unshuffle(description.parameters)) {
+      method.addParameter(parameterSpec(extractorType(parameter.type), parameter.name));
+      method.addStatement("$T.requireNonNull($N, $S)", Objects.class, parameter.name, parameter.name);
+    }
+    String row = rowName(description);
+    return new BuilderMethod(details.name, method
+        .addStatement("return $N -> $L", row, invoke(description, row))
+        .build());
+  }
+
+  static String methodName(SimpleRegularGoalDescription description) {
+    return description.details.name + "Function";
+  }
+
+  /**
+   * Primitive extractors for {@code int}, {@code long}, {@code double} and {@code boolean},
+   * so that these values are not boxed.
+   */
+  private static TypeName extractorType(TypeName type) {
+    WildcardTypeName row = WildcardTypeName.supertypeOf(ROW);
+    if (INT.equals(type)) {
+      return ParameterizedTypeName.get(ClassName.get(ToIntFunction.class), row);
+    }
+    if (LONG.equals(type)) {
+      return ParameterizedTypeName.get(ClassName.get(ToLongFunction.class), row);
+    }
+    if (DOUBLE.equals(type)) {
+      return ParameterizedTypeName.get(ClassName.get(ToDoubleFunction.class), row);
+    }
+    if (BOOLEAN.equals(type)) {
+      return ParameterizedTypeName.get(ClassName.get(Predicate.class), row);
+    }
+    return ParameterizedTypeName.get(ClassName.get(Function.class), row,
+        type.isPrimitive() ? type.box() : WildcardTypeName.subtypeOf(type));
+  }
+
+  private static String applyMethod(TypeName type) {
+    if (INT.equals(type)) {
+      return "applyAsInt";
+    }
+    if (LONG.equals(type)) {
+      return "applyAsLong";
+    }
+    if (DOUBLE.equals(type)) {
+      return "applyAsDouble";
+    }
+    if (BOOLEAN.equals(type)) {
+      return "test";
+    }
+    return "apply";
+  }
+
+  private static CodeBlock invoke(SimpleRegularGoalDescription description, String row) {
+    CodeBlock arguments = arguments(description, row);
+    return regularDetailsCases(
+        constructor -> CodeBlock.of("new $T($L)",
+            constructor.goalType, arguments),
+        staticMethod -> CodeBlock.of("$T.$N($L)",
+            rawClassName(description.context.type), staticMethod.methodName, arguments),
+        instanceMethod -> CodeBlock.of("$N.$N($L)",
+            instanceVar(description), instanceMethod.methodName, arguments))
+        .apply(description.details);
+  }
+
+  private static CodeBlock arguments(SimpleRegularGoalDescription description, String row) {
+    return description.unshuffle(description.parameters).stream()
+        .map(parameter -> CodeBlock.of("$N.$N($N)", parameter.name, applyMethod(parameter.type), row))
+        .collect(joinCodeBlocks(", "));
+  }
+
+  private static List<String> parameterNames(SimpleRegularGoalDescription description) {
+    return transform(description.parameters, parameter -> parameter.name);
+  }
+
+  private static ParameterSpec instanceVar(SimpleRegularGoalDescription description) {
+    TypeName type = description.context.type;
+    return parameterSpec(type,
+        distinctFrom('_' + downcase(simpleName(type)), parameterNames(description)));
+  }
+
+  /**
+   * The lambda parameter must be distinct from the extractors, and from the instance.
+   */
+  private static String rowName(SimpleRegularGoalDescription description) {
+    List<String> names = new ArrayList<>(parameterNames(description));
+    names.add(instanceVar(description).name);
+    return distinctFrom("_row", names);
+  }
+
+  private Mapping() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
@@ -0,0 +1,172 @@
+package net.zerobuilder.modules.builder;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
+import net.zerobuilder.compiler.generate.DtoModule.RegularSimpleModule;
+import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeName.VOID;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.builder.Builder.nextType;
+import static net.zerobuilder.modules.builder.Generator.instanceField;
+import static net.zerobuilder.modules.builder.RegularBuilder.contractType;
+
+/**
+ * Generates the steps as final classes instead of interfaces, so every step call is statically bound.
+ * Each step object holds the values of all previous steps, and does not refer to the previous step object.
+ * The constructors are package-private, so that javac doesn't add accessor methods,
+ * and each step method stays small enough to be inlined.
+ * If the whole chain is inlined, escape analysis can remove the step objects,
+ * and only the goal is allocated.
+ */
+public final class MonomorphicBuilder implements RegularSimpleModule {
+
+  private TypeSpec defineContract(SimpleRegularGoalDescription description) {
+    TypeSpec.Builder contract = classBuilder(contractType(description));
+    if (!isInstance.apply(description.details)) {
+      ClassName firstStep = stepType(0, description);
+      contract.addField(FieldSpec.builder(firstStep, singletonName(description), PRIVATE, STATIC, FINAL)
+          .initializer("new $T()", firstStep)
+          .build());
+    }
+    return contract
+        .addTypes(IntStream.range(0, description.parameters.size())
+            .mapToObj(i -> stepClass(i, description))
+            .collect(toList()))
+        .addModifiers(PUBLIC, STATIC, FINAL)
+        .addMethod(constructorBuilder()
+            .addStatement("throw new $T($S)", UnsupportedOperationException.class, "no instances")
+            .addModifiers(PRIVATE)
+            .build())
+        .build();
+  }
+
+  private static TypeSpec stepClass(int i, SimpleRegularGoalDescription description) {
+    List<FieldSpec> fields = fields(i, description);
+    MethodSpec.Builder constructor = constructorBuilder();
+    for (FieldSpec field : fields) {
+      constructor.addParameter(parameterSpec(field.type, field.name))
+          .addStatement("this.$N = $N", field, field.name);
+    }
+    return classBuilder(stepType(i, description))
+        .addFields(fields)
+        .addMethod(constructor.build())
+        .addMethod(stepMethod(i, description))
+        .addModifiers(PUBLIC, STATIC, FINAL)
+        .build();
+  }
+
+  private static MethodSpec stepMethod(int i, SimpleRegularGoalDescription description) {
+    SimpleParameter step = description.parameters.get(i);
+    MethodSpec.Builder method = methodBuilder(step.name)
+        .addParameter(parameterSpec(step.type, step.name))
+        .returns(nextType(i, description))
+        .addModifiers(PUBLIC);
+    if (i < description.parameters.size() - 1) {
+      CodeBlock args = fields(i + 1, description).stream()
+          .map(field -> CodeBlock.of("$N", field.name))
+          .collect(joinCodeBlocks(", "));
+      return method.addStatement("return new $T($L)", stepType(i + 1, description), args).build();
+    }
+    return method
+        .addCode(invoke.apply(description.details, description))
+        .addExceptions(description.thrownTypes)
+        .build();
+  }
+
+  /**
+   * The values that are known when step {@code i} is invoked.
+   */
+  private static List<FieldSpec> fields(int i, SimpleRegularGoalDescription description) {
+    List<FieldSpec> fields = new ArrayList<>(i + 1);
+    if (isInstance.apply(description.details)) {
+      fields.add(instanceField(description));
+    }
+    description.parameters.stream()
+        .limit(i)
+        .map(parameter -> fieldSpec(parameter.type, parameter.name, PRIVATE, FINAL))
+        .forEach(fields::add);
+    return fields;
+  }
+
+  private static final BiFunction<AbstractRegularDetails, SimpleRegularGoalDescription, CodeBlock> invoke =
+      regularDetailsCases(
+          (constructor, description) -> CodeBlock.builder()
+              .addStatement("return new $T($L)", constructor.type(), description.invocationParameters())
+              .build(),
+          (staticMethod, description) -> returnValue(staticMethod.goalType,
+              CodeBlock.of("$T.$N($L)", rawClassName(description.context.type),
+                  staticMethod.methodName, description.invocationParameters())),
+          (instanceMethod, description) -> returnValue(instanceMethod.goalType,
+              CodeBlock.of("this.$N.$N($L)", instanceField(description),
+                  instanceMethod.methodName, description.invocationParameters())));
+
+  private static CodeBlock returnValue(TypeName type, CodeBlock invocation) {
+    return VOID.equals(type) ?
+        CodeBlock.builder().addStatement("$L", invocation).build() :
+        CodeBlock.builder().addStatement("return $L", invocation).build();
+  }
+
+  private static BuilderMethod builderMethod(SimpleRegularGoalDescription description) {
+    MethodSpec.Builder method = methodBuilder(RegularBuilder.methodName(description))
+        .returns(stepType(0, description))
+        .addModifiers(description.details.access(STATIC));
+    if (isInstance.apply(description.details)) {
+      TypeName type = description.context.type;
+      ParameterSpec varInstance = parameterSpec(type, downcase(simpleName(type)));
+      method.addParameter(varInstance)
+          .addStatement("return new $T($N)", stepType(0, description), varInstance);
+    } else {
+      method.addStatement("return $T.$N", contractType(description), singletonName(description));
+    }
+    return new BuilderMethod(description.details.name, method.build());
+  }
+
+  private static ClassName stepType(int i, SimpleRegularGoalDescription description) {
+    return contractType(description).nestedClass(upcase(description.parameters.get(i).name));
+  }
+
+  private static String singletonName(SimpleRegularGoalDescription description) {
+    return description.parameters.get(0).name;
+  }
+
+  @Override
+  public ModuleOutput process(SimpleRegularGoalDescription description) {
+    return new ModuleOutput(
+        builderMethod(description),
+        singletonList(defineContract(description)),
+        emptyList());
+  }
+}
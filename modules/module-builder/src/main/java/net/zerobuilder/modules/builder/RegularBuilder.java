@@ -5,17 +5,20 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
 import net.zerobuilder.compiler.generate.DtoModule.RegularSimpleModule;
 import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
 import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static com.squareup.javapoet.TypeSpec.interfaceBuilder;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -24,18 +27,21 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
-import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUSE_INSTANCES;
 import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.cons;
 import static net.zerobuilder.compiler.generate.ZeroUtil.constructor;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
-import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.builder.Batch.batchMethod;
 import static net.zerobuilder.modules.builder.Builder.fields;
+import static net.zerobuilder.modules.builder.Builder.stepType;
 import static net.zerobuilder.modules.builder.Generator.builderMethod;
 import static net.zerobuilder.modules.builder.Generator.instanceField;
+import static net.zerobuilder.modules.builder.Mapping.functionMethod;
 import static net.zerobuilder.modules.builder.Step.stepInterface;
+import static net.zerobuilder.modules.builder.Step.stepMethod;
 
 public final class RegularBuilder implements RegularSimpleModule {
 
@@ -72,6 +78,26 @@ public final class RegularBuilder implements RegularSimpleModule {
         .build();
   }
 
+  /**
+   * In the compact layout, the first step interface is the contract type,
+   * and it is not generated if it belongs to another goal.
+   */
+  private List<TypeSpec> defineCompactContract(SimpleRegularGoalDescription description) {
+    ClassName contract = contractType(description);
+    if (!description.stepTypes.get(0).equals(contract)) {
+      return emptyList();
+    }
+    return singletonList(interfaceBuilder(contract)
+        .addMethod(stepMethod(0, description))
+        .addTypes(IntStream.range(1, description.parameters.size())
+            .filter(i -> contract.equals(description.stepTypes.get(i).enclosingClassName()))
+            .mapToObj(stepInterface(description))
+            .map(step -> step.toBuilder().addModifiers(STATIC).build())
+            .collect(toList()))
+        .addModifiers(PUBLIC)
+        .build());
+  }
+
   private TypeSpec defineContract(SimpleRegularGoalDescription description) {
     return classBuilder(contractType(description))
         .addTypes(stepInterfaces(description))
@@ -88,7 +114,7 @@ public final class RegularBuilder implements RegularSimpleModule {
           (constructor, description) -> constructor(),
           (staticMethod, description) -> constructor(),
           (method, description) -> {
-            if (description.details.lifecycle == REUSE_INSTANCES) {
+            if (description.details.lifecycle.recycles()) {
               return constructor();
             }
             TypeName type = description.context.type;
@@ -100,8 +126,9 @@ public final class RegularBuilder implements RegularSimpleModule {
           });
 
   private List<ClassName> stepInterfaceTypes(SimpleRegularGoalDescription description) {
-    return transform(description.parameters,
-        step -> contractType(description).nestedClass(upcase(step.name)));
+    return IntStream.range(0, description.parameters.size())
+        .mapToObj(i -> stepType(i, description))
+        .collect(toList());
   }
 
   static ClassName contractType(SimpleRegularGoalDescription description) {
@@ -109,15 +136,30 @@ public final class RegularBuilder implements RegularSimpleModule {
     return description.context.generatedType.nestedClass(contractName);
   }
 
+  private static List<BuilderMethod> extraMethods(SimpleRegularGoalDescription description) {
+    List<BuilderMethod> methods = new ArrayList<>(3);
+    if (description.batch) {
+      methods.add(batchMethod(description));
+    }
+    if (description.function) {
+      methods.add(functionMethod(description));
+    }
+    if (description.details.lifecycle.counts()) {
+      methods.add(new BuilderMethod(description.details.name,
+          description.context.poolStats(methodName(description) + "PoolStats",
+              implType(description), description.details.access(STATIC))));
+    }
+    return methods;
+  }
+
   @Override
   public ModuleOutput process(SimpleRegularGoalDescription description) {
     return new ModuleOutput(
         builderMethod(description),
-        asList(
-            defineBuilderImpl(description),
-            defineContract(description)),
-        description.details.lifecycle == REUSE_INSTANCES ?
-            singletonList(description.context.cache(implType(description))) :
-            emptyList());
+        extraMethods(description),
+        description.stepTypes.isEmpty() ?
+            asList(defineBuilderImpl(description), defineContract(description)) :
+            cons(defineBuilderImpl(description), defineCompactContract(description)),
+        description.cacheFields(implType(description)));
   }
 }
@@ -27,7 +27,7 @@ final class Step {
         .build();
   }
 
-  private static MethodSpec stepMethod(int i, SimpleRegularGoalDescription description) {
+  static MethodSpec stepMethod(int i, SimpleRegularGoalDescription description) {
     SimpleParameter parameter = description.parameters.get(i);
     String name = parameter.name;
     TypeName type = parameter.type;
@@ -0,0 +1,177 @@
+package net.zerobuilder.modules.codec;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoModule.ProjectedModule;
+import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.NestedCodec;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.ProjectedRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.ProjectedParameter;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoProjectionInfo.readProjection;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.modules.codec.Utf8.defineUtf8;
+import static net.zerobuilder.modules.codec.Utf8.utf8Type;
+
+/**
+ * Generates {@code encode}, {@code decode} and {@code encodedSize}.
+ * See {@code net.zerobuilder.Codec} for the format.
+ */
+public final class RegularCodec implements ProjectedModule {
+
+  private static final TypeName STRING = ClassName.get(String.class);
+
+  /**
+   * Primitive types, with the name of their {@link ByteBuffer} accessors and their size in bytes.
+   * A boolean is written as a byte.
+   */
+  private static final Map<TypeName, Primitive> PRIMITIVES = primitives();
+
+  private static final class Primitive {
+    final String accessor;
+    final int size;
+
+    Primitive(String accessor, int size) {
+      this.accessor = accessor;
+      this.size = size;
+    }
+  }
+
+  private static Map<TypeName, Primitive> primitives() {
+    Map<TypeName, Primitive> primitives = new HashMap<>();
+    primitives.put(TypeName.BOOLEAN, new Primitive("", 1));
+    primitives.put(TypeName.BYTE, new Primitive("", 1));
+    primitives.put(TypeName.SHORT, new Primitive("Short", 2));
+    primitives.put(TypeName.CHAR, new Primitive("Char", 2));
+    primitives.put(TypeName.INT, new Primitive("Int", 4));
+    primitives.put(TypeName.FLOAT, new Primitive("Float", 4));
+    primitives.put(TypeName.LONG, new Primitive("Long", 8));
+    primitives.put(TypeName.DOUBLE, new Primitive("Double", 8));
+    return primitives;
+  }
+
+  private static ParameterSpec buffer(ProjectedRegularGoalDescription description) {
+    return parameterSpec(TypeName.get(ByteBuffer.class), description.localName("_buffer"));
+  }
+
+  private static MethodSpec encodeMethod(ProjectedRegularGoalDescription description) {
+    ParameterSpec instance = description.instance();
+    ParameterSpec buffer = buffer(description);
+    MethodSpec.Builder method = methodBuilder(description.methodName("Encode"))
+        .addParameter(instance)
+        .addParameter(buffer)
+        .addExceptions(description.encoderThrownTypes())
+        .addModifiers(description.details.access(STATIC));
+    for (ProjectedParameter parameter : description.parameters) {
+      CodeBlock value = readProjection(parameter.projectionInfo, instance);
+      Primitive primitive = PRIMITIVES.get(parameter.type);
+      if (parameter.type.equals(TypeName.BOOLEAN)) {
+        method.addStatement("$N.put((byte) ($L ? 1 : 0))", buffer, value);
+      } else if (primitive != null) {
+        method.addStatement("$N.put$L($L)", buffer, primitive.accessor, value);
+      } else if (parameter.type.equals(STRING)) {
+        method.addStatement("$T.put($N, $L)", utf8Type(description.context), buffer, value);
+      } else {
+        NestedCodec nested = description.nestedCodecs.get(parameter.type);
+        ParameterSpec var = description.var(parameter);
+        method.addStatement("$T $N = $L", var.type, var, value)
+            .beginControlFlow("if ($N == null)", var)
+            .addStatement("$N.put((byte) 0)", buffer)
+            .nextControlFlow("else")
+            .addStatement("$N.put((byte) 1)", buffer)
+            .addStatement("$T.$N($N, $N)", nested.generatedType, nested.goalName + "Encode", var, buffer)
+            .endControlFlow();
+      }
+    }
+    return method.build();
+  }
+
+  private static MethodSpec decodeMethod(ProjectedRegularGoalDescription description) {
+    ParameterSpec buffer = buffer(description);
+    MethodSpec.Builder method = methodBuilder(description.methodName("Decode"))
+        .addParameter(buffer)
+        .returns(description.details.type())
+        .addExceptions(description.decoderThrownTypes())
+        .addModifiers(description.details.access(STATIC));
+    for (ProjectedParameter parameter : description.parameters) {
+      Primitive primitive = PRIMITIVES.get(parameter.type);
+      if (parameter.type.equals(TypeName.BOOLEAN)) {
+        method.addStatement("$T $N = $N.get() != 0", parameter.type, parameter.name, buffer);
+      } else if (primitive != null) {
+        method.addStatement("$T $N = $N.get$L()", parameter.type, parameter.name, buffer, primitive.accessor);
+      } else if (parameter.type.equals(STRING)) {
+        method.addStatement("$T $N = $T.get($N)", parameter.type, parameter.name,
+            utf8Type(description.context), buffer);
+      } else {
+        NestedCodec nested = description.nestedCodecs.get(parameter.type);
+        method.addStatement("$T $N = $N.get() == 0 ? null : $T.$N($N)", parameter.type, parameter.name,
+            buffer, nested.generatedType, nested.goalName + "Decode", buffer);
+      }
+    }
+    return method.addStatement("return $L", description.invocation()).build();
+  }
+
+  private static MethodSpec encodedSizeMethod(ProjectedRegularGoalDescription description) {
+    ParameterSpec instance = description.instance();
+    String size = description.localName("_size");
+    int fixed = description.parameters.stream()
+        .map(parameter -> PRIMITIVES.get(parameter.type))
+        .filter(primitive -> primitive != null)
+        .mapToInt(primitive -> primitive.size)
+        .sum();
+    MethodSpec.Builder method = methodBuilder(description.methodName("EncodedSize"))
+        .addParameter(instance)
+        .returns(TypeName.INT)
+        .addExceptions(description.encoderThrownTypes())
+        .addModifiers(description.details.access(STATIC))
+        .addStatement("int $L = $L", size, fixed);
+    for (ProjectedParameter parameter : description.parameters) {
+      if (parameter.type.isPrimitive()) {
+        continue;
+      }
+      CodeBlock value = readProjection(parameter.projectionInfo, instance);
+      if (parameter.type.equals(STRING)) {
+        method.addStatement("$L += $T.encodedSize($L)", size, utf8Type(description.context), value);
+      } else {
+        NestedCodec nested = description.nestedCodecs.get(parameter.type);
+        ParameterSpec var = description.var(parameter);
+        method.addStatement("$T $N = $L", var.type, var, value)
+            .addStatement("$L += $N == null ? 1 : 1 + $T.$N($N)", size, var,
+                nested.generatedType, nested.goalName + "EncodedSize", var);
+      }
+    }
+    return method.addStatement("return $L", size).build();
+  }
+
+  private static boolean hasString(ProjectedRegularGoalDescription description) {
+    return description.parameters.stream()
+        .anyMatch(parameter -> parameter.type.equals(STRING));
+  }
+
+  @Override
+  public ModuleOutput process(ProjectedRegularGoalDescription description) {
+    String name = description.details.name;
+    return new ModuleOutput(
+        new BuilderMethod(name, encodeMethod(description)),
+        asList(
+            new BuilderMethod(name, decodeMethod(description)),
+            new BuilderMethod(name, encodedSizeMethod(description))),
+        hasString(description) ?
+            singletonList(defineUtf8()) :
+            emptyList(),
+        emptyList());
+  }
+}
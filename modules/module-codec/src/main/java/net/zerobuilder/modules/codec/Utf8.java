@@ -0,0 +1,167 @@
+package net.zerobuilder.modules.codec;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import net.zerobuilder.compiler.generate.DtoContext.GoalContext;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.constructor;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+
+/**
+ * Defines the string helper, a nested class of the generated type.
+ * The encoder writes the chars directly into the buffer, without an intermediate {@code byte[]}.
+ * Like {@link String#getBytes(java.nio.charset.Charset)}, it replaces an unpaired surrogate with {@code '?'}.
+ */
+final class Utf8 {
+
+  private static final String NAME = "Utf8";
+
+  private static final ParameterSpec buffer = parameterSpec(TypeName.get(ByteBuffer.class), "buffer");
+  private static final ParameterSpec string = parameterSpec(TypeName.get(String.class), "s");
+
+  static ClassName utf8Type(GoalContext context) {
+    return context.generatedType.nestedClass(NAME);
+  }
+
+  static TypeSpec defineUtf8() {
+    return classBuilder(NAME)
+        .addModifiers(PRIVATE, STATIC, FINAL)
+        .addMethod(encodedSizeMethod())
+        .addMethod(lengthMethod())
+        .addMethod(putMethod())
+        .addMethod(getMethod())
+        .addMethod(constructor(PRIVATE))
+        .build();
+  }
+
+  private static MethodSpec encodedSizeMethod() {
+    return methodBuilder("encodedSize")
+        .addModifiers(STATIC)
+        .addParameter(string)
+        .returns(TypeName.INT)
+        .addStatement("return $N == null ? 4 : 4 + length($N)", string, string)
+        .build();
+  }
+
+  private static MethodSpec lengthMethod() {
+    return methodBuilder("length")
+        .addModifiers(STATIC)
+        .addParameter(string)
+        .returns(TypeName.INT)
+        .addStatement("int n = 0")
+        .beginControlFlow("for (int i = 0; i < $N.length(); i++)", string)
+        .addStatement("char c = $N.charAt(i)", string)
+        .beginControlFlow("if (c < 0x80)")
+        .addStatement("n += 1")
+        .nextControlFlow("else if (c < 0x800)")
+        .addStatement("n += 2")
+        .nextControlFlow("else if (!$T.isSurrogate(c))", Character.class)
+        .addStatement("n += 3")
+        .nextControlFlow("else if ($L)", isPair("i"))
+        .addStatement("n += 4")
+        .addStatement("i++")
+        .nextControlFlow("else")
+        .addStatement("n += 1")
+        .endControlFlow()
+        .endControlFlow()
+        .addStatement("return n")
+        .build();
+  }
+
+  private static MethodSpec putMethod() {
+    return methodBuilder("put")
+        .addModifiers(STATIC)
+        .addParameter(buffer)
+        .addParameter(string)
+        .beginControlFlow("if ($N == null)", string)
+        .addStatement("$N.putInt(-1)", buffer)
+        .addStatement("return")
+        .endControlFlow()
+        .addStatement("$N.putInt(length($N))", buffer, string)
+        .beginControlFlow("for (int i = 0; i < $N.length(); i++)", string)
+        .addStatement("char c = $N.charAt(i)", string)
+        .beginControlFlow("if (c < 0x80)")
+        .addStatement("$N.put((byte) c)", buffer)
+        .nextControlFlow("else if (c < 0x800)")
+        .addCode(putBytes(
+            CodeBlock.of("0xc0 | c >> 6"),
+            CodeBlock.of("0x80 | c & 0x3f")))
+        .nextControlFlow("else if (!$T.isSurrogate(c))", Character.class)
+        .addCode(putBytes(
+            CodeBlock.of("0xe0 | c >> 12"),
+            CodeBlock.of("0x80 | c >> 6 & 0x3f"),
+            CodeBlock.of("0x80 | c & 0x3f")))
+        .nextControlFlow("else if ($L)", isPair("i"))
+        .addStatement("int cp = $T.toCodePoint(c, $N.charAt(++i))", Character.class, string)
+        .addCode(putBytes(
+            CodeBlock.of("0xf0 | cp >> 18"),
+            CodeBlock.of("0x80 | cp >> 12 & 0x3f"),
+            CodeBlock.of("0x80 | cp >> 6 & 0x3f"),
+            CodeBlock.of("0x80 | cp & 0x3f")))
+        .nextControlFlow("else")
+        .addStatement("$N.put((byte) '?')", buffer)
+        .endControlFlow()
+        .endControlFlow()
+        .build();
+  }
+
+  /**
+   * A heap buffer is decoded in place.
+   */
+  private static MethodSpec getMethod() {
+    return methodBuilder("get")
+        .addModifiers(STATIC)
+        .addParameter(buffer)
+        .returns(String.class)
+        .addStatement("int length = $N.getInt()", buffer)
+        .beginControlFlow("if (length == -1)")
+        .addStatement("return null")
+        .endControlFlow()
+        .beginControlFlow("if (length < 0)")
+        .addStatement("throw new $T($S + length)", IllegalArgumentException.class, "negative length: ")
+        .endControlFlow()
+        .beginControlFlow("if ($N.remaining() < length)", buffer)
+        .addStatement("throw new $T()", BufferUnderflowException.class)
+        .endControlFlow()
+        .beginControlFlow("if ($N.hasArray())", buffer)
+        .addStatement("int position = $N.position()", buffer)
+        .addStatement("$N.position(position + length)", buffer)
+        .addStatement("return new $T($N.array(), $N.arrayOffset() + position, length, $T.UTF_8)",
+            String.class, buffer, buffer, StandardCharsets.class)
+        .endControlFlow()
+        .addStatement("byte[] bytes = new byte[length]")
+        .addStatement("$N.get(bytes)", buffer)
+        .addStatement("return new $T(bytes, $T.UTF_8)", String.class, StandardCharsets.class)
+        .build();
+  }
+
+  private static CodeBlock isPair(String index) {
+    return CodeBlock.of("$T.isHighSurrogate(c) && $L + 1 < $N.length() && $T.isLowSurrogate($N.charAt($L + 1))",
+        Character.class, index, string, Character.class, string, index);
+  }
+
+  private static CodeBlock putBytes(CodeBlock... bytes) {
+    CodeBlock.Builder builder = CodeBlock.builder();
+    for (CodeBlock b : bytes) {
+      builder.addStatement("$N.put((byte) ($L))", buffer, b);
+    }
+    return builder.build();
+  }
+
+  private Utf8() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
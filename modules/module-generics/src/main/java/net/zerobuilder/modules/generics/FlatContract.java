@@ -0,0 +1,73 @@
+package net.zerobuilder.modules.generics;
+
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.List;
+
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static com.squareup.javapoet.TypeSpec.interfaceBuilder;
+import static java.util.Collections.emptyList;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.generics.GenericsContract.implType;
+import static net.zerobuilder.modules.generics.GenericsContract.nextStepType;
+
+/**
+ * The step interfaces of the flat builder.
+ * They have the same type parameters as the step classes of {@link GenericsBuilder}.
+ */
+final class FlatContract {
+
+  static TypeSpec defineContract(SimpleRegularGoalDescription description, VarLife varLife) {
+    List<List<TypeVariableName>> typeParams = varLife.typeParams();
+    List<List<TypeVariableName>> methodParams = varLife.methodParams();
+    TypeSpec.Builder builder = classBuilder(implType(description))
+        .addModifiers(PUBLIC, STATIC, FINAL)
+        .addMethod(constructorBuilder()
+            .addStatement("throw new $T($S)", UnsupportedOperationException.class, "no instances")
+            .addModifiers(PRIVATE)
+            .build());
+    for (int i = 0; i < description.parameters.size(); i++) {
+      builder.addType(stepInterface(description, typeParams, methodParams, i));
+    }
+    return builder.build();
+  }
+
+  private static TypeSpec stepInterface(SimpleRegularGoalDescription description,
+                                        List<List<TypeVariableName>> typeParams,
+                                        List<List<TypeVariableName>> methodParams,
+                                        int i) {
+    SimpleParameter step = description.parameters.get(i);
+    List<TypeName> thrownTypes = i == description.parameters.size() - 1 ?
+        description.thrownTypes :
+        emptyList();
+    MethodSpec method = methodBuilder(step.name)
+        .addTypeVariables(methodParams.get(i))
+        .addParameter(parameterSpec(step.type, step.name))
+        .returns(nextStepType(description, typeParams, i))
+        .addExceptions(thrownTypes)
+        .addModifiers(PUBLIC, ABSTRACT)
+        .build();
+    return interfaceBuilder(upcase(step.name))
+        .addTypeVariables(typeParams.get(i))
+        .addMethod(method)
+        .addModifiers(PUBLIC)
+        .build();
+  }
+
+  private FlatContract() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
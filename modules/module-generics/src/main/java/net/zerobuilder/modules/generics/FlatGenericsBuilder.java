@@ -0,0 +1,112 @@
+package net.zerobuilder.modules.generics;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeVariableName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoModule.RegularSimpleModule;
+import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+
+import java.util.List;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterizedTypeName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
+import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.generics.FlatContract.defineContract;
+import static net.zerobuilder.modules.generics.FlatImpl.IN_USE;
+import static net.zerobuilder.modules.generics.FlatImpl.INSTANCE;
+import static net.zerobuilder.modules.generics.FlatImpl.defineImpl;
+import static net.zerobuilder.modules.generics.FlatImpl.implType;
+import static net.zerobuilder.modules.generics.GenericsBuilder.varLife;
+
+/**
+ * Same step interfaces as {@link GenericsBuilder},
+ * but a non-branching invocation allocates only one object.
+ * With {@code @Recycle}, that object is reused as well.
+ */
+public final class FlatGenericsBuilder implements RegularSimpleModule {
+
+  private static BuilderMethod builderMethod(SimpleRegularGoalDescription description,
+                                             VarLife varLife) {
+    List<TypeVariableName> typeParams = varLife.typeParams().get(0);
+    ParameterSpec instance = parameterSpec(description.context.type, "instance");
+    MethodSpec.Builder builder = methodBuilder(description.details.name + "Builder")
+        .addModifiers(description.details.access(STATIC))
+        .addTypeVariables(typeParams)
+        .returns(parameterizedTypeName(
+            GenericsContract.implType(description)
+                .nestedClass(upcase(description.parameters.get(0).name)),
+            typeParams));
+    if (isInstance.apply(description.details)) {
+      builder.addParameter(instance);
+    }
+    if (description.stateless()) {
+      builder.addStatement("return $N", description.context.singleton(implType(description)));
+    } else {
+      builder.addCode(description.details.lifecycle.recycles() ?
+          acquire(description, instance) :
+          create(description, instance));
+    }
+    if (!typeParams.isEmpty()) {
+      builder.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+          .addMember("value", "$S", "unchecked")
+          .build());
+    }
+    return new BuilderMethod(description.details.name, builder.build());
+  }
+
+  private static CodeBlock create(SimpleRegularGoalDescription description,
+                                  ParameterSpec instance) {
+    return isInstance.apply(description.details) ?
+        statement("return new $T($N)", implType(description), instance) :
+        statement("return new $T()", implType(description));
+  }
+
+  private static CodeBlock acquire(SimpleRegularGoalDescription description,
+                                   ParameterSpec instance) {
+    ParameterSpec varBuilder = parameterSpec(implType(description), "_builder");
+    CodeBlock.Builder builder = CodeBlock.builder();
+    if (description.details.lifecycle.pools()) {
+      builder.add(description.context.poll(varBuilder, description.details.lifecycle));
+    } else {
+      FieldSpec cache = description.context.cache(implType(description));
+      builder.addStatement("$T $N = $N.get()", varBuilder.type, varBuilder, cache)
+          .beginControlFlow("if ($N.$L)", varBuilder, IN_USE)
+          .addStatement("$N.remove()", cache)
+          .addStatement("$N = $N.get()", varBuilder, cache)
+          .endControlFlow()
+          .addStatement("$N.$L = $L", varBuilder, IN_USE, true);
+    }
+    if (isInstance.apply(description.details)) {
+      builder.addStatement("$N.$L = $N", varBuilder, INSTANCE, instance);
+    }
+    return builder.addStatement("return $N", varBuilder).build();
+  }
+
+  @Override
+  public ModuleOutput process(SimpleRegularGoalDescription description) {
+    VarLife varLife = varLife(description);
+    return new ModuleOutput(
+        builderMethod(description, varLife),
+        description.details.lifecycle.counts() ?
+            singletonList(new BuilderMethod(description.details.name,
+                description.context.poolStats(description.details.name + "BuilderPoolStats",
+                    implType(description), description.details.access(STATIC)))) :
+            emptyList(),
+        asList(
+            defineImpl(description),
+            defineContract(description, varLife)),
+        description.cacheFields(implType(description)));
+  }
+}
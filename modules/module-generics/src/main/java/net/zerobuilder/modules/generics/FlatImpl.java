@@ -0,0 +1,254 @@
+package net.zerobuilder.modules.generics;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.ConstructorGoalDetails;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.InstanceMethodGoalDetails;
+import net.zerobuilder.compiler.generate.DtoGoalDetails.StaticMethodGoalDetails;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.SimpleRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.SimpleParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static com.squareup.javapoet.TypeName.INT;
+import static com.squareup.javapoet.TypeName.VOID;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUSE_INSTANCES;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
+import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.erasure;
+import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
+import static net.zerobuilder.compiler.generate.ZeroUtil.transform;
+import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.generics.GenericsBuilder.hasTypeParameters;
+
+/**
+ * <p>The single mutable object that implements all step interfaces of the flat builder.
+ * All field and method types are erased, so one class can implement every step,
+ * regardless of the type parameters.</p>
+ * <p>The {@code _step} field counts the steps that were invoked on this object.
+ * If a step is invoked a second time (branching), the object is copied first,
+ * so step instances can be reused like the immutable steps of {@link GenericsBuilder}.</p>
+ * <p>Because the carrier is not generic, it can also be recycled,
+ * even if the goal has type parameters.</p>
+ */
+final class FlatImpl {
+
+  static final String STEP = "_step";
+  static final String INSTANCE = "_instance";
+  static final String IN_USE = "_currently_in_use";
+
+  static ClassName implType(SimpleRegularGoalDescription description) {
+    ClassName contract = GenericsContract.implType(description);
+    return contract.peerClass(contract.simpleName() + "Impl");
+  }
+
+  static TypeSpec defineImpl(SimpleRegularGoalDescription description) {
+    ClassName contract = GenericsContract.implType(description);
+    TypeSpec.Builder builder = classBuilder(implType(description))
+        .addSuperinterfaces(transform(description.parameters,
+            step -> contract.nestedClass(upcase(step.name))))
+        .addFields(fields(description))
+        .addMethod(constructor(description))
+        .addMethods(copyConstructor(description))
+        .addModifiers(PRIVATE, STATIC, FINAL);
+    for (int i = 0; i < description.parameters.size(); i++) {
+      builder.addMethod(stepMethod(description, i));
+    }
+    if (hasTypeParameters(description)) {
+      builder.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+          .addMember("value", "{$S, $S}", "rawtypes", "unchecked")
+          .build());
+    }
+    return builder.build();
+  }
+
+  private static List<FieldSpec> fields(SimpleRegularGoalDescription description) {
+    List<SimpleParameter> steps = description.parameters;
+    List<FieldSpec> builder = new ArrayList<>(steps.size() + 1);
+    if (isInstance.apply(description.details)) {
+      builder.add(description.implLifecycle().recycles() ?
+          fieldSpec(erasure(description.context.type), INSTANCE, PRIVATE) :
+          fieldSpec(erasure(description.context.type), INSTANCE, PRIVATE, FINAL));
+    }
+    if (description.implLifecycle() == REUSE_INSTANCES) {
+      builder.add(fieldSpec(BOOLEAN, IN_USE, PRIVATE));
+    }
+    if (steps.size() > 1) {
+      builder.add(fieldSpec(INT, STEP, PRIVATE));
+    }
+    steps.stream()
+        .limit(steps.size() - 1)
+        .map(step -> fieldSpec(erasure(step.type), step.name, PRIVATE))
+        .forEach(builder::add);
+    return builder;
+  }
+
+  private static MethodSpec constructor(SimpleRegularGoalDescription description) {
+    if (!isInstance.apply(description.details)
+        || description.implLifecycle().recycles()) {
+      return constructorBuilder().build();
+    }
+    ParameterSpec instance = parameterSpec(erasure(description.context.type), "instance");
+    return constructorBuilder()
+        .addParameter(instance)
+        .addStatement("this.$L = $N", INSTANCE, instance)
+        .build();
+  }
+
+  private static List<MethodSpec> copyConstructor(SimpleRegularGoalDescription description) {
+    List<SimpleParameter> steps = description.parameters;
+    if (steps.size() <= 1) {
+      return emptyList();
+    }
+    ParameterSpec source = parameterSpec(implType(description), "_source");
+    MethodSpec.Builder builder = constructorBuilder()
+        .addParameter(source)
+        .addModifiers(PRIVATE);
+    if (isInstance.apply(description.details)) {
+      builder.addStatement("this.$L = $N.$L", INSTANCE, source, INSTANCE);
+    }
+    steps.stream()
+        .limit(steps.size() - 1)
+        .forEach(step -> builder.addStatement("this.$N = $N.$N", step.name, source, step.name));
+    return singletonList(builder.build());
+  }
+
+  private static MethodSpec stepMethod(SimpleRegularGoalDescription description, int i) {
+    SimpleParameter step = description.parameters.get(i);
+    ParameterSpec parameter = parameterSpec(erasure(step.type), step.name);
+    boolean last = i == description.parameters.size() - 1;
+    return methodBuilder(step.name)
+        .addAnnotation(Override.class)
+        .addParameter(parameter)
+        .returns(last ?
+            erasure(description.details.type()) :
+            GenericsContract.implType(description)
+                .nestedClass(upcase(description.parameters.get(i + 1).name)))
+        .addCode(last ?
+            invoke.apply(description.details, description) :
+            assign(description, parameter, i))
+        .addExceptions(last ?
+            transform(description.thrownTypes, type -> erasure(type)) :
+            emptyList())
+        .addModifiers(PUBLIC)
+        .build();
+  }
+
+  private static CodeBlock assign(SimpleRegularGoalDescription description,
+                                  ParameterSpec parameter, int i) {
+    ClassName implType = implType(description);
+    ParameterSpec varImpl = parameterSpec(implType, "_impl");
+    return CodeBlock.builder()
+        .addStatement("$T $N = this.$L == $L ? this : new $T(this)",
+            implType, varImpl, STEP, i, implType)
+        .addStatement("$N.$N = $N", varImpl, parameter.name, parameter)
+        .addStatement("$N.$L = $L", varImpl, STEP, i + 1)
+        .addStatement("return $N", varImpl)
+        .build();
+  }
+
+  private static final BiFunction<AbstractRegularDetails, SimpleRegularGoalDescription, CodeBlock> invoke =
+      regularDetailsCases(
+          (constructor, description) -> constructorCall(description, constructor),
+          (staticMethod, description) -> staticCall(description, staticMethod),
+          (instanceMethod, description) -> instanceCall(description, instanceMethod));
+
+  private static CodeBlock constructorCall(SimpleRegularGoalDescription description,
+                                           ConstructorGoalDetails details) {
+    CodeBlock call = CodeBlock.of("new $T($L)", rawClassName(details.type()),
+        description.invocationParameters());
+    return returnOrVoid(description, details.type(), call);
+  }
+
+  private static CodeBlock staticCall(SimpleRegularGoalDescription description,
+                                      StaticMethodGoalDetails details) {
+    CodeBlock call = CodeBlock.of("$T.$N($L)", rawClassName(description.context.type),
+        details.methodName, description.invocationParameters());
+    return returnOrVoid(description, details.goalType, call);
+  }
+
+  private static CodeBlock instanceCall(SimpleRegularGoalDescription description,
+                                        InstanceMethodGoalDetails details) {
+    CodeBlock call = CodeBlock.of("this.$L.$N($L)", INSTANCE,
+        details.methodName, description.invocationParameters());
+    return returnOrVoid(description, details.goalType, call);
+  }
+
+  private static CodeBlock returnOrVoid(SimpleRegularGoalDescription description,
+                                        TypeName goalType, CodeBlock call) {
+    ContextLifecycle lifecycle = description.implLifecycle();
+    if (!lifecycle.recycles()) {
+      return VOID.equals(goalType) ?
+          statement("$L", call) :
+          statement("return $L", call);
+    }
+    CodeBlock.Builder builder = CodeBlock.builder();
+    if (lifecycle == REUSE_INSTANCES) {
+      builder.addStatement("this.$L = $L", IN_USE, false);
+    }
+    if (VOID.equals(goalType)) {
+      return builder.addStatement("$L", call)
+          .add(release(description))
+          .build();
+    }
+    TypeName type = erasure(goalType);
+    ParameterSpec varGoal = parameterSpec(type, '_' + downcase(simpleName(type)));
+    return builder.addStatement("$T $N = $L", varGoal.type, varGoal, call)
+        .add(release(description))
+        .addStatement("return $N", varGoal)
+        .build();
+  }
+
+  private static CodeBlock release(SimpleRegularGoalDescription description) {
+    CodeBlock.Builder builder = free(description).toBuilder();
+    if (description.implLifecycle().pools()) {
+      builder.add(description.context.offer(implType(description), description.implLifecycle()));
+    }
+    return builder.build();
+  }
+
+  private static CodeBlock free(SimpleRegularGoalDescription description) {
+    List<SimpleParameter> steps = description.parameters;
+    CodeBlock.Builder builder = CodeBlock.builder();
+    if (isInstance.apply(description.details)) {
+      builder.addStatement("this.$L = null", INSTANCE);
+    }
+    if (steps.size() > 1) {
+      builder.addStatement("this.$L = $L", STEP, 0);
+    }
+    steps.stream()
+        .limit(steps.size() - 1)
+        .filter(step -> !erasure(step.type).isPrimitive())
+        .forEach(step -> builder.addStatement("this.$N = null", step.name));
+    return builder.build();
+  }
+
+  private FlatImpl() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
@@ -21,14 +21,14 @@ import static net.zerobuilder.modules.generics.GenericsContract.stepTypes;
 
 public final class GenericsBuilder implements RegularSimpleModule {
 
-  private final Function<AbstractRegularDetails, List<TypeVariableName>> allTypeParameters =
+  private static final Function<AbstractRegularDetails, List<TypeVariableName>> allTypeParameters =
       regularDetailsCases(
           constructor -> constructor.instanceTypeParameters,
           staticMethod -> staticMethod.typeParameters,
           instanceMethod -> concat(
               instanceMethod.instanceTypeParameters, instanceMethod.typeParameters));
 
-  private final BiFunction<AbstractRegularDetails, SimpleRegularGoalDescription, List<TypeName>> extendedStepTypes =
+  private static final BiFunction<AbstractRegularDetails, SimpleRegularGoalDescription, List<TypeName>> extendedStepTypes =
       regularDetailsCases(
           (constructor, description) -> stepTypes(description),
           (staticMethod, description) -> stepTypes(description),
@@ -36,14 +36,22 @@ public final class GenericsBuilder implements RegularSimpleModule {
               description.context.type,
               stepTypes(description)));
 
-  @Override
-  public ModuleOutput process(SimpleRegularGoalDescription description) {
+  static VarLife varLife(SimpleRegularGoalDescription description) {
     AbstractRegularDetails details = description.details;
     List<TypeVariableName> typeParameters = allTypeParameters.apply(details);
-    VarLife varLife = VarLife.create(
+    return VarLife.create(
         typeParameters,
         extendedStepTypes.apply(description.details, description),
         isInstance.apply(details));
+  }
+
+  static boolean hasTypeParameters(SimpleRegularGoalDescription description) {
+    return !allTypeParameters.apply(description.details).isEmpty();
+  }
+
+  @Override
+  public ModuleOutput process(SimpleRegularGoalDescription description) {
+    VarLife varLife = varLife(description);
     GenericsGenerator generator = GenericsGenerator.create(description, varLife);
     return new ModuleOutput(
         generator.builderMethod(description, varLife),
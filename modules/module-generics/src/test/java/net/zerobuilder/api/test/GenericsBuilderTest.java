@@ -1,6 +1,7 @@
 package net.zerobuilder.api.test;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
@@ -129,6 +130,48 @@ public class GenericsBuilderTest {
     assertThat(method.returnType, is(MAP_K_V));
   }
 
+  /**
+   * <p>A primitive parameter is stored in a primitive field,
+   * even if the goal has type parameters.
+   * </p>
+   * <pre><code>
+   *   class MyType {
+   *     static <V> List<V> nCopies(int n, V value) {
+   *       return null;
+   *     }
+   *   }
+   * </pre></code>
+   */
+  @Test
+  public void primitiveStep() {
+    DtoContext.GoalContext goalContext = createContext(TYPE, GENERATED_TYPE);
+    StaticMethodGoalDetails details = StaticMethodGoalDetails.create(
+        ParameterizedTypeName.get(ClassName.get(List.class), V),
+        "nCopies",
+        asList("n", "value"),
+        "nCopies",
+        PRIVATE,
+        singletonList(V),
+        NEW_INSTANCE);
+    SimpleRegularGoalDescription description = SimpleRegularGoalDescription.create(
+        details,
+        Collections.emptyList(),
+        asList(DtoRegularParameter.create("n", TypeName.INT),
+            DtoRegularParameter.create("value", V)),
+        goalContext);
+    GeneratorOutput generatorOutput = Generator.generate(singletonList(new RegularSimpleGoalInput(
+        new GenericsBuilder(),
+        description)));
+    Map<String, TypeSpec> nested = unique(generatorOutput.nestedTypes().stream().collect(groupingBy(type -> type.name)));
+    Map<String, TypeSpec> steps = unique(nested.get("NCopiesBuilder").typeSpecs.stream()
+        .collect(groupingBy(type -> type.name)));
+    MethodSpec stepMethod = steps.get("N").methodSpecs.get(1);
+    assertThat(stepMethod.parameters.get(0).type, is(TypeName.INT));
+    Map<String, FieldSpec> fields = unique(steps.get("Value").fieldSpecs.stream()
+        .collect(groupingBy(field -> field.name)));
+    assertThat(fields.get("n").type, is(TypeName.INT));
+  }
+
   private static <K, V> Map<K, V> unique(Map<K, List<V>> map) {
     HashMap<K, V> m = new HashMap<>();
     for (Map.Entry<K, List<V>> entry : map.entrySet()) {
@@ -0,0 +1,615 @@
+package net.zerobuilder.modules.json;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import net.zerobuilder.compiler.generate.DtoContext.GoalContext;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.ZeroUtil.constructor;
+import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+
+/**
+ * Defines the JSON helper, a nested class of the generated type.
+ * The reader methods take the input and a {@link ParsePosition},
+ * so that nested goals from other generated types can continue at the same position.
+ */
+final class JsonSupport {
+
+  private static final String NAME = "JsonSupport";
+
+  /**
+   * Powers of ten that are exact doubles
+   */
+  private static final int MAX_EXACT_POWER = 22;
+
+  /**
+   * Mantissas below {@code 10^15} are exact doubles
+   */
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  private static final ParameterSpec json = parameterSpec(TypeName.get(String.class), "json");
+  private static final ParameterSpec position = parameterSpec(TypeName.get(ParsePosition.class), "position");
+  private static final ParameterSpec out = parameterSpec(TypeName.get(StringBuilder.class), "out");
+  private static final ParameterSpec index = parameterSpec(TypeName.INT, "i");
+  private static final FieldSpec powers = FieldSpec.builder(ArrayTypeName.of(TypeName.DOUBLE), "POWERS_OF_TEN",
+      PRIVATE, STATIC, FINAL)
+      .initializer("$L", powersOfTen())
+      .build();
+
+  static ClassName jsonSupportType(GoalContext context) {
+    return context.generatedType.nestedClass(NAME);
+  }
+
+  static TypeSpec defineJsonSupport() {
+    return classBuilder(NAME)
+        .addModifiers(PRIVATE, STATIC, FINAL)
+        .addField(powers)
+        .addMethod(stringMethod())
+        .addMethod(characterMethod())
+        .addMethod(escapeMethod())
+        .addMethod(numberMethod(TypeName.DOUBLE))
+        .addMethod(numberMethod(TypeName.FLOAT))
+        .addMethod(beginObjectMethod())
+        .addMethod(nextFieldMethod())
+        .addMethod(nameMethod())
+        .addMethod(readNullMethod())
+        .addMethod(readBooleanMethod())
+        .addMethod(readLongMethod())
+        .addMethod(readDoubleMethod())
+        .addMethod(readCharMethod())
+        .addMethod(readStringMethod())
+        .addMethod(skipValueMethod())
+        .addMethod(endMethod())
+        .addMethod(whitespaceMethod())
+        .addMethod(charAtMethod())
+        .addMethod(errorMethod())
+        .addMethod(constructor(PRIVATE))
+        .build();
+  }
+
+  /**
+   * Hash of a member name, as computed by the generated {@code name} method.
+   *
+   * @param multiplier hash multiplier
+   */
+  static int hash(String name, int multiplier) {
+    int h = 0;
+    for (int i = 0; i < name.length(); i++) {
+      h = h * multiplier + name.charAt(i);
+    }
+    return h;
+  }
+
+  private static CodeBlock powersOfTen() {
+    List<CodeBlock> powers = new ArrayList<>(MAX_EXACT_POWER + 1);
+    for (int i = 0; i <= MAX_EXACT_POWER; i++) {
+      powers.add(CodeBlock.of("1e$L", i));
+    }
+    return CodeBlock.builder().add("{").add(powers.stream().collect(joinCodeBlocks(", "))).add("}").build();
+  }
+
+  private static MethodSpec stringMethod() {
+    ParameterSpec s = parameterSpec(TypeName.get(String.class), "s");
+    return methodBuilder("string")
+        .addModifiers(STATIC)
+        .addParameter(out)
+        .addParameter(s)
+        .beginControlFlow("if ($N == null)", s)
+        .addStatement("$N.append($S)", out, "null")
+        .addStatement("return")
+        .endControlFlow()
+        .addStatement("$N.append('\"')", out)
+        .addStatement("int start = 0")
+        .beginControlFlow("for (int i = 0; i < $N.length(); i++)", s)
+        .addStatement("char c = $N.charAt(i)", s)
+        .beginControlFlow("if (c == '\"' || c == '\\\\' || c < 0x20)")
+        .addStatement("$N.append($N, start, i)", out, s)
+        .addStatement("escape($N, c)", out)
+        .addStatement("start = i + 1")
+        .endControlFlow()
+        .endControlFlow()
+        .addStatement("$N.append($N, start, $N.length()).append('\"')", out, s, s)
+        .build();
+  }
+
+  private static MethodSpec characterMethod() {
+    return methodBuilder("character")
+        .addModifiers(STATIC)
+        .addParameter(out)
+        .addParameter(TypeName.CHAR, "c")
+        .addStatement("$N.append('\"')", out)
+        .beginControlFlow("if (c == '\"' || c == '\\\\' || c < 0x20)")
+        .addStatement("escape($N, c)", out)
+        .nextControlFlow("else")
+        .addStatement("$N.append(c)", out)
+        .endControlFlow()
+        .addStatement("$N.append('\"')", out)
+        .build();
+  }
+
+  private static MethodSpec escapeMethod() {
+    return methodBuilder("escape")
+        .addModifiers(PRIVATE, STATIC)
+        .addParameter(out)
+        .addParameter(TypeName.CHAR, "c")
+        .beginControlFlow("switch (c)")
+        .addCode(escapeCase("'\"'", "\\\""))
+        .addCode(escapeCase("'\\\\'", "\\\\"))
+        .addCode(escapeCase("'\\n'", "\\n"))
+        .addCode(escapeCase("'\\r'", "\\r"))
+        .addCode(escapeCase("'\\t'", "\\t"))
+        .addCode(escapeCase("'\\b'", "\\b"))
+        .addCode(escapeCase("'\\f'", "\\f"))
+        .addCode("default:\n").addCode("$>")
+        .addStatement("$N.append($S).append($T.forDigit(c >> 4, 16)).append($T.forDigit(c & 0xf, 16))",
+            out, "\\u00", Character.class, Character.class)
+        .addCode("$<")
+        .endControlFlow()
+        .build();
+  }
+
+  private static CodeBlock escapeCase(String literal, String escaped) {
+    return CodeBlock.builder()
+        .add("case $L:\n", literal).indent()
+        .addStatement("$N.append($S)", out, escaped)
+        .addStatement("return")
+        .unindent()
+        .build();
+  }
+
+  /**
+   * JSON has no literal for NaN or infinity.
+   */
+  private static MethodSpec numberMethod(TypeName type) {
+    ParameterSpec d = parameterSpec(type, "d");
+    TypeName box = type.box();
+    return methodBuilder("number")
+        .addModifiers(STATIC)
+        .addParameter(out)
+        .addParameter(d)
+        .beginControlFlow("if ($T.isNaN($N) || $T.isInfinite($N))", box, d, box, d)
+        .addStatement("throw new $T($S + $N)", IllegalArgumentException.class, "not a JSON number: ", d)
+        .endControlFlow()
+        .addStatement("$N.append($N)", out, d)
+        .build();
+  }
+
+  /**
+   * Consumes the opening brace.
+   * Returns {@code false} if the object is empty, and then also consumes the closing brace.
+   * Otherwise the position is left at the quote of the first member name.
+   */
+  private static MethodSpec beginObjectMethod() {
+    return methodBuilder("beginObject")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.BOOLEAN)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .beginControlFlow("if (charAt($N, i) != '{')", json)
+        .addStatement("throw error($S, i)", "expected '{'")
+        .endControlFlow()
+        .addStatement("i = whitespace($N, i + 1)", json)
+        .beginControlFlow("if (charAt($N, i) == '}')", json)
+        .addStatement("$N.setIndex(i + 1)", position)
+        .addStatement("return false")
+        .endControlFlow()
+        .beginControlFlow("if (charAt($N, i) != '\"')", json)
+        .addStatement("throw error($S, i)", "expected a member name")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .addStatement("return true")
+        .build();
+  }
+
+  /**
+   * Consumes a comma, and returns {@code true} with the position at the quote of the next member name,
+   * or consumes the closing brace and returns {@code false}.
+   */
+  private static MethodSpec nextFieldMethod() {
+    return methodBuilder("nextField")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.BOOLEAN)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("char c = charAt($N, i)", json)
+        .beginControlFlow("if (c == '}')")
+        .addStatement("$N.setIndex(i + 1)", position)
+        .addStatement("return false")
+        .endControlFlow()
+        .beginControlFlow("if (c != ',')")
+        .addStatement("throw error($S, i)", "expected ',' or '}'")
+        .endControlFlow()
+        .addStatement("i = whitespace($N, i + 1)", json)
+        .beginControlFlow("if (charAt($N, i) != '\"')", json)
+        .addStatement("throw error($S, i)", "expected a member name")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .addStatement("return true")
+        .build();
+  }
+
+  /**
+   * Consumes a member name and the colon, and returns the hash of the name, without creating a string.
+   * The position must be at the opening quote.
+   */
+  private static MethodSpec nameMethod() {
+    return methodBuilder("name")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .addParameter(TypeName.INT, "multiplier")
+        .returns(TypeName.INT)
+        .addStatement("int h = 0")
+        .addStatement("int i = $N.getIndex() + 1", position)
+        .addStatement("char c")
+        .beginControlFlow("while ((c = charAt($N, i)) != '\"')", json)
+        .beginControlFlow("if (c == '\\\\')")
+        .addStatement("h = h * multiplier + c")
+        .addStatement("c = charAt($N, ++i)", json)
+        .endControlFlow()
+        .addStatement("h = h * multiplier + c")
+        .addStatement("i++")
+        .endControlFlow()
+        .addStatement("i = whitespace($N, i + 1)", json)
+        .beginControlFlow("if (charAt($N, i) != ':')", json)
+        .addStatement("throw error($S, i)", "expected ':'")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i + 1)", position)
+        .addStatement("return h")
+        .build();
+  }
+
+  private static MethodSpec readNullMethod() {
+    return methodBuilder("readNull")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.BOOLEAN)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .beginControlFlow("if ($N.startsWith($S, i))", json, "null")
+        .addStatement("$N.setIndex(i + 4)", position)
+        .addStatement("return true")
+        .endControlFlow()
+        .addStatement("return false")
+        .build();
+  }
+
+  private static MethodSpec readBooleanMethod() {
+    return methodBuilder("readBoolean")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.BOOLEAN)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .beginControlFlow("if ($N.startsWith($S, i))", json, "true")
+        .addStatement("$N.setIndex(i + 4)", position)
+        .addStatement("return true")
+        .endControlFlow()
+        .beginControlFlow("if ($N.startsWith($S, i))", json, "false")
+        .addStatement("$N.setIndex(i + 5)", position)
+        .addStatement("return false")
+        .endControlFlow()
+        .addStatement("throw error($S, i)", "expected a boolean")
+        .build();
+  }
+
+  /**
+   * Reads an integer, without creating a string.
+   * The value is accumulated as a negative number, so that {@link Long#MIN_VALUE} can be read.
+   */
+  private static MethodSpec readLongMethod() {
+    return methodBuilder("readLong")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .addParameter(TypeName.LONG, "min")
+        .addParameter(TypeName.LONG, "max")
+        .returns(TypeName.LONG)
+        .addStatement("int start = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("int i = start")
+        .addStatement("boolean negative = i < $N.length() && $N.charAt(i) == '-'", json, json)
+        .beginControlFlow("if (negative)")
+        .addStatement("i++")
+        .endControlFlow()
+        .addStatement("long value = 0")
+        .addStatement("int digits = i")
+        .beginControlFlow("for (char c; i < $N.length() && (c = $N.charAt(i)) >= '0' && c <= '9'; i++)",
+            json, json)
+        .addStatement("int digit = c - '0'")
+        .beginControlFlow("if (value < ($T.MIN_VALUE + digit) / 10)", Long.class)
+        .addStatement("throw error($S, start)", "number out of range")
+        .endControlFlow()
+        .addStatement("value = value * 10 - digit")
+        .endControlFlow()
+        .beginControlFlow("if (i == digits)")
+        .addStatement("throw error($S, start)", "expected an integer")
+        .endControlFlow()
+        .beginControlFlow("if (i < $N.length() && ($N.charAt(i) == '.' || $N.charAt(i) == 'e' || $N.charAt(i) == 'E'))",
+            json, json, json, json)
+        .addStatement("throw error($S, start)", "expected an integer")
+        .endControlFlow()
+        .beginControlFlow("if (!negative)")
+        .beginControlFlow("if (value == $T.MIN_VALUE)", Long.class)
+        .addStatement("throw error($S, start)", "number out of range")
+        .endControlFlow()
+        .addStatement("value = -value")
+        .endControlFlow()
+        .beginControlFlow("if (value < min || value > max)")
+        .addStatement("throw error($S, start)", "number out of range")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .addStatement("return value")
+        .build();
+  }
+
+  /**
+   * Short numbers are converted without creating a string:
+   * if the digits fit in an exact mantissa, one division by an exact power of ten is correctly rounded.
+   */
+  private static MethodSpec readDoubleMethod() {
+    return methodBuilder("readDouble")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.DOUBLE)
+        .addStatement("int start = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("int i = start")
+        .addStatement("boolean negative = i < $N.length() && $N.charAt(i) == '-'", json, json)
+        .beginControlFlow("if (negative)")
+        .addStatement("i++")
+        .endControlFlow()
+        .addStatement("long mantissa = 0")
+        .addStatement("int digits = 0")
+        .addStatement("int fraction = -1")
+        .addStatement("boolean exponent = false")
+        .beginControlFlow("for (; i < $N.length(); i++)", json)
+        .addStatement("char c = $N.charAt(i)", json)
+        .beginControlFlow("if (c >= '0' && c <= '9')")
+        .beginControlFlow("if (digits++ < $L)", MAX_EXACT_DIGITS)
+        .addStatement("mantissa = mantissa * 10 + (c - '0')")
+        .endControlFlow()
+        .beginControlFlow("if (fraction >= 0)")
+        .addStatement("fraction++")
+        .endControlFlow()
+        .nextControlFlow("else if (c == '.' && fraction < 0 && !exponent)")
+        .addStatement("fraction = 0")
+        .nextControlFlow("else if ((c == 'e' || c == 'E') && digits > 0 && !exponent)")
+        .addStatement("exponent = true")
+        .beginControlFlow("if (i + 1 < $N.length() && ($N.charAt(i + 1) == '+' || $N.charAt(i + 1) == '-'))",
+            json, json, json)
+        .addStatement("i++")
+        .endControlFlow()
+        .nextControlFlow("else")
+        .addStatement("break")
+        .endControlFlow()
+        .endControlFlow()
+        .beginControlFlow("if (digits == 0 || fraction == 0)")
+        .addStatement("throw error($S, start)", "expected a number")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .beginControlFlow("if (!exponent && digits <= $L && fraction <= $L)", MAX_EXACT_DIGITS, MAX_EXACT_POWER)
+        .addStatement("double value = fraction > 0 ? mantissa / $N[fraction] : mantissa", powers)
+        .addStatement("return negative ? -value : value")
+        .endControlFlow()
+        .beginControlFlow("try")
+        .addStatement("return $T.parseDouble($N.substring(start, i))", Double.class, json)
+        .nextControlFlow("catch ($T e)", NumberFormatException.class)
+        .addStatement("throw error($S, start)", "expected a number")
+        .endControlFlow()
+        .build();
+  }
+
+  private static MethodSpec readCharMethod() {
+    return methodBuilder("readChar")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(TypeName.CHAR)
+        .addStatement("int start = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("$T s = readString($N, $N)", String.class, json, position)
+        .beginControlFlow("if (s == null || s.length() != 1)")
+        .addStatement("throw error($S, start)", "expected a single character")
+        .endControlFlow()
+        .addStatement("return s.charAt(0)")
+        .build();
+  }
+
+  /**
+   * A string without escape sequences is a substring of the input.
+   */
+  private static MethodSpec readStringMethod() {
+    return methodBuilder("readString")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .returns(String.class)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .beginControlFlow("if ($N.startsWith($S, i))", json, "null")
+        .addStatement("$N.setIndex(i + 4)", position)
+        .addStatement("return null")
+        .endControlFlow()
+        .beginControlFlow("if (charAt($N, i) != '\"')", json)
+        .addStatement("throw error($S, i)", "expected a string")
+        .endControlFlow()
+        .addStatement("int start = ++i")
+        .addStatement("char c")
+        .beginControlFlow("while ((c = charAt($N, i)) != '\"' && c != '\\\\')", json)
+        .addStatement("i++")
+        .endControlFlow()
+        .beginControlFlow("if (c == '\"')")
+        .addStatement("$N.setIndex(i + 1)", position)
+        .addStatement("return $N.substring(start, i)", json)
+        .endControlFlow()
+        .addStatement("$T sb = new $T(i - start + 16).append($N, start, i)",
+            StringBuilder.class, StringBuilder.class, json)
+        .beginControlFlow("while ((c = charAt($N, i++)) != '\"')", json)
+        .beginControlFlow("if (c != '\\\\')")
+        .addStatement("sb.append(c)")
+        .addStatement("continue")
+        .endControlFlow()
+        .addStatement("c = charAt($N, i++)", json)
+        .beginControlFlow("switch (c)")
+        .addCode("case '\"':\n")
+        .addCode("case '\\\\':\n")
+        .addCode("case '/':\n").addCode("$>")
+        .addStatement("sb.append(c)")
+        .addStatement("break")
+        .addCode("$<")
+        .addCode(unescapeCase('n'))
+        .addCode(unescapeCase('r'))
+        .addCode(unescapeCase('t'))
+        .addCode(unescapeCase('b'))
+        .addCode(unescapeCase('f'))
+        .addCode("case 'u':\n").addCode("$>")
+        .addStatement("int u = 0")
+        .beginControlFlow("for (int end = i + 4; i < end; i++)")
+        .addStatement("int digit = $T.digit(charAt($N, i), 16)", Character.class, json)
+        .beginControlFlow("if (digit < 0)")
+        .addStatement("throw error($S, i)", "invalid escape sequence")
+        .endControlFlow()
+        .addStatement("u = u * 16 + digit")
+        .endControlFlow()
+        .addStatement("sb.append((char) u)")
+        .addStatement("break")
+        .addCode("$<")
+        .addCode("default:\n").addCode("$>")
+        .addStatement("throw error($S, i - 1)", "invalid escape sequence")
+        .addCode("$<")
+        .endControlFlow()
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .addStatement("return sb.toString()")
+        .build();
+  }
+
+  private static CodeBlock unescapeCase(char c) {
+    return CodeBlock.builder()
+        .add("case '$L':\n", c).indent()
+        .addStatement("sb.append('\\$L')", c)
+        .addStatement("break")
+        .unindent()
+        .build();
+  }
+
+  /**
+   * Skips the value of an unknown member.
+   */
+  private static MethodSpec skipValueMethod() {
+    return methodBuilder("skipValue")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("char c = charAt($N, i)", json)
+        .beginControlFlow("if (c == '\"')")
+        .addStatement("readString($N, $N)", json, position)
+        .nextControlFlow("else if (c == '{')")
+        .beginControlFlow("if (beginObject($N, $N))", json, position)
+        .beginControlFlow("do")
+        .addStatement("name($N, $N, 31)", json, position)
+        .addStatement("skipValue($N, $N)", json, position)
+        .endControlFlow("while (nextField($N, $N))", json, position)
+        .endControlFlow()
+        .nextControlFlow("else if (c == '[')")
+        .addStatement("i = whitespace($N, i + 1)", json)
+        .beginControlFlow("if (charAt($N, i) == ']')", json)
+        .addStatement("$N.setIndex(i + 1)", position)
+        .addStatement("return")
+        .endControlFlow()
+        .addStatement("$N.setIndex(i)", position)
+        .beginControlFlow("while (true)")
+        .addStatement("skipValue($N, $N)", json, position)
+        .addStatement("i = whitespace($N, $N.getIndex())", json, position)
+        .addStatement("c = charAt($N, i)", json)
+        .addStatement("$N.setIndex(i + 1)", position)
+        .beginControlFlow("if (c == ']')")
+        .addStatement("return")
+        .endControlFlow()
+        .beginControlFlow("if (c != ',')")
+        .addStatement("throw error($S, i)", "expected ',' or ']'")
+        .endControlFlow()
+        .endControlFlow()
+        .nextControlFlow("else if (c == 't' || c == 'f')")
+        .addStatement("readBoolean($N, $N)", json, position)
+        .nextControlFlow("else if (!readNull($N, $N))", json, position)
+        .addStatement("readDouble($N, $N)", json, position)
+        .endControlFlow()
+        .build();
+  }
+
+  /**
+   * Only whitespace may follow the top-level value.
+   */
+  private static MethodSpec endMethod() {
+    return methodBuilder("end")
+        .addModifiers(STATIC)
+        .addParameter(json)
+        .addParameter(position)
+        .addStatement("int i = whitespace($N, $N.getIndex())", json, position)
+        .beginControlFlow("if (i != $N.length())", json)
+        .addStatement("throw error($S, i)", "unexpected characters")
+        .endControlFlow()
+        .build();
+  }
+
+  private static MethodSpec whitespaceMethod() {
+    return methodBuilder("whitespace")
+        .addModifiers(PRIVATE, STATIC)
+        .addParameter(json)
+        .addParameter(index)
+        .returns(TypeName.INT)
+        .beginControlFlow("while ($N < $N.length())", index, json)
+        .addStatement("char c = $N.charAt($N)", json, index)
+        .beginControlFlow("if (c != ' ' && c != '\\t' && c != '\\n' && c != '\\r')")
+        .addStatement("break")
+        .endControlFlow()
+        .addStatement("$N++", index)
+        .endControlFlow()
+        .addStatement("return $N", index)
+        .build();
+  }
+
+  private static MethodSpec charAtMethod() {
+    return methodBuilder("charAt")
+        .addModifiers(PRIVATE, STATIC)
+        .addParameter(json)
+        .addParameter(index)
+        .returns(TypeName.CHAR)
+        .beginControlFlow("if ($N >= $N.length())", index, json)
+        .addStatement("throw error($S, $N)", "unexpected end of input", index)
+        .endControlFlow()
+        .addStatement("return $N.charAt($N)", json, index)
+        .build();
+  }
+
+  private static MethodSpec errorMethod() {
+    return methodBuilder("error")
+        .addModifiers(PRIVATE, STATIC)
+        .addParameter(String.class, "message")
+        .addParameter(index)
+        .returns(IllegalArgumentException.class)
+        .addStatement("return new $T(message + $S + $N)", IllegalArgumentException.class, " at index ", index)
+        .build();
+  }
+
+  private JsonSupport() {
+    throw new UnsupportedOperationException("no instances");
+  }
+}
@@ -0,0 +1,242 @@
+package net.zerobuilder.modules.json;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
+import net.zerobuilder.compiler.generate.DtoModule.ProjectedModule;
+import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.NestedCodec;
+import net.zerobuilder.compiler.generate.DtoRegularGoalDescription.ProjectedRegularGoalDescription;
+import net.zerobuilder.compiler.generate.DtoRegularParameter.ProjectedParameter;
+
+import java.text.ParsePosition;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.zerobuilder.compiler.generate.DtoProjectionInfo.readProjection;
+import static net.zerobuilder.compiler.generate.ZeroUtil.distinctFrom;
+import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
+import static net.zerobuilder.modules.json.JsonSupport.defineJsonSupport;
+import static net.zerobuilder.modules.json.JsonSupport.hash;
+import static net.zerobuilder.modules.json.JsonSupport.jsonSupportType;
+
+/**
+ * Generates {@code toJson} and {@code fromJson}.
+ * See {@code net.zerobuilder.Json} for the format.
+ * The reader dispatches on a hash of the member name, which is computed while the name is scanned.
+ * The hash multiplier is chosen so that the hashes of the parameter names are distinct.
+ * A matching hash is confirmed by comparing the name in place, so no strings are created for member names.
+ */
+public final class RegularJson implements ProjectedModule {
+
+  private static final TypeName STRING = ClassName.get(String.class);
+
+  private static ParameterSpec out(ProjectedRegularGoalDescription description) {
+    return parameterSpec(TypeName.get(StringBuilder.class), description.localName("_out"));
+  }
+
+  private static ParameterSpec json(ProjectedRegularGoalDescription description) {
+    return parameterSpec(TypeName.get(String.class), description.localName("_json"));
+  }
+
+  private static ParameterSpec position(ProjectedRegularGoalDescription description) {
+    return parameterSpec(TypeName.get(ParsePosition.class), description.localName("_position"));
+  }
+
+  private static MethodSpec writeMethod(ProjectedRegularGoalDescription description) {
+    ParameterSpec instance = description.instance();
+    ParameterSpec out = out(description);
+    ClassName support = jsonSupportType(description.context);
+    MethodSpec.Builder method = methodBuilder(description.methodName("ToJson"))
+        .addParameter(instance)
+        .addParameter(out)
+        .addExceptions(description.encoderThrownTypes())
+        .addModifiers(description.details.access(STATIC));
+    if (description.parameters.isEmpty()) {
+      return method.addStatement("$N.append($S)", out, "{}").build();
+    }
+    String separator = "{";
+    for (ProjectedParameter parameter : description.parameters) {
+      method.addStatement("$N.append($S)", out, separator + '"' + parameter.name + "\":");
+      separator = ",";
+      CodeBlock value = readProjection(parameter.projectionInfo, instance);
+      TypeName type = parameter.type;
+      if (type.equals(TypeName.FLOAT) || type.equals(TypeName.DOUBLE)) {
+        method.addStatement("$T.number($N, $L)", support, out, value);
+      } else if (type.equals(TypeName.CHAR)) {
+        method.addStatement("$T.character($N, $L)", support, out, value);
+      } else if (type.isPrimitive()) {
+        method.addStatement("$N.append($L)", out, value);
+      } else if (type.equals(STRING)) {
+        method.addStatement("$T.string($N, $L)", support, out, value);
+      } else {
+        NestedCodec nested = description.nestedCodecs.get(type);
+        ParameterSpec var = description.var(parameter);
+        method.addStatement("$T $N = $L", var.type, var, value)
+            .beginControlFlow("if ($N == null)", var)
+            .addStatement("$N.append($S)", out, "null")
+            .nextControlFlow("else")
+            .addStatement("$T.$N($N, $N)", nested.generatedType, nested.goalName + "ToJson", var, out)
+            .endControlFlow();
+      }
+    }
+    return method.addStatement("$N.append('}')", out).build();
+  }
+
+  private static MethodSpec toStringMethod(ProjectedRegularGoalDescription description) {
+    ParameterSpec instance = description.instance();
+    ParameterSpec out = out(description);
+    return methodBuilder(description.methodName("ToJson"))
+        .addParameter(instance)
+        .returns(String.class)
+        .addExceptions(description.encoderThrownTypes())
+        .addModifiers(description.details.access(STATIC))
+        .addStatement("$T $N = new $T()", out.type, out, out.type)
+        .addStatement("$N($N, $N)", description.methodName("ToJson"), instance, out)
+        .addStatement("return $N.toString()", out)
+        .build();
+  }
+
+  private static MethodSpec readMethod(ProjectedRegularGoalDescription description) {
+    ClassName support = jsonSupportType(description.context);
+    ParameterSpec json = json(description);
+    ParameterSpec position = position(description);
+    MethodSpec.Builder method = methodBuilder(description.methodName("FromJson"))
+        .addParameter(json)
+        .addParameter(position)
+        .returns(description.details.type())
+        .addExceptions(description.decoderThrownTypes())
+        .addModifiers(description.details.access(STATIC));
+    for (ProjectedParameter parameter : description.parameters) {
+      method.addStatement("$T $N = $L", parameter.type, parameter.name, defaultValue(parameter.type));
+    }
+    if (description.parameters.isEmpty()) {
+      method.beginControlFlow("if ($T.beginObject($N, $N))", support, json, position)
+          .beginControlFlow("do")
+          .addStatement("$T.name($N, $N, 31)", support, json, position)
+          .addStatement("$T.skipValue($N, $N)", support, json, position)
+          .endControlFlow("while ($T.nextField($N, $N))", support, json, position)
+          .endControlFlow();
+      return method.addStatement("return $L", description.invocation()).build();
+    }
+    int multiplier = multiplier(description.parameters);
+    ParameterSpec start = parameterSpec(TypeName.INT, description.localName("_start"));
+    method.beginControlFlow("if ($T.beginObject($N, $N))", support, json, position)
+        .beginControlFlow("do")
+        .addStatement("$T $N = $N.getIndex()", start.type, start, position)
+        .beginControlFlow("switch ($T.name($N, $N, $L))", support, json, position, multiplier);
+    for (ProjectedParameter parameter : description.parameters) {
+      method.addCode("case $L:\n", hash(parameter.name, multiplier)).addCode("$>")
+          .beginControlFlow("if ($N.startsWith($S, $N))", json, '"' + parameter.name + '"', start)
+          .addStatement("$N = $L", parameter.name, readValue(description, parameter))
+          .addStatement("continue")
+          .endControlFlow()
+          .addStatement("break")
+          .addCode("$<");
+    }
+    method.addCode("default:\n").addCode("$>")
+        .addStatement("break")
+        .addCode("$<")
+        .endControlFlow()
+        .addStatement("$T.skipValue($N, $N)", support, json, position)
+        .endControlFlow("while ($T.nextField($N, $N))", support, json, position)
+        .endControlFlow();
+    return method.addStatement("return $L", description.invocation()).build();
+  }
+
+  /**
+   * Reads the whole input.
+   */
+  private static MethodSpec fromStringMethod(ProjectedRegularGoalDescription description) {
+    TypeName type = description.details.type();
+    ParameterSpec json = json(description);
+    ParameterSpec position = position(description);
+    ParameterSpec result = parameterSpec(type, distinctFrom(
+        description.localName('_' + downcase(simpleName(type))), asList(json.name, position.name)));
+    return methodBuilder(description.methodName("FromJson"))
+        .addParameter(json)
+        .returns(type)
+        .addExceptions(description.decoderThrownTypes())
+        .addModifiers(description.details.access(STATIC))
+        .addStatement("$T $N = new $T(0)", position.type, position, position.type)
+        .addStatement("$T $N = $N($N, $N)", result.type, result,
+            description.methodName("FromJson"), json, position)
+        .addStatement("$T.end($N, $N)", jsonSupportType(description.context), json, position)
+        .addStatement("return $N", result)
+        .build();
+  }
+
+  private static CodeBlock readValue(ProjectedRegularGoalDescription description, ProjectedParameter parameter) {
+    ClassName support = jsonSupportType(description.context);
+    ParameterSpec json = json(description);
+    ParameterSpec position = position(description);
+    TypeName type = parameter.type;
+    if (type.equals(TypeName.BOOLEAN)) {
+      return CodeBlock.of("$T.readBoolean($N, $N)", support, json, position);
+    } else if (type.equals(TypeName.CHAR)) {
+      return CodeBlock.of("$T.readChar($N, $N)", support, json, position);
+    } else if (type.equals(TypeName.LONG)) {
+      return CodeBlock.of("$T.readLong($N, $N, $T.MIN_VALUE, $T.MAX_VALUE)",
+          support, json, position, Long.class, Long.class);
+    } else if (type.equals(TypeName.DOUBLE)) {
+      return CodeBlock.of("$T.readDouble($N, $N)", support, json, position);
+    } else if (type.equals(TypeName.FLOAT)) {
+      return CodeBlock.of("(float) $T.readDouble($N, $N)", support, json, position);
+    } else if (type.isPrimitive()) {
+      return CodeBlock.of("($T) $T.readLong($N, $N, $T.MIN_VALUE, $T.MAX_VALUE)",
+          type, support, json, position, type.box(), type.box());
+    } else if (type.equals(STRING)) {
+      return CodeBlock.of("$T.readString($N, $N)", support, json, position);
+    }
+    NestedCodec nested = description.nestedCodecs.get(type);
+    return CodeBlock.of("$T.readNull($N, $N) ? null : $T.$N($N, $N)", support, json, position,
+        nested.generatedType, nested.goalName + "FromJson", json, position);
+  }
+
+  private static CodeBlock defaultValue(TypeName type) {
+    if (type.equals(TypeName.BOOLEAN)) {
+      return CodeBlock.of("false");
+    }
+    return type.isPrimitive() ? CodeBlock.of("0") : CodeBlock.of("null");
+  }
+
+  /**
+   * Finds a multiplier that gives each parameter name a different hash.
+   */
+  private static int multiplier(List<ProjectedParameter> parameters) {
+    for (int multiplier = 31; ; multiplier += 2) {
+      Set<Integer> hashes = new HashSet<>();
+      boolean distinct = true;
+      for (ProjectedParameter parameter : parameters) {
+        distinct &= hashes.add(hash(parameter.name, multiplier));
+      }
+      if (distinct) {
+        return multiplier;
+      }
+    }
+  }
+
+  @Override
+  public ModuleOutput process(ProjectedRegularGoalDescription description) {
+    String name = description.details.name;
+    return new ModuleOutput(
+        new BuilderMethod(name, writeMethod(description)),
+        asList(
+            new BuilderMethod(name, toStringMethod(description)),
+            new BuilderMethod(name, readMethod(description)),
+            new BuilderMethod(name, fromStringMethod(description))),
+        singletonList(defineJsonSupport()),
+        emptyList());
+  }
+}
@@ -6,9 +6,12 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeSpec;
 import net.zerobuilder.compiler.generate.DtoBeanGoalDescription.BeanGoalDescription;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoModule.BeanModule;
 import net.zerobuilder.compiler.generate.DtoModuleOutput.ModuleOutput;
 
+import java.util.List;
 import java.util.function.Function;
 
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
@@ -25,6 +28,7 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.updater.bean.Updater.IN_USE;
 import static net.zerobuilder.modules.updater.bean.Updater.fields;
 import static net.zerobuilder.modules.updater.bean.Updater.stepMethods;
 
@@ -56,12 +60,27 @@ public final class BeanUpdater implements BeanModule {
   }
 
   private static final Function<BeanGoalDescription, MethodSpec> updaterConstructor =
-      description -> constructorBuilder()
-          .addModifiers(PRIVATE)
-          .addExceptions(description.thrownTypes)
-          .addCode(statement("this.$N = new $T()",
-              description.beanField, description.details.goalType))
-          .build();
+      description -> {
+        if (description.details.lifecycle.recycles()) {
+          return constructorBuilder()
+              .addModifiers(PRIVATE)
+              .build();
+        }
+        if (description.details.inPlace) {
+          ParameterSpec bean = parameterSpec(description.details.goalType, description.beanField.name);
+          return constructorBuilder()
+              .addModifiers(PRIVATE)
+              .addParameter(bean)
+              .addStatement("this.$N = $N", description.beanField, bean)
+              .build();
+        }
+        return constructorBuilder()
+            .addModifiers(PRIVATE)
+            .addExceptions(description.thrownTypes)
+            .addCode(statement("this.$N = new $T()",
+                description.beanField, description.details.goalType))
+            .build();
+      };
 
   private CodeBlock returnBean(BeanGoalDescription description) {
     ClassName type = description.details.goalType;
@@ -70,14 +89,40 @@ public final class BeanUpdater implements BeanModule {
     CodeBlock.Builder builder = CodeBlock.builder();
     builder.addStatement("$T $N = this.$N",
         varGoal.type, varGoal, description.beanField);
+    if (description.details.lifecycle.recycles()) {
+      if (description.details.prefetch && !description.details.inPlace) {
+        builder.addStatement("this.$N = new $T()", description.beanField, type);
+      } else {
+        builder.addStatement("this.$N = null", description.beanField);
+      }
+      builder.add(release(description));
+    }
     return builder.addStatement("return $N", varGoal).build();
   }
 
+  private static CodeBlock release(BeanGoalDescription description) {
+    ContextLifecycle lifecycle = description.details.lifecycle;
+    if (lifecycle.pools()) {
+      return description.details.context.offer(implType(description), lifecycle);
+    }
+    return statement("this.$L = $L", IN_USE, false);
+  }
+
+  private static List<BuilderMethod> extraMethods(BeanGoalDescription description) {
+    if (!description.details.lifecycle.counts()) {
+      return emptyList();
+    }
+    return singletonList(new BuilderMethod(description.details.name,
+        description.details.context.poolStats(downcase(description.details.name + "UpdaterPoolStats"),
+            implType(description), description.details.access(STATIC))));
+  }
+
   @Override
   public ModuleOutput process(BeanGoalDescription description) {
     return new ModuleOutput(
         Generator.updaterMethod(description),
+        extraMethods(description),
         singletonList(defineUpdater(description)),
-        emptyList());
+        description.cacheFields(implType(description)));
   }
 }
@@ -2,6 +2,7 @@ package net.zerobuilder.modules.updater.bean;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
@@ -9,6 +10,7 @@ import net.zerobuilder.compiler.generate.DtoBeanGoalDescription.BeanGoalDescript
 import net.zerobuilder.compiler.generate.DtoBeanParameter;
 import net.zerobuilder.compiler.generate.DtoBeanParameter.AbstractBeanParameter;
 import net.zerobuilder.compiler.generate.DtoBeanParameter.LoneGetter;
+import net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle;
 import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 
 import javax.lang.model.element.Modifier;
@@ -26,12 +28,17 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.emptyCodeBlock;
 import static net.zerobuilder.compiler.generate.ZeroUtil.flatList;
 import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.modules.updater.bean.BeanUpdater.implType;
+import static net.zerobuilder.modules.updater.bean.Updater.IN_USE;
 
 final class Generator {
 
   static BuilderMethod updaterMethod(BeanGoalDescription description) {
+    if (description.details.inPlace) {
+      return inPlaceUpdaterMethod(description);
+    }
     String name = description.details.name;
     ClassName type = description.details.goalType;
     ParameterSpec varUpdater = updaterInstance(description);
@@ -43,7 +50,7 @@ final class Generator {
             asList(
                 AbstractBeanParameter::getterThrownTypes,
                 AbstractBeanParameter::setterThrownTypes)))
-        .addCode(initVarUpdater(varUpdater))
+        .addCode(initVarUpdater(description, varUpdater))
         .addCode(description.parameters.stream().map(copy(description)).collect(joinCodeBlocks))
         .addStatement("return $N", varUpdater)
         .addModifiers(modifiers)
@@ -51,6 +58,33 @@ final class Generator {
     return new BuilderMethod(name, method);
   }
 
+  /**
+   * The updater takes the bean as it is.
+   * No getters are invoked, and no bean is created.
+   */
+  private static BuilderMethod inPlaceUpdaterMethod(BeanGoalDescription description) {
+    String name = description.details.name;
+    ClassName type = description.details.goalType;
+    ParameterSpec varUpdater = updaterInstance(description);
+    ParameterSpec bean = parameterSpec(type, downcase(type.simpleName()));
+    CodeBlock.Builder code = CodeBlock.builder()
+        .add(nullCheck(bean));
+    if (description.details.lifecycle.recycles()) {
+      code.add(acquireUpdater(description, varUpdater))
+          .addStatement("$N.$N = $N", varUpdater, description.beanField, bean)
+          .addStatement("return $N", varUpdater);
+    } else {
+      code.addStatement("return new $T($N)", varUpdater.type, bean);
+    }
+    MethodSpec method = methodBuilder(downcase(name + "Updater"))
+        .addParameter(bean)
+        .returns(implType(description))
+        .addCode(code.build())
+        .addModifiers(description.details.access(STATIC))
+        .build();
+    return new BuilderMethod(name, method);
+  }
+
   private static Set<TypeName> thrownTypes(BeanGoalDescription description,
                                            List<Function<AbstractBeanParameter, List<TypeName>>> functions) {
     Set<TypeName> thrownTypes = new HashSet<>();
@@ -72,17 +106,11 @@ final class Generator {
   private static CodeBlock copyCollection(BeanGoalDescription description, LoneGetter step) {
     ClassName type = description.details.goalType;
     ParameterSpec parameter = parameterSpec(type, downcase(type.simpleName()));
-    ParameterSpec iterationVar = step.iterationVar(parameter);
-    return CodeBlock.builder()
-        .beginControlFlow("for ($T $N : $N.$N())",
-            iterationVar.type, iterationVar, parameter,
-            step.getter)
-        .addStatement("$N.$N.$N().add($N)", updaterInstance(description),
-            downcase(type.simpleName()),
-            step.getter,
-            iterationVar)
-        .endControlFlow()
-        .build();
+    return statement("$N.$N.$N().addAll($N.$N())", updaterInstance(description),
+        description.beanField,
+        step.getter,
+        parameter,
+        step.getter);
   }
 
   private static CodeBlock copyRegular(BeanGoalDescription description, DtoBeanParameter.AccessorPair step) {
@@ -109,8 +137,40 @@ final class Generator {
         .endControlFlow().build();
   }
 
-  private static CodeBlock initVarUpdater(ParameterSpec varUpdater) {
-    return statement("$T $N = new $T()", varUpdater.type, varUpdater, varUpdater.type);
+  private static CodeBlock nullCheck(ParameterSpec bean) {
+    return CodeBlock.builder()
+        .beginControlFlow("if ($N == null)", bean)
+        .addStatement("throw new $T($S)", NullPointerException.class, bean.name)
+        .endControlFlow()
+        .build();
+  }
+
+  private static CodeBlock acquireUpdater(BeanGoalDescription description, ParameterSpec varUpdater) {
+    ContextLifecycle lifecycle = description.details.lifecycle;
+    if (lifecycle.pools()) {
+      return description.details.context.poll(varUpdater, lifecycle);
+    }
+    FieldSpec cache = description.details.context.cache(rawClassName(varUpdater.type));
+    return CodeBlock.builder()
+        .addStatement("$T $N = $N.get()", varUpdater.type, varUpdater, cache)
+        .beginControlFlow("if ($N.$L)", varUpdater, IN_USE)
+        .addStatement("$N.remove()", cache)
+        .addStatement("$N = $N.get()", varUpdater, cache)
+        .endControlFlow()
+        .addStatement("$N.$L = $L", varUpdater, IN_USE, true)
+        .build();
+  }
+
+  private static CodeBlock initVarUpdater(BeanGoalDescription description, ParameterSpec varUpdater) {
+    if (!description.details.lifecycle.recycles()) {
+      return statement("$T $N = new $T()", varUpdater.type, varUpdater, varUpdater.type);
+    }
+    return CodeBlock.builder()
+        .add(acquireUpdater(description, varUpdater))
+        .beginControlFlow("if ($N.$N == null)", varUpdater, description.beanField)
+        .addStatement("$N.$N = new $T()", varUpdater, description.beanField, description.details.goalType)
+        .endControlFlow()
+        .build();
   }
 
   private static ParameterSpec updaterInstance(BeanGoalDescription description) {
@@ -16,10 +16,15 @@ import java.util.function.Function;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.WildcardTypeName.subtypeOf;
+import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static net.zerobuilder.compiler.generate.DtoBeanParameter.beanParameterCases;
+import static net.zerobuilder.compiler.generate.DtoContext.ContextLifecycle.REUSE_INSTANCES;
+import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.modules.updater.bean.BeanUpdater.implType;
 
@@ -27,8 +32,12 @@ final class Updater {
 
   private static final ClassName ITERABLE = ClassName.get(Iterable.class);
 
+  static final String IN_USE = "_currently_in_use";
+
   final static Function<BeanGoalDescription, List<FieldSpec>> fields =
-      description -> singletonList(description.beanField);
+      description -> description.details.lifecycle == REUSE_INSTANCES ?
+          asList(description.beanField, fieldSpec(BOOLEAN, IN_USE, PRIVATE)) :
+          singletonList(description.beanField);
 
   final static Function<BeanGoalDescription, List<MethodSpec>> stepMethods =
       description -> description.parameters.stream()
@@ -60,24 +69,37 @@ final class Updater {
         subtypeOf(step.iterationType()));
     String name = step.name();
     ParameterSpec parameter = parameterSpec(iterable, name);
-    ParameterSpec iterationVar = step.iterationVar(parameter);
+    ParameterSpec varCollection = parameterSpec(step.type, '_' + name);
     return methodBuilder(name)
         .returns(implType(description))
         .addParameter(parameter)
         .addExceptions(step.getterThrownTypes)
-        .addCode(clearCollection(description, step))
-        .beginControlFlow("for ($T $N : $N)", iterationVar.type, iterationVar, name)
-        .addStatement("this.$N.$N().add($N)",
-            description.beanField, step.getter, iterationVar)
-        .endControlFlow()
+        .addStatement("$T $N = this.$N.$N()",
+            varCollection.type, varCollection, description.beanField, step.getter)
+        .addCode(description.details.inPlace ?
+            replaceUnlessSame(step, varCollection, parameter) :
+            replace(step, varCollection, parameter))
         .addStatement("return this")
         .addModifiers(PUBLIC)
         .build();
   }
 
-  private static CodeBlock clearCollection(BeanGoalDescription description, LoneGetter step) {
-    return CodeBlock.builder().addStatement("this.$N.$N().clear()",
-        description.beanField, step.getter).build();
+  private static CodeBlock replace(LoneGetter step, ParameterSpec varCollection, ParameterSpec parameter) {
+    return CodeBlock.builder()
+        .addStatement("$N.clear()", varCollection)
+        .add(step.addAll(varCollection, parameter))
+        .build();
+  }
+
+  /**
+   * The bean is updated in place, so the argument may be the collection of the bean itself.
+   */
+  private static CodeBlock replaceUnlessSame(LoneGetter step, ParameterSpec varCollection, ParameterSpec parameter) {
+    return CodeBlock.builder()
+        .beginControlFlow("if ($N != $N)", parameter, varCollection)
+        .add(replace(step, varCollection, parameter))
+        .endControlFlow()
+        .build();
   }
 
   private Updater() {
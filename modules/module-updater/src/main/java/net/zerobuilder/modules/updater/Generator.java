@@ -1,9 +1,11 @@
 package net.zerobuilder.modules.updater;
 
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
 import net.zerobuilder.compiler.generate.DtoContext.GoalContext;
@@ -23,36 +25,47 @@ import java.util.function.Function;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toSet;
 import static javax.lang.model.element.Modifier.STATIC;
 import static net.zerobuilder.compiler.generate.DtoGoalDetails.regularDetailsCases;
 import static net.zerobuilder.compiler.generate.DtoProjectionInfo.thrownTypes;
 import static net.zerobuilder.compiler.generate.ZeroUtil.downcase;
+import static net.zerobuilder.compiler.generate.ZeroUtil.emptyCodeBlock;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.modules.updater.RegularUpdater.implType;
 import static net.zerobuilder.modules.updater.RegularUpdater.isReusable;
+import static net.zerobuilder.modules.updater.Updater.CHANGED;
 import static net.zerobuilder.modules.updater.Updater.IN_USE;
+import static net.zerobuilder.modules.updater.Updater.MODIFIED;
+import static net.zerobuilder.modules.updater.Updater.SOURCE;
+import static net.zerobuilder.modules.updater.Updater.bit;
+import static net.zerobuilder.modules.updater.Updater.differs;
+import static net.zerobuilder.modules.updater.Updater.hasSource;
 
 final class Generator {
 
-  private static final Function<AbstractRegularDetails, List<TypeVariableName>> instanceTypeParameters =
+  private static final Function<AbstractRegularDetails, List<TypeVariableName>> goalTypeParameters =
       regularDetailsCases(
           constructor -> constructor.instanceTypeParameters,
-          staticMethod -> emptyList(),
+          staticMethod -> staticMethod.typeParameters,
           instanceMethod -> instanceMethod.instanceTypeParameters);
 
   private static final BiFunction<AbstractRegularDetails, ProjectedRegularGoalDescription, BuilderMethod> normalGoalMethod =
       (details, description) -> {
         ParameterSpec updater = varUpdater(description);
         MethodSpec method = methodBuilder(RegularUpdater.methodName(description))
-            .addExceptions(thrownByProjections(description))
+            .addExceptions(thrownByCopyBlock(description))
             .addParameter(toBuilderParameter(description))
-            .addTypeVariables(instanceTypeParameters.apply(description.details))
+            .addTypeVariables(goalTypeParameters.apply(description.details))
+            .addAnnotations(suppressUnchecked(description))
             .returns(updater.type)
+            .addCode(sourceCheck(description))
             .addCode(initVarUpdater(description, updater))
             .addCode(copyBlock(description))
             .addStatement("return $N", updater)
@@ -68,9 +81,97 @@ final class Generator {
           InstanceWorld::instanceGoalMethod);
 
   static CodeBlock copyBlock(ProjectedRegularGoalDescription description) {
-    return description.parameters.stream()
+    CodeBlock source = statement("$N.$L = $N", varUpdater(description), SOURCE, toBuilderParameter(description));
+    if (description.lazy) {
+      return source;
+    }
+    CodeBlock copy = description.parameters.stream()
         .map(parameter -> parameter.projectionInfo.accept(copyFromProjection, description, parameter))
         .collect(ZeroUtil.joinCodeBlocks);
+    return hasSource(description) ?
+        copy.toBuilder().add(source).build() :
+        copy;
+  }
+
+  /**
+   * The lazy updater would otherwise fail late, in {@code done()}.
+   */
+  static CodeBlock sourceCheck(ProjectedRegularGoalDescription description) {
+    if (!description.lazy) {
+      return emptyCodeBlock;
+    }
+    ParameterSpec parameter = toBuilderParameter(description);
+    return CodeBlock.builder()
+        .beginControlFlow("if ($N == null)", parameter)
+        .addStatement("throw new $T($S)", NullPointerException.class, parameter.name)
+        .endControlFlow().build();
+  }
+
+  /**
+   * Reads the parameters that were not updated from the source.
+   * Only used by the lazy updater, at the beginning of {@code done()}.
+   */
+  static CodeBlock resolveBlock(ProjectedRegularGoalDescription description) {
+    if (!description.lazy) {
+      return emptyCodeBlock;
+    }
+    CodeBlock.Builder builder = CodeBlock.builder();
+    for (int i = 0; i < description.parameters.size(); i++) {
+      ProjectedParameter parameter = description.parameters.get(i);
+      builder.beginControlFlow("if ((this.$L & ($L)) == 0)", CHANGED, bit(description, i))
+          .addStatement("this.$N = $L", parameter.name,
+              parameter.projectionInfo.accept(readFromSource, description, parameter))
+          .endControlFlow();
+    }
+    return builder.build();
+  }
+
+  /**
+   * Compares the parameters to the source, until one of them differs.
+   * Only used with identity, at the beginning of {@code done()}.
+   * The lazy updater compares only the updated parameters.
+   */
+  static CodeBlock compareBlock(ProjectedRegularGoalDescription description) {
+    if (!description.identity) {
+      return emptyCodeBlock;
+    }
+    CodeBlock.Builder builder = CodeBlock.builder()
+        .addStatement("boolean $L = false", MODIFIED);
+    for (int i = 0; i < description.parameters.size(); i++) {
+      ProjectedParameter parameter = description.parameters.get(i);
+      if (description.lazy) {
+        builder.beginControlFlow("if (!$L && (this.$L & ($L)) != 0)", MODIFIED, CHANGED, bit(description, i));
+      } else {
+        builder.beginControlFlow("if (!$L)", MODIFIED);
+      }
+      builder.addStatement("$L = $L", MODIFIED, differs(parameter.type,
+          CodeBlock.of("this.$N", parameter.name),
+          parameter.projectionInfo.accept(readFromSource, description, parameter)))
+          .endControlFlow();
+    }
+    return builder.build();
+  }
+
+  private static final ProjectionInfoCases<CodeBlock, ProjectedRegularGoalDescription, ProjectedParameter> readFromSource =
+      new ProjectionInfoCases<CodeBlock, ProjectedRegularGoalDescription, ProjectedParameter>() {
+        @Override
+        public CodeBlock projectionMethod(ProjectionMethod projection, ProjectedRegularGoalDescription description, ProjectedParameter step) {
+          return CodeBlock.of("this.$L.$N()", SOURCE, projection.methodName);
+        }
+
+        @Override
+        public CodeBlock fieldAccess(FieldAccess projection, ProjectedRegularGoalDescription description, ProjectedParameter step) {
+          return CodeBlock.of("this.$L.$N", SOURCE, projection.fieldName);
+        }
+      };
+
+  /**
+   * The lazy updater invokes the projections in {@code done()}.
+   */
+  static Set<TypeName> thrownByCopyBlock(ProjectedRegularGoalDescription description) {
+    return description.lazy ?
+        emptySet() :
+        thrownByProjections(description);
   }
 
   private static final ProjectionInfoCases<CodeBlock, ProjectedRegularGoalDescription, ProjectedParameter> copyFromProjection =
@@ -113,7 +214,11 @@ final class Generator {
   }
 
   static CodeBlock initVarUpdater(ProjectedRegularGoalDescription description, ParameterSpec varUpdater) {
-    if (isReusable.apply(description.details)) {
+    if (!isReusable.apply(description.details)) {
+      return statement("$T $N = new $T()", varUpdater.type, varUpdater, varUpdater.type);
+    } else if (description.details.lifecycle.pools()) {
+      return description.context.poll(varUpdater, description.details.lifecycle);
+    } else {
       GoalContext context = description.context;
       FieldSpec cache = context.cache(rawClassName(varUpdater.type));
       return CodeBlock.builder()
@@ -124,11 +229,22 @@ final class Generator {
           .endControlFlow()
           .addStatement("$N.$L = $L", varUpdater, IN_USE, true)
           .build();
-    } else {
-      return statement("$T $N = new $T()", varUpdater.type, varUpdater, varUpdater.type);
     }
   }
 
+  /**
+   * A recycled instance of a generic updater is taken from the cache as a raw type.
+   */
+  static List<AnnotationSpec> suppressUnchecked(ProjectedRegularGoalDescription description) {
+    if (!isReusable.apply(description.details)
+        || !(implType(description) instanceof ParameterizedTypeName)) {
+      return emptyList();
+    }
+    return singletonList(AnnotationSpec.builder(SuppressWarnings.class)
+        .addMember("value", "$S", "unchecked")
+        .build());
+  }
+
   static ParameterSpec varUpdater(ProjectedRegularGoalDescription description) {
     TypeName updaterType = implType(description);
     return parameterSpec(updaterType, "_updater");
@@ -26,7 +26,9 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
 import static net.zerobuilder.modules.updater.Generator.copyBlock;
 import static net.zerobuilder.modules.updater.Generator.initVarUpdater;
-import static net.zerobuilder.modules.updater.Generator.thrownByProjections;
+import static net.zerobuilder.modules.updater.Generator.sourceCheck;
+import static net.zerobuilder.modules.updater.Generator.suppressUnchecked;
+import static net.zerobuilder.modules.updater.Generator.thrownByCopyBlock;
 import static net.zerobuilder.modules.updater.Generator.toBuilderParameter;
 import static net.zerobuilder.modules.updater.Generator.varUpdater;
 import static net.zerobuilder.modules.updater.RegularUpdater.moduleName;
@@ -75,10 +77,12 @@ final class InstanceWorld {
             .addStatement("this.$L = $N", FACTORY, factory)
             .build())
         .addMethod(methodBuilder("updater")
-            .addExceptions(thrownByProjections(description))
+            .addExceptions(thrownByCopyBlock(description))
             .addParameter(toBuilderParameter(description))
             .addTypeVariables(details.typeParameters)
+            .addAnnotations(suppressUnchecked(description))
             .returns(updater.type)
+            .addCode(sourceCheck(description))
             .addCode(initVarUpdater(description, updater))
             .addStatement("$N.$L = this.$L", updater, FACTORY, FACTORY)
             .addCode(copyBlock(description))
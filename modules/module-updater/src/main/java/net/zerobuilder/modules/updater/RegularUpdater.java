@@ -1,11 +1,13 @@
 package net.zerobuilder.modules.updater;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import net.zerobuilder.compiler.generate.DtoGeneratorOutput.BuilderMethod;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.AbstractRegularDetails;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.ConstructorGoalDetails;
 import net.zerobuilder.compiler.generate.DtoGoalDetails.InstanceMethodGoalDetails;
@@ -24,6 +26,7 @@ import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
@@ -38,13 +41,21 @@ import static net.zerobuilder.compiler.generate.ZeroUtil.emptyCodeBlock;
 import static net.zerobuilder.compiler.generate.ZeroUtil.joinCodeBlocks;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterizedTypeName;
+import static net.zerobuilder.compiler.generate.ZeroUtil.rawClassName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.simpleName;
 import static net.zerobuilder.compiler.generate.ZeroUtil.statement;
 import static net.zerobuilder.compiler.generate.ZeroUtil.upcase;
+import static net.zerobuilder.modules.updater.Generator.compareBlock;
 import static net.zerobuilder.modules.updater.Generator.goalMethod;
+import static net.zerobuilder.modules.updater.Generator.resolveBlock;
+import static net.zerobuilder.modules.updater.Generator.thrownByProjections;
 import static net.zerobuilder.modules.updater.InstanceWorld.factorySpec;
 import static net.zerobuilder.modules.updater.Updater.FACTORY;
+import static net.zerobuilder.modules.updater.Updater.CHANGED;
 import static net.zerobuilder.modules.updater.Updater.IN_USE;
+import static net.zerobuilder.modules.updater.Updater.MODIFIED;
+import static net.zerobuilder.modules.updater.Updater.SOURCE;
+import static net.zerobuilder.modules.updater.Updater.hasSource;
 
 public final class RegularUpdater implements ProjectedModule {
 
@@ -60,7 +71,13 @@ public final class RegularUpdater implements ProjectedModule {
       description -> methodBuilder("done")
           .addModifiers(PUBLIC)
           .addExceptions(description.thrownTypes)
+          .addExceptions(hasSource(description) ?
+              thrownByProjections(description) :
+              emptySet())
           .returns(description.details.type())
+          .addCode(compareBlock(description))
+          .addCode(identityBlock(description))
+          .addCode(resolveBlock(description))
           .addCode(regularInvoke.apply(description.details, description))
           .build();
 
@@ -88,7 +105,7 @@ public final class RegularUpdater implements ProjectedModule {
   private static final Function<AbstractRegularDetails, List<TypeVariableName>> implTypeParameters =
       regularDetailsCases(
           constructor -> constructor.instanceTypeParameters,
-          staticMethod -> emptyList(),
+          staticMethod -> staticMethod.typeParameters,
           instanceMethod -> new ArrayList<>(new HashSet<>(concat(
               instanceMethod.instanceTypeParameters,
               instanceMethod.typeParameters))));
@@ -99,11 +116,11 @@ public final class RegularUpdater implements ProjectedModule {
     TypeName type = details.goalType;
     ParameterSpec varGoal = parameterSpec(type, '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (isReusable.apply(details)) {
+    if (hasInUseFlag(details)) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
-    return builder.addStatement("$T $N = $T.$N($L)", varGoal.type, varGoal, description.context.type,
-        method, details.invocationParameters())
+    return builder.addStatement("$T $N = $T.$N($L)", varGoal.type, varGoal,
+        rawClassName(description.context.type), method, details.invocationParameters())
         .add(free(description))
         .addStatement("return $N", varGoal)
         .build();
@@ -115,7 +132,7 @@ public final class RegularUpdater implements ProjectedModule {
     TypeName type = details.goalType;
     ParameterSpec varGoal = parameterSpec(type, '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (isReusable.apply(details)) {
+    if (hasInUseFlag(details)) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
     return builder
@@ -132,7 +149,7 @@ public final class RegularUpdater implements ProjectedModule {
     ParameterSpec varGoal = parameterSpec(type,
         '_' + downcase(simpleName(type)));
     CodeBlock.Builder builder = CodeBlock.builder();
-    if (isReusable.apply(details)) {
+    if (hasInUseFlag(details)) {
       builder.addStatement("this.$L = $L", IN_USE, false);
     }
     return builder.addStatement("$T $N = new $T($L)", varGoal.type, varGoal, type,
@@ -142,41 +159,71 @@ public final class RegularUpdater implements ProjectedModule {
         .build();
   }
 
+  /**
+   * Returns the source if no parameter differs from it.
+   */
+  private CodeBlock identityBlock(ProjectedRegularGoalDescription description) {
+    if (!description.identity) {
+      return emptyCodeBlock;
+    }
+    CodeBlock.Builder builder = CodeBlock.builder()
+        .beginControlFlow("if (!$L)", MODIFIED);
+    if (!isReusable.apply(description.details)) {
+      return builder.addStatement("return this.$L", SOURCE)
+          .endControlFlow().build();
+    }
+    TypeName type = description.details.type();
+    ParameterSpec varSource = parameterSpec(type, '_' + downcase(simpleName(type)));
+    builder.addStatement("$T $N = this.$L", varSource.type, varSource, SOURCE);
+    if (hasInUseFlag(description.details)) {
+      builder.addStatement("this.$L = $L", IN_USE, false);
+    }
+    return builder.add(free(description))
+        .addStatement("return $N", varSource)
+        .endControlFlow().build();
+  }
+
   private CodeBlock free(ProjectedRegularGoalDescription description) {
     if (!isReusable.apply(description.details)) {
       return emptyCodeBlock;
     }
-    return description.parameters.stream()
+    CodeBlock free = description.parameters.stream()
         .filter(parameter -> !parameter.type.isPrimitive())
         .map(parameter -> statement("this.$N = null", parameter.name))
         .collect(joinCodeBlocks);
+    if (hasSource(description)) {
+      free = free.toBuilder().addStatement("this.$L = null", SOURCE).build();
+    }
+    if (description.lazy) {
+      free = free.toBuilder().addStatement("this.$L = 0", CHANGED).build();
+    }
+    if (description.details.lifecycle.pools()) {
+      return free.toBuilder()
+          .add(description.context.offer(rawClassName(implType(description)),
+              description.details.lifecycle))
+          .build();
+    }
+    return free;
   }
 
   static String methodName(ProjectedRegularGoalDescription description) {
     return description.details.name() + upcase(moduleName);
   }
 
+  /**
+   * The updater class is generic, but the cache holds it as a raw type,
+   * so the goal may have type parameters.
+   */
   static final Function<AbstractRegularDetails, Boolean> isReusable =
-      regularDetailsCases(
-          RegularUpdater::isConstructorReusable,
-          RegularUpdater::isStaticMethodReusable,
-          RegularUpdater::isInstanceMethodReusable);
-
-  private static boolean isInstanceMethodReusable(InstanceMethodGoalDetails details) {
-    return details.lifecycle == REUSE_INSTANCES &&
-        details.typeParameters.isEmpty() &&
-        details.instanceTypeParameters.isEmpty() &&
-        details.returnTypeParameters.isEmpty();
-  }
-
-  private static boolean isStaticMethodReusable(StaticMethodGoalDetails details) {
-    return details.lifecycle == REUSE_INSTANCES &&
-        details.typeParameters.isEmpty();
-  }
-
-  private static boolean isConstructorReusable(ConstructorGoalDetails details) {
-    return details.lifecycle == REUSE_INSTANCES &&
-        details.instanceTypeParameters.isEmpty();
+      details -> details.lifecycle.recycles();
+
+  /**
+   * Only the {@link ThreadLocal} cache needs a flag to detect reentrant use.
+   * A pooled instance is removed from the pool while it is in use.
+   */
+  static boolean hasInUseFlag(AbstractRegularDetails details) {
+    return isReusable.apply(details) &&
+        details.lifecycle == REUSE_INSTANCES;
   }
 
   private final BiFunction<AbstractRegularDetails, ProjectedRegularGoalDescription, List<TypeSpec>> types =
@@ -189,11 +236,19 @@ public final class RegularUpdater implements ProjectedModule {
 
   @Override
   public ModuleOutput process(ProjectedRegularGoalDescription description) {
+    ClassName implName = description.context.generatedType.nestedClass(implTypeName(description));
     return new ModuleOutput(
         goalMethod.apply(description.details, description),
+        description.details.lifecycle.counts() ?
+            singletonList(new BuilderMethod(description.details.name,
+                description.context.poolStats(methodName(description) + "PoolStats",
+                    implName, description.details.access(STATIC)))) :
+            emptyList(),
         types.apply(description.details, description),
         isReusable.apply(description.details) ?
-            singletonList(description.context.cache(implTypeName(description))) :
+            concat(singletonList(description.context.cache(implTypeName(description),
+                description.details.lifecycle)),
+                description.context.counters(implName, description.details.lifecycle)) :
             emptyList());
   }
 }
@@ -1,5 +1,6 @@
 package net.zerobuilder.modules.updater;
 
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -9,10 +10,14 @@ import net.zerobuilder.compiler.generate.DtoRegularParameter.ProjectedParameter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static com.squareup.javapoet.TypeName.DOUBLE;
+import static com.squareup.javapoet.TypeName.FLOAT;
+import static com.squareup.javapoet.TypeName.INT;
+import static com.squareup.javapoet.TypeName.LONG;
 import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
@@ -20,21 +25,30 @@ import static net.zerobuilder.compiler.generate.DtoGoalDetails.isInstance;
 import static net.zerobuilder.compiler.generate.ZeroUtil.fieldSpec;
 import static net.zerobuilder.compiler.generate.ZeroUtil.parameterSpec;
 import static net.zerobuilder.modules.updater.RegularUpdater.implType;
-import static net.zerobuilder.modules.updater.RegularUpdater.isReusable;
+import static net.zerobuilder.modules.updater.RegularUpdater.hasInUseFlag;
 
 final class Updater {
 
   static final String IN_USE = "_currently_in_use";
   static final String FACTORY = "_factory";
+  static final String SOURCE = "_source";
+  static final String CHANGED = "_changed";
+  static final String MODIFIED = "_differs_from_source";
 
   static List<FieldSpec> fields(ProjectedRegularGoalDescription description) {
     List<FieldSpec> builder = new ArrayList<>();
-    if (isReusable.apply(description.details)) {
+    if (hasInUseFlag(description.details)) {
       builder.add(fieldSpec(BOOLEAN, IN_USE, PRIVATE));
     }
     if (isInstance.apply(description.details)) {
       builder.add(fieldSpec(description.context.type, FACTORY, PRIVATE));
     }
+    if (hasSource(description)) {
+      builder.add(fieldSpec(description.details.type(), SOURCE, PRIVATE));
+    }
+    if (description.lazy) {
+      builder.add(fieldSpec(maskType(description), CHANGED, PRIVATE));
+    }
     for (ProjectedParameter step : description.parameters) {
       String name = step.name;
       TypeName type = step.type;
@@ -44,28 +58,62 @@ final class Updater {
   }
 
   static List<MethodSpec> stepMethods(ProjectedRegularGoalDescription description) {
-    return description.parameters.stream()
-        .map(updateMethods(description))
+    List<ProjectedParameter> steps = description.parameters;
+    return IntStream.range(0, steps.size())
+        .mapToObj(i -> normalUpdate(description, steps.get(i), i))
         .collect(toList());
   }
 
-  private static Function<ProjectedParameter, MethodSpec> updateMethods(ProjectedRegularGoalDescription description) {
-    return step -> normalUpdate(description, step);
-  }
-
-  private static MethodSpec normalUpdate(ProjectedRegularGoalDescription description, ProjectedParameter step) {
+  private static MethodSpec normalUpdate(ProjectedRegularGoalDescription description,
+                                         ProjectedParameter step, int i) {
     String name = step.name;
     TypeName type = step.type;
     ParameterSpec parameter = parameterSpec(type, name);
-    return methodBuilder(name)
+    MethodSpec.Builder builder = methodBuilder(name)
         .returns(implType(description))
-        .addParameter(parameter)
-        .addStatement("this.$N = $N", fieldSpec(step.type, step.name), parameter)
-        .addStatement("return this")
+        .addParameter(parameter);
+    builder.addStatement("this.$N = $N", fieldSpec(step.type, step.name), parameter);
+    if (description.lazy) {
+      builder.addStatement("this.$L |= $L", CHANGED, bit(description, i));
+    }
+    return builder.addStatement("return this")
         .addModifiers(PUBLIC)
         .build();
   }
 
+  /**
+   * The lazy updater records the updated parameters in a bit mask.
+   */
+  static TypeName maskType(ProjectedRegularGoalDescription description) {
+    return description.parameters.size() <= 32 ? INT : LONG;
+  }
+
+  static CodeBlock bit(ProjectedRegularGoalDescription description, int i) {
+    return description.parameters.size() <= 32 ?
+        CodeBlock.of("1 << $L", i) :
+        CodeBlock.of("1L << $L", i);
+  }
+
+  static boolean hasSource(ProjectedRegularGoalDescription description) {
+    return description.lazy || description.identity;
+  }
+
+  /**
+   * Reference types are compared by identity.
+   * Floating point values are compared by their bits, so that {@code -0.0} differs from {@code 0.0}.
+   */
+  static CodeBlock differs(TypeName type, CodeBlock left, CodeBlock right) {
+    if (type.equals(DOUBLE)) {
+      return CodeBlock.of("$T.doubleToLongBits($L) != $T.doubleToLongBits($L)",
+          Double.class, left, Double.class, right);
+    }
+    if (type.equals(FLOAT)) {
+      return CodeBlock.of("$T.floatToIntBits($L) != $T.floatToIntBits($L)",
+          Float.class, left, Float.class, right);
+    }
+    return CodeBlock.of("$L != $L", left, right);
+  }
+
   private Updater() {
     throw new UnsupportedOperationException("no instances");
   }
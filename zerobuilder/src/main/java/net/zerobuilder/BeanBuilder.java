@@ -13,4 +13,12 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
 @Retention(SOURCE)
 @Target(TYPE)
 public @interface BeanBuilder {
+
+  /**
+   * If {@code true}, the updater applies its steps to the bean that is passed to it,
+   * rather than to a copy.
+   * The updater method doesn't invoke any getters, and it doesn't create a bean.
+   * The bean is changed even if {@code done()} is never invoked.
+   */
+  boolean inPlace() default false;
 }
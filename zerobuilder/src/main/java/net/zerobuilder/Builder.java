@@ -15,4 +15,20 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
 public @interface Builder {
 
   Style style() default Style.AUTO;
+
+  /**
+   * If {@code true}, also generate a method {@code fooFromArrays},
+   * which takes one array per parameter, and returns a list of goals,
+   * one for each array index.
+   * Not available for goals that have type parameters, or a style other than {@link Style#AUTO}.
+   */
+  boolean batch() default false;
+
+  /**
+   * If {@code true}, also generate a method {@code fooFunction},
+   * which takes one extractor per parameter, and returns a stateless function
+   * that invokes the goal directly.
+   * Same restrictions as {@link #batch()}; additionally, the goal must not declare any exceptions.
+   */
+  boolean function() default false;
 }
@@ -0,0 +1,27 @@
+package net.zerobuilder;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Request a binary codec.
+ * Three static methods are generated: {@code fooEncode(foo, buffer)}, {@code fooDecode(buffer)},
+ * and {@code fooEncodedSize(foo)}, where {@code buffer} is a {@link java.nio.ByteBuffer}.
+ * Like the {@link Updater}, the encoder reads each parameter from a field or getter.
+ * Parameters are written in step order:
+ * primitives with the byte order of the buffer,
+ * a {@link String} as its UTF-8 length, followed by the UTF-8 bytes,
+ * and any other type with the codec of that type,
+ * which must have a {@code @Codec} goal that returns it, declared in the same class.
+ * A {@code null} string has length {@code -1}, other values are preceded by a byte that is {@code 0} if they are
+ * {@code null}.
+ * Only available for constructors and static methods without type parameters.
+ */
+@Retention(SOURCE)
+@Target({METHOD, CONSTRUCTOR})
+public @interface Codec {
+}
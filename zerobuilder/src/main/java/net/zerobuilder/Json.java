@@ -0,0 +1,28 @@
+package net.zerobuilder;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Request a streaming JSON writer and reader.
+ * Four static methods are generated: {@code fooToJson(foo)}, {@code fooToJson(foo, out)},
+ * {@code fooFromJson(json)} and {@code fooFromJson(json, position)},
+ * where {@code out} is a {@link StringBuilder}, {@code json} is a {@link String},
+ * and {@code position} is a {@link java.text.ParsePosition}.
+ * Like the {@link Updater}, the writer reads each parameter from a field or getter.
+ * The goal is written as an object, with one member per parameter, in step order.
+ * The reader accepts the members in any order, and ignores unknown members.
+ * A missing member is {@code 0}, {@code false} or {@code null}.
+ * Member names that contain an escape sequence are not recognized.
+ * Parameters must be primitives, strings, or types with their own {@code @Json} goal,
+ * declared in the same class.
+ * Only available for constructors and static methods without type parameters.
+ */
+@Retention(SOURCE)
+@Target({METHOD, CONSTRUCTOR})
+public @interface Json {
+}
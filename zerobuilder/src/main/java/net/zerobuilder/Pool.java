@@ -0,0 +1,32 @@
+package net.zerobuilder;
+
+/**
+ * Where recycled instances are kept.
+ *
+ * @see Recycle
+ */
+public enum Pool {
+
+  /**
+   * One instance per thread, in a {@link ThreadLocal}.
+   */
+  THREAD_LOCAL,
+
+  /**
+   * A small array of instances shared by all threads,
+   * indexed by thread id.
+   * Memory does not grow with the number of threads,
+   * so this is the better choice when there are many short-lived threads.
+   */
+  STRIPED,
+
+  /**
+   * Like {@link #STRIPED}, but if the slot of the current thread is empty,
+   * the other slots are searched as well, and an instance that is returned
+   * goes into the next free slot.
+   * Nested use of the same builder takes a second instance from the array,
+   * rather than creating a new one.
+   * Supports {@link Recycle#stats()}.
+   */
+  SHARED
+}
@@ -5,12 +5,30 @@ import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.CONSTRUCTOR;
 import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 
 /**
- * Request builder / updater reuse
+ * Request builder / updater reuse.
  */
 @Retention(SOURCE)
-@Target({METHOD, CONSTRUCTOR})
+@Target({METHOD, CONSTRUCTOR, TYPE})
 public @interface Recycle {
+
+  Pool value() default Pool.THREAD_LOCAL;
+
+  /**
+   * If {@code true}, count the hits and misses of the pool,
+   * and generate a method {@code fooBuilderPoolStats} that returns the counts.
+   * Only for {@link Pool#SHARED}.
+   */
+  boolean stats() default false;
+
+  /**
+   * If {@code true}, a recycled bean builder or updater creates the next bean
+   * as soon as the current one is finished, rather than when it is used again.
+   * Only for {@link BeanBuilder} classes.
+   * Not available if the bean constructor declares any exceptions.
+   */
+  boolean prefetch() default false;
 }
@@ -3,5 +3,21 @@ package net.zerobuilder;
 public enum Style {
 
   AUTO,
-  IMMUTABLE
+  IMMUTABLE,
+
+  /**
+   * Like {@link #IMMUTABLE}, but all steps are implemented by a single mutable object,
+   * which is copied only when a step is invoked more than once.
+   * Steps may be reused, but must not be shared between threads.
+   */
+  FLAT,
+
+  /**
+   * Steps are final classes instead of interfaces, and a step object holds the values of all previous steps.
+   * Step calls are statically bound, so the JIT can inline a whole build,
+   * and escape analysis can then remove the step objects.
+   * Steps may be reused and shared between threads.
+   * Not available for goals with type variables, or with {@link Recycle}.
+   */
+  MONOMORPHIC
 }
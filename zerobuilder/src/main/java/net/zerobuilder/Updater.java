@@ -13,4 +13,20 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
 @Retention(SOURCE)
 @Target({METHOD, CONSTRUCTOR})
 public @interface Updater {
+
+  /**
+   * If {@code true}, the updater keeps a reference to the source object
+   * instead of copying all its properties up front.
+   * Properties that were not updated are read from the source in {@code done()}.
+   * At most 64 parameters are allowed.
+   */
+  boolean lazy() default false;
+
+  /**
+   * If {@code true}, {@code done()} returns the source object itself
+   * if every property holds the value of the source when {@code done()} is invoked,
+   * even if it was changed and set back in between.
+   * Reference types are compared with {@code ==}, primitives by value.
+   */
+  boolean identity() default false;
 }